@@ -3,11 +3,13 @@ package name.alexkrauss.scouts;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @OpenAPIDefinition
 @EnableTransactionManagement
+@EnableScheduling
 public class ScoutsAiExperimentApplication {
 
 	public static void main(String[] args) {
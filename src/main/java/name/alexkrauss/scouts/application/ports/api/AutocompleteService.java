@@ -0,0 +1,38 @@
+package name.alexkrauss.scouts.application.ports.api;
+
+import java.util.List;
+
+/**
+ * Service interface for type-ahead suggestions over scouts, groups and events.
+ * Suggestions are answered from memory and never hit the database.
+ */
+public interface AutocompleteService {
+
+    /**
+     * The kind of entity a suggestion refers to.
+     */
+    enum SuggestionType {
+        SCOUT,
+        GROUP,
+        EVENT
+    }
+
+    /**
+     * A single suggestion.
+     *
+     * @param type the kind of entity the suggestion refers to
+     * @param id the id of the entity
+     * @param label the display name of the entity
+     */
+    record Suggestion(SuggestionType type, long id, String label) {}
+
+    /**
+     * Finds entities whose name contains a word starting with the given prefix.
+     * Matching ignores case and diacritics. Results are ordered by the matched text.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions to return
+     * @return at most {@code limit} suggestions, empty if the prefix is blank
+     */
+    List<Suggestion> suggest(String prefix, int limit);
+}
@@ -0,0 +1,32 @@
+package name.alexkrauss.scouts.application.ports.api;
+
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
+import name.alexkrauss.scouts.domain.model.Registration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Write path for registrations that trades a few milliseconds of latency for throughput.
+ *
+ * Registrations are queued and written in batches, each batch in a single transaction with a single
+ * insert statement. This is meant for bursts like the opening of the registration for a popular event,
+ * where committing every registration on its own would limit the throughput.
+ *
+ * The service is only available if {@code scouts.registrations.batching.enabled} is set.
+ */
+public interface BatchedRegistrationService {
+
+    /**
+     * Queues a registration to be created with the next batch.
+     * The registration is checked like in {@link RegistrationManagementService#createRegistration(Registration)},
+     * and a registration that fails does not affect the others in the same batch.
+     *
+     * @param registration The registration to create.
+     * @return A future that completes with the created registration, or exceptionally with the reason it was
+     *         not created: an {@link IllegalArgumentException} if the scout or event does not exist or the scout
+     *         is already registered, or an {@link EventFullyBookedException} if the event has no free seat.
+     *         If the queue is full, the future fails with a {@link RejectedExecutionException} right away.
+     */
+    CompletableFuture<Registration> submitRegistration(Registration registration);
+}
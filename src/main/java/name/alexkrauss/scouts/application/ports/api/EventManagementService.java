@@ -1,9 +1,14 @@
 package name.alexkrauss.scouts.application.ports.api;
 
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventPage;
+import name.alexkrauss.scouts.domain.model.EventSummary;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service interface for managing events.
@@ -27,6 +32,16 @@ public interface EventManagementService {
      */
     Optional<Event> getEvent(Long id);
 
+    /**
+     * Retrieves everything the detail page of an event shows: the event with its groups, the registration
+     * counts and the names of the confirmed participants.
+     * The page is kept in memory and only assembled again after the event or its registrations change.
+     *
+     * @param id the event id
+     * @return the page if the event exists, empty otherwise
+     */
+    Optional<EventPage> getEventPage(Long id);
+
     /**
      * Retrieves all events.
      * 
@@ -34,11 +49,36 @@ public interface EventManagementService {
      */
     List<Event> getAllEvents();
 
+    /**
+     * Retrieves the events that take place at least partly within a date range.
+     * Use {@link #getEvent(Long)} for the details of a single event.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param fields the fields to load, besides id and version
+     * @return summaries of the events overlapping the range, ordered by start date
+     * @throws IllegalArgumentException if the range ends before it starts
+     */
+    List<EventSummary> getEventsInDateRange(LocalDate from, LocalDate to, Set<EventSummary.Field> fields);
+
+    /**
+     * Retrieves the next events that have not ended yet.
+     *
+     * @param limit the maximum number of events to return
+     * @param fields the fields to load, besides id and version
+     * @return summaries of at most {@code limit} events, ordered by start date
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    List<EventSummary> getUpcomingEvents(int limit, Set<EventSummary.Field> fields);
+
     /**
      * Updates an existing event.
      * 
+     * The version of the given event is the one the client has edited; it is checked by the update itself.
+     *
      * @param event the event with updated information
      * @return the updated event
+     * @throws OptimisticLockingFailureException if the event does not exist in the given version
      */
     Event updateEvent(Event event);
 
@@ -51,30 +91,45 @@ public interface EventManagementService {
 
     /**
      * Assigns a group to an event, making it eligible for participation.
+     * Assigning a group that already participates has no effect.
+     * The assignment does not change the version of the event, so it does not conflict with concurrent edits.
+     * The event is not read back. Callers that need the participating groups use {@link #getEvent(Long)}.
      * 
      * @param eventId the id of the event
      * @param groupId the id of the group to assign
-     * @return the updated event
      * @throws IllegalArgumentException if the event or group does not exist
      */
-    Event assignGroupToEvent(Long eventId, Long groupId);
+    void assignGroupToEvent(Long eventId, Long groupId);
+
+    /**
+     * Assigns several groups to an event at once.
+     * Groups that already participate are skipped. Like a single assignment, this does not change the
+     * version of the event.
+     *
+     * @param eventId the id of the event
+     * @param groupIds the ids of the groups to assign
+     * @throws IllegalArgumentException if the event or one of the groups does not exist. No group is assigned then.
+     */
+    void assignGroupsToEvent(Long eventId, Set<Long> groupIds);
 
     /**
      * Removes a group from an event, making it ineligible for participation.
+     * Like an assignment, this does not change the version of the event.
      * 
      * @param eventId the id of the event
      * @param groupId the id of the group to remove
-     * @return the updated event
      * @throws IllegalArgumentException if the event or group does not exist
      */
-    Event removeGroupFromEvent(Long eventId, Long groupId);
+    void removeGroupFromEvent(Long eventId, Long groupId);
 
     /**
-     * Gets all events that a specific group can participate in.
-     * 
+     * Gets all events that a specific group is assigned to.
+     * As a list, it leaves out the additional information of the events.
+     *
      * @param groupId the id of the group
-     * @return list of events available to the group
+     * @return summaries of the events of the group with all list fields, ordered by start date
+     * @throws IllegalArgumentException if the group does not exist
      */
-    List<Event> getEventsForGroup(Long groupId);
+    List<EventSummary> getEventsForGroup(Long groupId);
 
 }
\ No newline at end of file
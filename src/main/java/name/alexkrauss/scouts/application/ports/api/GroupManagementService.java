@@ -1,6 +1,8 @@
 package name.alexkrauss.scouts.application.ports.api;
 
 import name.alexkrauss.scouts.domain.model.Group;
+import org.springframework.dao.OptimisticLockingFailureException;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -30,10 +32,19 @@ public interface GroupManagementService {
      */
     List<Group> getAllGroups();
 
+    /**
+     * Retrieves several groups by their ids with a single query.
+     * @param ids the group ids
+     * @return the found groups in the order of the ids, without unknown ids
+     */
+    List<Group> getGroupsByIds(List<Long> ids);
+
     /**
      * Updates an existing group.
+     * The version of the given group is the one the client has edited; it is checked by the update itself.
      * @param group the group with updated information
      * @return the updated group
+     * @throws OptimisticLockingFailureException if the group does not exist in the given version
      */
     Group updateGroup(Group group);
 
@@ -42,4 +53,18 @@ public interface GroupManagementService {
      * @param id the id of the group to delete
      */
     void deleteGroup(Long id);
+
+    /**
+     * Retrieves the current version of a group without loading it.
+     * This is cheap enough to answer conditional requests.
+     * @param id the group id
+     * @return the version if the group exists, empty otherwise
+     */
+    Optional<Long> getGroupVersion(Long id);
+
+    /**
+     * Retrieves a fingerprint that changes whenever any group is created, updated or deleted.
+     * @return an opaque fingerprint of all groups
+     */
+    String getGroupsFingerprint();
 }
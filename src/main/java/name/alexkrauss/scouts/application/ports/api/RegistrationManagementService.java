@@ -1,8 +1,14 @@
 package name.alexkrauss.scouts.application.ports.api;
 
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
 import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for managing registrations of scouts to events.
@@ -12,8 +18,12 @@ public interface RegistrationManagementService {
     /**
      * Creates a new registration.
      *
+     * A confirmed registration takes one of the event's seats, if the event has a capacity.
+     * If the event is restricted to some groups, the scout must be a member of at least one of them.
+     *
      * @param registration The registration to create.
      * @return The created registration.
+     * @throws EventFullyBookedException if the registration is confirmed and the event has no free seat.
      */
     Registration createRegistration(Registration registration);
 
@@ -22,14 +32,56 @@ public interface RegistrationManagementService {
      * Note: The scout and event of a registration cannot be changed.
      * To change these, delete the existing registration and create a new one.
      *
+     * The version of the given registration is the one the client has edited. It is checked by the
+     * update itself, so the registration is not read beforehand.
+     *
+     * If the registration is no longer confirmed afterwards, the oldest waitlisted registration
+     * of the event takes the freed seat.
+     *
      * @param registration The registration to update.
      * @return The updated registration.
-     * @throws IllegalArgumentException if the registration doesn't exist or has been modified concurrently.
+     * @throws IllegalArgumentException if the registration doesn't exist or its scout or event would change.
+     * @throws OptimisticLockingFailureException if the registration has been modified concurrently.
+     * @throws EventFullyBookedException if the registration becomes confirmed and the event has no free seat.
      */
     Registration updateRegistration(Registration registration);
 
+    /**
+     * Changes the status of all registrations of an event that are in a given status, for instance to
+     * confirm all pending registrations after the payment deadline.
+     * This is a single update regardless of the number of registrations, and increments the version of
+     * every changed registration. If confirmed registrations are changed, waitlisted ones take the freed seats.
+     *
+     * @param eventId The ID of the event.
+     * @param fromStatus The status of the registrations to change.
+     * @param toStatus The new status.
+     * @return The IDs of the changed registrations.
+     * @throws IllegalArgumentException if the event doesn't exist.
+     * @throws EventFullyBookedException if registrations become confirmed and the event has not enough free seats.
+     *         No registration is changed then.
+     */
+    List<Long> bulkUpdateStatus(Long eventId, RegistrationStatus fromStatus, RegistrationStatus toStatus);
+
+    /**
+     * Changes the status of selected registrations of an event, like
+     * {@link #bulkUpdateStatus(Long, RegistrationStatus, RegistrationStatus)}.
+     * Registrations that belong to another event or are not in the given status are left unchanged.
+     *
+     * @param eventId The ID of the event.
+     * @param registrationIds The IDs of the registrations to change.
+     * @param fromStatus The status of the registrations to change.
+     * @param toStatus The new status.
+     * @return The IDs of the changed registrations.
+     * @throws IllegalArgumentException if the event doesn't exist.
+     * @throws EventFullyBookedException if registrations become confirmed and the event has not enough free seats.
+     *         No registration is changed then.
+     */
+    List<Long> bulkUpdateStatus(Long eventId, Collection<Long> registrationIds,
+                                RegistrationStatus fromStatus, RegistrationStatus toStatus);
+
     /**
      * Deletes a registration.
+     * If the registration was confirmed, the oldest waitlisted registration of the event takes the freed seat.
      *
      * @param registrationId The ID of the registration to delete.
      * @throws IllegalArgumentException if the registration doesn't exist.
@@ -60,4 +112,43 @@ public interface RegistrationManagementService {
      * @return A list of registrations for the scout.
      */
     List<Registration> getRegistrationsByScout(Long scoutId);
-}
\ No newline at end of file
+
+    /**
+     * Gets one page of the registrations an account has created, such as a parent's own registrations.
+     *
+     * @param accountId The account that created the registrations.
+     * @param after The cursor of the last registration of the previous page, or null for the first page.
+     * @param limit The maximum number of registrations to return.
+     * @return Summaries of the registrations, newest first.
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    List<RegistrationSummary> getRegistrationsByAccount(String accountId, RegistrationSummary.Cursor after, int limit);
+
+    /**
+     * Gets the number of registrations of an event per status.
+     * This does not load any registration, so it is cheap regardless of the size of the event.
+     *
+     * @param eventId The ID of the event.
+     * @return The number of registrations for each status. Unknown events have zero registrations.
+     */
+    Map<RegistrationStatus, Long> getRegistrationCounts(Long eventId);
+
+    /**
+     * Gets the scouts that may register for an event, that is all scouts if the event is open to all groups,
+     * and otherwise the members of its participating groups.
+     * The list is served from memory without a query. It may miss changes made by other instances during
+     * the last moments, which is why creating a registration checks eligibility again.
+     *
+     * @param eventId The ID of the event.
+     * @return The IDs of the eligible scouts in ascending order. Unknown events are treated as open to all groups.
+     */
+    List<Long> getEligibleScoutIds(Long eventId);
+
+    /**
+     * Gets the events a scout may register for, served from memory like {@link #getEligibleScoutIds(Long)}.
+     *
+     * @param scoutId The ID of the scout.
+     * @return The IDs of the events in ascending order. Unknown scouts only get the events open to all groups.
+     */
+    List<Long> getEventIdsOpenTo(Long scoutId);
+}
@@ -0,0 +1,44 @@
+package name.alexkrauss.scouts.application.ports.api;
+
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+
+import java.util.List;
+
+/**
+ * Yearly participation statistics for the board.
+ *
+ * The statistics are aggregated by the database, so a report costs one query regardless of the
+ * number of registrations. Events belong to the year in which they start.
+ */
+public interface ReportingService {
+
+    /**
+     * Retrieves the number of confirmed participants of each event of a year per group.
+     *
+     * @param year the year of the events
+     * @return the participation per event and group, ordered by event start date and group name
+     * @throws IllegalArgumentException if the year is outside of 1900 to 9999
+     */
+    List<GroupParticipation> getGroupParticipation(int year);
+
+    /**
+     * Retrieves the share of confirmed registrations of each event of a year.
+     *
+     * @param year the year of the events
+     * @return the confirmation rates, ordered by event start date
+     * @throws IllegalArgumentException if the year is outside of 1900 to 9999
+     */
+    List<ConfirmationRate> getConfirmationRates(int year);
+
+    /**
+     * Retrieves how many events the participants of a year attended, and how many of them
+     * already took part in the year before.
+     *
+     * @param year the year of the events
+     * @return the repeat attendance of the year
+     * @throws IllegalArgumentException if the year is outside of 1900 to 9999
+     */
+    RepeatAttendance getRepeatAttendance(int year);
+}
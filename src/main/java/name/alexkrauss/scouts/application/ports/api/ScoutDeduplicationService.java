@@ -0,0 +1,42 @@
+package name.alexkrauss.scouts.application.ports.api;
+
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+import name.alexkrauss.scouts.domain.model.Scout;
+
+import java.util.List;
+
+/**
+ * Finds and merges scouts that were registered more than once.
+ *
+ * Scouts are only compared within blocks of the same birth date and a phonetic key of the first or last
+ * word of the name, so a run stays far below quadratic effort. Detection runs as a nightly job and keeps
+ * its result as a report, which can be reviewed before merging.
+ */
+public interface ScoutDeduplicationService {
+
+    /**
+     * Runs the detection now and replaces the report.
+     *
+     * @return the candidates, most similar first
+     */
+    List<DuplicateCandidate> detectDuplicates();
+
+    /**
+     * Returns the report of the last detection run, without the scouts merged since.
+     *
+     * @return the candidates, most similar first, or an empty list if detection has not run yet
+     */
+    List<DuplicateCandidate> getDuplicateCandidates();
+
+    /**
+     * Merges a duplicate into the scout to keep.
+     * The registrations and groups of the duplicate are moved to the kept scout, and the duplicate is deleted.
+     * If both are registered for the same event, the registration of the kept scout wins.
+     *
+     * @param scoutId the id of the scout to keep
+     * @param duplicateId the id of the scout to merge and delete
+     * @return the kept scout with the merged groups
+     * @throws IllegalArgumentException if one of the scouts does not exist or both ids are the same
+     */
+    Scout mergeScouts(Long scoutId, Long duplicateId);
+}
@@ -0,0 +1,92 @@
+package name.alexkrauss.scouts.application.ports.api;
+
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for managing scouts.
+ * Provides CRUD operations for the members of the scout organization.
+ */
+public interface ScoutManagementService {
+    /**
+     * Creates a new scout.
+     *
+     * @param scout the scout to create
+     * @return the created scout with assigned id
+     */
+    Scout createScout(Scout scout);
+
+    /**
+     * Retrieves a scout by its id.
+     *
+     * @param id the scout id
+     * @return the scout if found, empty otherwise
+     */
+    Optional<Scout> getScout(Long id);
+
+    /**
+     * Retrieves all scouts.
+     *
+     * @return list of all scouts
+     */
+    List<Scout> getAllScouts();
+
+    /**
+     * Retrieves the members of a group.
+     *
+     * @param groupId the id of the group
+     * @return the scouts in the group, ordered by name
+     * @throws IllegalArgumentException if the group does not exist
+     */
+    List<Scout> getScoutsOfGroup(Long groupId);
+
+    /**
+     * Retrieves the roster of a group, i.e. summaries of its members.
+     * This is cheaper than {@link #getScoutsOfGroup(Long)} and is meant for lists.
+     *
+     * @param groupId the id of the group
+     * @return summaries of the scouts in the group, ordered by name
+     * @throws IllegalArgumentException if the group does not exist
+     */
+    List<ScoutSummary> getGroupRoster(Long groupId);
+
+    /**
+     * Retrieves the scouts that have a contact with the given email address, such as the children of a
+     * parent who has logged in. Case and surrounding whitespace of the address do not matter.
+     *
+     * @param email the email address of the contact
+     * @return the scouts, ordered by name
+     */
+    List<Scout> getScoutsByContactEmail(String email);
+
+    /**
+     * Retrieves the scouts that have a contact with the given phone number.
+     * Only digits and plus signs of the phone number are compared.
+     *
+     * @param phoneNumber the phone number of the contact
+     * @return the scouts, ordered by name
+     */
+    List<Scout> getScoutsByContactPhone(String phoneNumber);
+
+    /**
+     * Updates an existing scout.
+     *
+     * The version of the given scout is the one the client has edited; it is checked by the update itself.
+     *
+     * @param scout the scout with updated information
+     * @return the updated scout
+     * @throws OptimisticLockingFailureException if the scout does not exist in the given version
+     */
+    Scout updateScout(Scout scout);
+
+    /**
+     * Deletes a scout by its id.
+     *
+     * @param id the id of the scout to delete
+     */
+    void deleteScout(Long id);
+}
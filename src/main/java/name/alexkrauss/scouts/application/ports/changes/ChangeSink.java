@@ -0,0 +1,20 @@
+package name.alexkrauss.scouts.application.ports.changes;
+
+import java.util.List;
+
+/**
+ * Receives the entity changes relayed from the outbox.
+ *
+ * Delivery is at least once: if a sink fails, the whole batch is delivered again to all sinks.
+ * Sinks can use {@link EntityChange#sequence()} to recognize changes they have already seen.
+ */
+public interface ChangeSink {
+
+    /**
+     * Delivers a batch of changes.
+     *
+     * @param changes the changes, ordered by their sequence
+     * @throws RuntimeException if the batch could not be delivered and should be retried later
+     */
+    void deliver(List<EntityChange> changes);
+}
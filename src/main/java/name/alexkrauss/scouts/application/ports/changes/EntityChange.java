@@ -0,0 +1,45 @@
+package name.alexkrauss.scouts.application.ports.changes;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * A change of a single entity, as recorded in the outbox.
+ * Only the identity of the changed entity is recorded. Consumers that need the data read it themselves.
+ *
+ * @param sequence Position of the change in the outbox. Increases with the order of the writes, and
+ *                 identifies a change when it is delivered more than once.
+ * @param entityType The kind of entity that changed
+ * @param entityId The id of the entity that changed
+ * @param version The version of the entity after the change, empty if it was deleted
+ * @param changeType Whether the entity was created, updated or deleted
+ * @param occurredAt The start time of the transaction that made the change
+ */
+public record EntityChange(
+        long sequence,
+        EntityType entityType,
+        long entityId,
+        Optional<Long> version,
+        ChangeType changeType,
+        Instant occurredAt
+) {
+
+    /**
+     * The kinds of entities whose changes are recorded.
+     */
+    public enum EntityType {
+        SCOUT,
+        GROUP,
+        EVENT,
+        REGISTRATION
+    }
+
+    /**
+     * The kinds of changes.
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,23 @@
+package name.alexkrauss.scouts.application.ports.changes;
+
+/**
+ * Keeps in-memory data current with the writes of all application instances.
+ *
+ * Listeners are notified shortly after a change has been committed, including changes made by this
+ * instance. If changes may have been missed, for instance after the connection to the database was
+ * lost, listeners are told to discard everything they hold.
+ */
+public interface EntityChangeListener {
+
+    /**
+     * Called for every committed change.
+     *
+     * @param change the change
+     */
+    void changed(EntityChange change);
+
+    /**
+     * Called when changes may have been missed. The listener must not trust any data it holds.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,28 @@
+package name.alexkrauss.scouts.application.ports.persistence;
+
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+
+import java.util.List;
+
+/**
+ * Repository for the latest report of probable duplicate scouts.
+ * Candidates are removed together with either of their scouts.
+ */
+public interface DuplicateCandidateRepository {
+
+    /**
+     * Replaces the report with the given candidates.
+     * Only the ids of the scouts of the candidates are stored, their names are read again when the report
+     * is read.
+     *
+     * @param candidates the candidates of the new report, each pair at most once
+     */
+    void replaceAll(List<DuplicateCandidate> candidates);
+
+    /**
+     * Finds the candidates of the latest report whose scouts both still exist.
+     *
+     * @return the candidates, the most similar pair first, then by the ids of the scouts
+     */
+    List<DuplicateCandidate> findAll();
+}
@@ -1,10 +1,14 @@
 package name.alexkrauss.scouts.application.ports.persistence;
 
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
 import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for managing events in the persistence layer.
@@ -28,6 +32,38 @@ public interface EventRepository {
      */
     Event update(Event event);
 
+    /**
+     * Adds a group to the participating groups of an event.
+     * Only the association is written. The event itself and its version stay untouched, so this does not
+     * conflict with concurrent edits of the event.
+     *
+     * @param eventId the id of the event
+     * @param groupId the id of the group
+     * @return true if the group was added, false if it already participated or the event or group does not exist
+     */
+    boolean addGroup(long eventId, long groupId);
+
+    /**
+     * Adds several groups to the participating groups of an event with a single statement.
+     * Like {@link #addGroup(long, long)}, only the associations are written.
+     *
+     * @param eventId the id of the event
+     * @param groupIds the ids of the groups
+     * @return the number of groups that were added. Groups that already participated or do not exist
+     *         are not counted.
+     */
+    int addGroups(long eventId, Collection<Long> groupIds);
+
+    /**
+     * Removes a group from the participating groups of an event.
+     * Only the association is deleted. The event itself and its version stay untouched.
+     *
+     * @param eventId the id of the event
+     * @param groupId the id of the group
+     * @return true if the group was removed, false if it did not participate
+     */
+    boolean removeGroup(long eventId, long groupId);
+
     /**
      * Deletes an event by its id.
      *
@@ -43,6 +79,16 @@ public interface EventRepository {
      */
     Optional<Event> findById(long id);
 
+    /**
+     * Finds several events by their ids with a single query.
+     * The result follows the order of the requested ids. Missing ids are skipped
+     * and duplicate ids yield the event only once.
+     *
+     * @param ids the ids of the events to find
+     * @return the found events in request order
+     */
+    List<Event> findAllByIds(Collection<Long> ids);
+
     /**
      * Returns all events.
      *
@@ -51,12 +97,42 @@ public interface EventRepository {
     List<Event> findAll();
 
     /**
-     * Finds all events that a specific group can participate in.
-     * This includes events where the group is explicitly assigned, 
-     * as well as events with no group restrictions.
+     * Returns all events, reading only the requested list fields.
+     * As a list query, it does not load the additional information of the events.
+     *
+     * @param fields the fields to load, besides id and version
+     * @return summaries of all events, ordered by start date
+     */
+    List<EventSummary> findAllSummaries(Set<EventSummary.Field> fields);
+
+    /**
+     * Finds all events that take place at least partly within a date range.
+     * As a list query, it does not load the additional information of the events.
+     *
+     * @param from the first day of the range
+     * @param to the last day of the range
+     * @param fields the fields to load, besides id and version
+     * @return summaries of the events overlapping the range, ordered by start date
+     */
+    List<EventSummary> findByDateRange(LocalDate from, LocalDate to, Set<EventSummary.Field> fields);
+
+    /**
+     * Finds the next events that have not ended yet, including events that are taking place today.
+     * As a list query, it does not load the additional information of the events.
+     *
+     * @param limit the maximum number of events to return
+     * @param fields the fields to load, besides id and version
+     * @return summaries of at most {@code limit} events, ordered by start date
+     */
+    List<EventSummary> findUpcoming(int limit, Set<EventSummary.Field> fields);
+
+    /**
+     * Finds all events that a specific group is explicitly assigned to.
+     * As a list query, it does not load the additional information of the events.
      *
      * @param groupId the id of the group
-     * @return list of events available to the group
+     * @param fields the fields to load, besides id and version
+     * @return summaries of the events of the group, ordered by start date
      */
-    List<Event> findEventsByGroupId(long groupId);
+    List<EventSummary> findEventsByGroupId(long groupId, Set<EventSummary.Field> fields);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package name.alexkrauss.scouts.application.ports.persistence;
 
 import name.alexkrauss.scouts.domain.model.Group;
 import org.springframework.dao.OptimisticLockingFailureException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,10 +43,36 @@ public interface GroupRepository {
      */
     Optional<Group> findById(long id);
 
+    /**
+     * Finds several groups by their ids with a single query.
+     * The result follows the order of the requested ids. Missing ids are skipped
+     * and duplicate ids yield the group only once.
+     *
+     * @param ids the ids of the groups to find
+     * @return the found groups in request order
+     */
+    List<Group> findAllByIds(Collection<Long> ids);
+
     /**
      * Returns all groups.
      *
      * @return list of all groups
      */
     List<Group> findAll();
+
+    /**
+     * Finds the current version of a group without loading the group itself.
+     *
+     * @param id the id of the group
+     * @return the version if the group exists, empty optional otherwise
+     */
+    Optional<Long> findVersionById(long id);
+
+    /**
+     * Computes a fingerprint over the ids and versions of all groups.
+     * The fingerprint changes whenever a group is created, updated or deleted.
+     *
+     * @return an opaque fingerprint of the current set of groups
+     */
+    String versionFingerprint();
 }
@@ -0,0 +1,36 @@
+package name.alexkrauss.scouts.application.ports.persistence;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository for the outbox of entity changes.
+ * Changes are appended by the other repositories as part of their writes. This repository only
+ * hands them out to the relay.
+ */
+public interface OutboxRepository {
+
+    /**
+     * Removes the oldest changes from the outbox and passes them to the given handler, in one transaction.
+     * If the handler throws, the changes stay in the outbox. Changes that are being relayed by a concurrent
+     * call are skipped.
+     *
+     * @param limit the maximum number of changes to relay
+     * @param handler receives the changes, ordered by their sequence. It is not called if the outbox is empty.
+     * @return the number of changes passed to the handler
+     */
+    int relay(int limit, Consumer<List<EntityChange>> handler);
+
+    /**
+     * Removes the oldest changes that were recorded before the given time, without handing them out.
+     * Changes that are being relayed by a concurrent call are skipped.
+     *
+     * @param before the time before which changes are removed
+     * @param limit the maximum number of changes to remove
+     * @return the number of removed changes
+     */
+    int prune(Instant before, int limit);
+}
@@ -1,9 +1,16 @@
 package name.alexkrauss.scouts.application.ports.persistence;
 
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
 import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationRejection;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
+import name.alexkrauss.scouts.domain.model.RegistrationUpdate;
 import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,20 +20,80 @@ public interface RegistrationRepository {
 
     /**
      * Creates a new registration record.
+     * A confirmed registration takes a seat of the event, which is allocated atomically with the insert.
      *
      * @param registration the registration to create
      * @return the created registration with id set
+     * @throws EventFullyBookedException if the registration is confirmed and the event has no free seat
      */
     Registration create(Registration registration);
 
+    /**
+     * Creates several registrations with a single multi-row insert, in one transaction.
+     * Either all registrations are created or none.
+     *
+     * @param registrations the registrations to create, at most one per scout and event
+     * @return the created registrations with ids set, in the order of the input
+     * @throws IllegalArgumentException if the same scout is registered for the same event twice
+     * @throws EventFullyBookedException if a confirmed registration does not fit into its event.
+     *         The exception names the event that is full.
+     */
+    List<Registration> createAll(List<Registration> registrations);
+
+    /**
+     * Checks whether registrations can be created, with a single query for all of them.
+     * A registration is rejected if its scout or event does not exist, if the scout is not a member of any
+     * group participating in the event, or if the scout is already registered for the event.
+     * The result reflects the committed state seen by the current transaction.
+     *
+     * @param registrations the registrations to check
+     * @return the reason for each registration that cannot be created, in the order of the input.
+     *         Empty for registrations that can be created.
+     */
+    List<Optional<RegistrationRejection>> check(List<Registration> registrations);
+
     /**
      * Updates an existing registration record.
+     * The scout and event of a registration are never changed. They are checked together with the version,
+     * in the same statement. A seat freed by the update is not handed to the waitlist, this is left to the
+     * caller, see {@link #promoteFromWaitlist(long, int)}.
      *
      * @param registration the registration to update
-     * @return the updated registration
-     * @throws OptimisticLockingFailureException if the version number has changed
+     * @return the updated registration together with its previous status
+     * @throws OptimisticLockingFailureException if the version number has changed, the registration does not
+     *         exist, or the scout or event differ from the stored ones
+     * @throws EventFullyBookedException if the registration becomes confirmed and the event has no free seat
+     */
+    RegistrationUpdate update(Registration registration);
+
+    /**
+     * Moves all registrations of an event from one status to another with a single update.
+     * The version of every changed registration is incremented. Registrations moved to the waitlist
+     * queue up behind those already waiting.
+     *
+     * @param eventId the id of the event
+     * @param fromStatus the status of the registrations to change
+     * @param toStatus the new status
+     * @return the ids of the changed registrations
+     * @throws EventFullyBookedException if registrations are confirmed and the event has not enough free seats.
+     *         No registration is changed then.
+     */
+    List<Long> updateStatus(long eventId, RegistrationStatus fromStatus, RegistrationStatus toStatus);
+
+    /**
+     * Moves the given registrations of an event from one status to another with a single update.
+     * Registrations that belong to another event or are in another status are left unchanged.
+     * Otherwise this behaves like {@link #updateStatus(long, RegistrationStatus, RegistrationStatus)}.
+     *
+     * @param eventId the id of the event
+     * @param ids the ids of the registrations to change
+     * @param fromStatus the status of the registrations to change
+     * @param toStatus the new status
+     * @return the ids of the changed registrations
+     * @throws EventFullyBookedException if registrations are confirmed and the event has not enough free seats.
+     *         No registration is changed then.
      */
-    Registration update(Registration registration);
+    List<Long> updateStatus(long eventId, Collection<Long> ids, RegistrationStatus fromStatus, RegistrationStatus toStatus);
 
     /**
      * Deletes a registration by its id.
@@ -43,6 +110,24 @@ public interface RegistrationRepository {
      */
     Optional<Registration> findById(long id);
 
+    /**
+     * Finds the event of a registration, without loading the registration.
+     *
+     * @param id the id of the registration
+     * @return the id of its event, or empty if the registration does not exist
+     */
+    Optional<Long> findEventIdById(long id);
+
+    /**
+     * Finds several registrations by their ids with a single query.
+     * The result follows the order of the requested ids. Missing ids are skipped
+     * and duplicate ids yield the registration only once.
+     *
+     * @param ids the ids of the registrations to find
+     * @return the found registrations in request order
+     */
+    List<Registration> findAllByIds(Collection<Long> ids);
+
     /**
      * Finds all registrations for a specific event.
      *
@@ -58,6 +143,18 @@ public interface RegistrationRepository {
      * @return list of registrations for the scout
      */
     List<Registration> findByScoutId(long scoutId);
+
+    /**
+     * Finds one page of the registrations created by an account, newest first, reading only the fields of
+     * the summary. Pages are continued with a cursor instead of an offset, so every page is a single range
+     * scan of the account index, no matter how far back it is.
+     *
+     * @param accountId the account that created the registrations
+     * @param after the position of the last registration of the previous page, or null for the first page
+     * @param limit the maximum number of registrations to return
+     * @return summaries of the registrations, ordered by registration date and id, newest first
+     */
+    List<RegistrationSummary> findByAccountId(String accountId, RegistrationSummary.Cursor after, int limit);
     
     /**
      * Checks if a scout is already registered for a specific event.
@@ -68,4 +165,23 @@ public interface RegistrationRepository {
      */
     boolean existsByEventIdAndScoutId(long eventId, long scoutId);
 
-}
\ No newline at end of file
+    /**
+     * Counts the registrations of an event per status.
+     * The counts are maintained incrementally, so this does not depend on the number of registrations.
+     *
+     * @param eventId the id of the event
+     * @return the number of registrations for each status, zero for statuses without registrations
+     */
+    Map<RegistrationStatus, Long> countByEventId(long eventId);
+
+    /**
+     * Confirms registrations from the head of an event's waitlist with a single statement, as many as
+     * requested and as the event has free seats.
+     * Waitlist entries that are locked by concurrent transactions are skipped.
+     *
+     * @param eventId the id of the event
+     * @param seats the number of freed seats to hand to the waitlist
+     * @return the ids of the promoted registrations, empty if there was no free seat or nobody waiting
+     */
+    List<Long> promoteFromWaitlist(long eventId, int seats);
+}
@@ -0,0 +1,46 @@
+package name.alexkrauss.scouts.application.ports.persistence;
+
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the aggregated statistics over events and registrations.
+ * The aggregation is done by the persistence layer, so no registration is loaded.
+ * Events are selected by their start date, from the first date inclusive to the last date exclusive.
+ */
+public interface ReportRepository {
+
+    /**
+     * Counts the confirmed participants of each event per group of the participants.
+     *
+     * @param from The first start date of the events, inclusive
+     * @param to The last start date of the events, exclusive
+     * @return The participation of the groups, ordered by event start date and group name
+     */
+    List<GroupParticipation> findGroupParticipation(LocalDate from, LocalDate to);
+
+    /**
+     * Counts the registrations of each event by status.
+     * Events without registrations are included with zero counts.
+     *
+     * @param from The first start date of the events, inclusive
+     * @param to The last start date of the events, exclusive
+     * @return The confirmation rates, ordered by event start date
+     */
+    List<ConfirmationRate> findConfirmationRates(LocalDate from, LocalDate to);
+
+    /**
+     * Counts the scouts by the number of events they attended with a confirmed registration, and how many
+     * of them also attended an event of the preceding period.
+     *
+     * @param previousFrom The first start date of the events of the preceding period, inclusive
+     * @param from The first start date of the events, inclusive, and the end of the preceding period
+     * @param to The last start date of the events, exclusive
+     * @return The frequencies of attended events, ordered by the number of events
+     */
+    List<RepeatAttendance.Frequency> findAttendanceFrequencies(LocalDate previousFrom, LocalDate from, LocalDate to);
+}
@@ -1,11 +1,15 @@
 package name.alexkrauss.scouts.application.ports.persistence;
 
 import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing Scout entities in the persistence layer.
@@ -36,6 +40,20 @@ public interface ScoutRepository {
      */
     void delete(Long id);
 
+    /**
+     * Merges a duplicate into another scout with a few set-based statements.
+     * The registrations of the duplicate are moved to the kept scout, except for events the kept scout is
+     * already registered for, and the kept scout joins the groups of the duplicate. The remaining
+     * registrations of the duplicate are deleted, and then the duplicate itself. Seats held by the deleted
+     * registrations are not handed to the waitlist, this is left to the caller.
+     *
+     * @param scoutId The ID of the scout to keep
+     * @param duplicateId The ID of the scout to merge and delete
+     * @return The IDs of the moved registrations
+     * @throws OptimisticLockingFailureException if the scout to keep no longer exists
+     */
+    List<Long> merge(long scoutId, long duplicateId) throws OptimisticLockingFailureException;
+
     /**
      * Finds a scout by its ID.
      *
@@ -44,6 +62,16 @@ public interface ScoutRepository {
      */
     Optional<Scout> findById(Long id);
 
+    /**
+     * Finds several scouts by their ids with a single query.
+     * The result follows the order of the requested ids. Missing ids are skipped
+     * and duplicate ids yield the scout only once.
+     *
+     * @param ids the ids of the scouts to find
+     * @return the found scouts in request order
+     */
+    List<Scout> findAllByIds(Collection<Long> ids);
+
     /**
      * Retrieves all scouts.
      *
@@ -58,4 +86,54 @@ public interface ScoutRepository {
      * @return List of scouts with matching name
      */
     List<Scout> findByName(String name);
+
+    /**
+     * Finds the scouts that have a contact with the given email address, with one indexed query.
+     * Addresses are compared after {@link name.alexkrauss.scouts.domain.model.Contact#normalizeEmail normalization}.
+     *
+     * @param email The email address of the contact
+     * @return The scouts with all their groups and contacts, ordered by name
+     */
+    List<Scout> findByContactEmail(String email);
+
+    /**
+     * Finds the scouts that have a contact with the given phone number, with one indexed query.
+     * Phone numbers are compared after
+     * {@link name.alexkrauss.scouts.domain.model.Contact#normalizePhoneNumber normalization}.
+     *
+     * @param phoneNumber The phone number of the contact
+     * @return The scouts with all their groups and contacts, ordered by name
+     */
+    List<Scout> findByContactPhone(String phoneNumber);
+
+    /**
+     * Finds the members of a group.
+     *
+     * @param groupId The ID of the group
+     * @return The scouts in the group with all their groups, ordered by name
+     */
+    List<Scout> findByGroupId(long groupId);
+
+    /**
+     * Finds the members of a group, reading only the fields of the summary.
+     *
+     * @param groupId The ID of the group
+     * @return Summaries of the scouts in the group, ordered by name
+     */
+    List<ScoutSummary> findSummariesByGroupId(long groupId);
+
+    /**
+     * Finds all scouts, reading only the fields of the summary.
+     * Contacts, groups and the unbounded health information are not loaded.
+     *
+     * @return Summaries of all scouts, ordered by name
+     */
+    List<ScoutSummary> findAllSummaries();
+
+    /**
+     * Reads the group memberships of all scouts, without loading the scouts themselves.
+     *
+     * @return The ids of the groups of each scout by scout ID. Scouts without groups have an empty set.
+     */
+    Map<Long, Set<Long>> findAllGroupIds();
 }
@@ -0,0 +1,299 @@
+package name.alexkrauss.scouts.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChangeListener;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory autocomplete index over the names of scouts, groups and events.
+ *
+ * Every name is stored once per word, as the normalized suffix of the name starting at that word,
+ * in a sorted concurrent skip list. A prefix query is a single seek followed by a short forward scan,
+ * and reads never take a lock. The index is built from the repositories when the application is ready
+ * and is kept current by the management services, which apply changes after their transaction commits.
+ * Changes made by other application instances arrive as entity change notifications.
+ */
+@Component
+public class AutocompleteIndex implements AutocompleteService, EntityChangeListener, MeterBinder {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Rough heap overhead per indexed suffix: key records, skip list node, index levels and the
+     * suffix string header. Compact strings add one byte per Latin-1 character on top.
+     */
+    private static final long ENTRY_OVERHEAD_BYTES = 136;
+
+    /**
+     * Rough heap overhead per entity: the suggestion record, its label string header, the key list
+     * and the hash map node.
+     */
+    private static final long ENTITY_OVERHEAD_BYTES = 152;
+
+    private final ConcurrentSkipListMap<IndexKey, Suggestion> entries = new ConcurrentSkipListMap<>();
+    private final Map<EntityKey, IndexedEntity> indexedEntities = new ConcurrentHashMap<>();
+    private final AtomicLong entryCount = new AtomicLong();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    private final ScoutRepository scoutRepository;
+    private final GroupRepository groupRepository;
+    private final EventRepository eventRepository;
+
+    public AutocompleteIndex(ScoutRepository scoutRepository,
+                             GroupRepository groupRepository,
+                             EventRepository eventRepository) {
+        this.scoutRepository = scoutRepository;
+        this.groupRepository = groupRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Discards the index and loads it again from the repositories.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        indexedEntities.keySet().forEach(this::remove);
+        scoutRepository.findAllSummaries().forEach(this::put);
+        groupRepository.findAll().forEach(this::put);
+        eventRepository.findAllSummaries(EnumSet.of(EventSummary.Field.NAME)).forEach(this::put);
+    }
+
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        ConcurrentNavigableMap<IndexKey, Suggestion> candidates =
+                entries.tailMap(IndexKey.lowest(normalizedPrefix), true);
+
+        Map<EntityKey, Suggestion> result = new LinkedHashMap<>();
+        for (var entry : candidates.entrySet()) {
+            if (!entry.getKey().text().startsWith(normalizedPrefix) || result.size() >= limit) {
+                break;
+            }
+            result.putIfAbsent(entry.getKey().entity(), entry.getValue());
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * Adds or replaces a scout once the current transaction has committed.
+     *
+     * @param scout the created or updated scout
+     */
+    public void scoutChanged(Scout scout) {
+        AfterCommit.run(() -> put(scout));
+    }
+
+    /**
+     * Adds or replaces a group once the current transaction has committed.
+     *
+     * @param group the created or updated group
+     */
+    public void groupChanged(Group group) {
+        AfterCommit.run(() -> put(group));
+    }
+
+    /**
+     * Adds or replaces an event once the current transaction has committed.
+     *
+     * @param event the created or updated event
+     */
+    public void eventChanged(Event event) {
+        AfterCommit.run(() -> put(event));
+    }
+
+    /**
+     * Removes an entity once the current transaction has committed.
+     *
+     * @param type the kind of entity
+     * @param id the id of the deleted entity
+     */
+    public void entityDeleted(SuggestionType type, long id) {
+        AfterCommit.run(() -> remove(new EntityKey(type, id)));
+    }
+
+    /**
+     * Reloads the changed entity from its repository. The notification may be older than the
+     * state already applied by the local services, so its content is not used.
+     */
+    @Override
+    public void changed(EntityChange change) {
+        long id = change.entityId();
+        switch (change.entityType()) {
+            case SCOUT -> scoutRepository.findById(id).ifPresentOrElse(this::put,
+                    () -> remove(new EntityKey(SuggestionType.SCOUT, id)));
+            case GROUP -> groupRepository.findById(id).ifPresentOrElse(this::put,
+                    () -> remove(new EntityKey(SuggestionType.GROUP, id)));
+            case EVENT -> eventRepository.findById(id).ifPresentOrElse(this::put,
+                    () -> remove(new EntityKey(SuggestionType.EVENT, id)));
+            case REGISTRATION -> {
+                // registrations are not indexed
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        rebuild();
+    }
+
+    /**
+     * Estimated heap retained by the index, in bytes.
+     *
+     * @return the estimated footprint
+     */
+    public long estimatedMemoryBytes() {
+        return estimatedBytes.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scouts.autocomplete.memory", estimatedBytes, AtomicLong::get)
+                .description("Estimated heap retained by the autocomplete index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("scouts.autocomplete.entries", entryCount, AtomicLong::get)
+                .description("Number of indexed name suffixes")
+                .register(registry);
+    }
+
+    private void put(Scout scout) {
+        put(new Suggestion(SuggestionType.SCOUT, scout.getId(), scout.getName()));
+    }
+
+    private void put(ScoutSummary scout) {
+        put(new Suggestion(SuggestionType.SCOUT, scout.id(), scout.name()));
+    }
+
+    private void put(Group group) {
+        put(new Suggestion(SuggestionType.GROUP, group.getId(), group.getName()));
+    }
+
+    private void put(Event event) {
+        put(new Suggestion(SuggestionType.EVENT, event.getId(), event.getName()));
+    }
+
+    private void put(EventSummary event) {
+        put(new Suggestion(SuggestionType.EVENT, event.id(), event.name()));
+    }
+
+    private void put(Suggestion suggestion) {
+        EntityKey entity = new EntityKey(suggestion.type(), suggestion.id());
+        indexedEntities.compute(entity, (key, previous) -> {
+            if (previous != null) {
+                discard(previous);
+            }
+            List<IndexKey> keys = suffixes(normalize(suggestion.label())).stream()
+                    .map(text -> new IndexKey(text, entity))
+                    .toList();
+            keys.forEach(indexKey -> addEntry(indexKey, suggestion));
+            estimatedBytes.addAndGet(ENTITY_OVERHEAD_BYTES + suggestion.label().length());
+            return new IndexedEntity(suggestion, keys);
+        });
+    }
+
+    private void remove(EntityKey entity) {
+        indexedEntities.computeIfPresent(entity, (key, previous) -> {
+            discard(previous);
+            return null;
+        });
+    }
+
+    private void discard(IndexedEntity indexed) {
+        indexed.keys().forEach(this::removeEntry);
+        estimatedBytes.addAndGet(-ENTITY_OVERHEAD_BYTES - indexed.suggestion().label().length());
+    }
+
+    private void addEntry(IndexKey key, Suggestion suggestion) {
+        if (entries.put(key, suggestion) == null) {
+            entryCount.incrementAndGet();
+            estimatedBytes.addAndGet(ENTRY_OVERHEAD_BYTES + key.text().length());
+        }
+    }
+
+    private void removeEntry(IndexKey key) {
+        if (entries.remove(key) != null) {
+            entryCount.decrementAndGet();
+            estimatedBytes.addAndGet(-ENTRY_OVERHEAD_BYTES - key.text().length());
+        }
+    }
+
+    /**
+     * Lowercases the text, strips diacritics and collapses everything that is not a letter or digit
+     * into single spaces.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String plain = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WORD_SEPARATOR.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private static List<String> suffixes(String normalizedText) {
+        List<String> result = new ArrayList<>();
+        if (normalizedText.isEmpty()) {
+            return result;
+        }
+        result.add(normalizedText);
+        for (int i = normalizedText.indexOf(' '); i >= 0; i = normalizedText.indexOf(' ', i + 1)) {
+            result.add(normalizedText.substring(i + 1));
+        }
+        return result;
+    }
+
+    private record EntityKey(SuggestionType type, long id) {}
+
+    private record IndexedEntity(Suggestion suggestion, List<IndexKey> keys) {}
+
+    private record IndexKey(String text, EntityKey entity) implements Comparable<IndexKey> {
+
+        private static final Comparator<IndexKey> ORDER = Comparator
+                .comparing(IndexKey::text)
+                .thenComparing(key -> key.entity().type())
+                .thenComparingLong(key -> key.entity().id());
+
+        static IndexKey lowest(String text) {
+            return new IndexKey(text, new EntityKey(SuggestionType.values()[0], Long.MIN_VALUE));
+        }
+
+        @Override
+        public int compareTo(IndexKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChangeListener;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Contact;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Optional cache of the scouts per normalized contact email address, for the dashboard a parent sees
+ * after logging in.
+ *
+ * An entry is dropped when one of its scouts changes, when a scout gains the address as a contact, and
+ * when one of the groups of its scouts changes. Like the event pages, an entry is only cached if nothing
+ * was dropped while it was loaded, and drops of local writes wait for the commit. Renamed groups and the
+ * writes of other application instances arrive as entity change notifications.
+ *
+ * Without {@code scouts.contact-lookup.cache.enabled}, every lookup is a query.
+ */
+@Component
+public class ContactLookupCache implements EntityChangeListener {
+
+    private final Map<String, List<Scout>> scoutsByEmail = new ConcurrentHashMap<>();
+
+    /** Advanced by every drop, guarded by {@code this}. */
+    private long generation;
+
+    private final ScoutRepository scoutRepository;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    public ContactLookupCache(ScoutRepository scoutRepository,
+                              @Value("${scouts.contact-lookup.cache.enabled:false}") boolean enabled,
+                              @Value("${scouts.contact-lookup.cache.max-entries:10000}") int maxEntries) {
+        this.scoutRepository = scoutRepository;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the scouts that have a contact with the given email address.
+     *
+     * @param email the email address, normalized before the lookup
+     * @return the scouts, ordered by name
+     */
+    public List<Scout> findByContactEmail(String email) {
+        String normalized = Contact.normalizeEmail(email);
+        if (!enabled) {
+            return scoutRepository.findByContactEmail(normalized);
+        }
+        List<Scout> cached = scoutsByEmail.get(normalized);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = currentGeneration();
+        List<Scout> loaded = scoutRepository.findByContactEmail(normalized);
+        synchronized (this) {
+            // Beyond the limit, addresses are looked up without being cached until entries are dropped
+            if (generation == startGeneration && scoutsByEmail.size() < maxEntries) {
+                scoutsByEmail.putIfAbsent(normalized, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the entries affected by a created or updated scout once the current transaction has committed.
+     *
+     * @param scout the scout as written
+     */
+    public void scoutChanged(Scout scout) {
+        Set<String> emails = emailsOf(scout);
+        AfterCommit.run(() -> removeWhere(emails, containsScout(scout.getId())));
+    }
+
+    /**
+     * Drops the entries containing a deleted scout once the current transaction has committed.
+     *
+     * @param scoutId the id of the deleted scout
+     */
+    public void scoutDeleted(long scoutId) {
+        AfterCommit.run(() -> removeWhere(Set.of(), containsScout(scoutId)));
+    }
+
+    @Override
+    public void changed(EntityChange change) {
+        if (!enabled) {
+            return;
+        }
+        long id = change.entityId();
+        switch (change.entityType()) {
+            case SCOUT -> {
+                // The scout may have gained an address, so its current contacts have to be looked up
+                Set<String> emails = scoutsByEmail.isEmpty()
+                        ? Set.of()
+                        : scoutRepository.findById(id).map(ContactLookupCache::emailsOf).orElse(Set.of());
+                removeWhere(emails, containsScout(id));
+            }
+            case GROUP -> removeWhere(Set.of(), scouts -> scouts.stream()
+                    .anyMatch(scout -> scout.getGroups().stream().anyMatch(group -> group.getId() == id)));
+            case EVENT, REGISTRATION -> {
+                // not part of the cached scouts
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        generation++;
+        scoutsByEmail.clear();
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    /**
+     * Drops the entries of the given addresses and all entries matching a condition.
+     */
+    private synchronized void removeWhere(Set<String> emails, Predicate<List<Scout>> affected) {
+        generation++;
+        emails.forEach(scoutsByEmail::remove);
+        scoutsByEmail.values().removeIf(affected);
+    }
+
+    private static Predicate<List<Scout>> containsScout(long scoutId) {
+        return scouts -> scouts.stream().anyMatch(scout -> scout.getId() == scoutId);
+    }
+
+    private static Set<String> emailsOf(Scout scout) {
+        return scout.getContacts().stream()
+                .map(contact -> Contact.normalizeEmail(contact.email()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -1,14 +1,19 @@
 package name.alexkrauss.scouts.application.service;
 
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.SuggestionType;
 import name.alexkrauss.scouts.application.ports.api.EventManagementService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
 import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.domain.model.Event;
-import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.EventPage;
+import name.alexkrauss.scouts.domain.model.EventSummary;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -23,21 +28,35 @@ public class EventManagementServiceImpl implements EventManagementService {
 
     private final EventRepository eventRepository;
     private final GroupRepository groupRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final MembershipGraph membershipGraph;
+    private final EventPageCache eventPageCache;
 
     /**
      * Constructs a new EventManagementServiceImpl with the required repositories.
      *
      * @param eventRepository the repository for managing events
      * @param groupRepository the repository for managing groups
+     * @param autocompleteIndex the index that is kept current on writes
+     * @param membershipGraph the group participations that are kept current on writes
+     * @param eventPageCache the event pages that are dropped on writes
      */
-    public EventManagementServiceImpl(EventRepository eventRepository, GroupRepository groupRepository) {
+    public EventManagementServiceImpl(EventRepository eventRepository, GroupRepository groupRepository,
+                                      AutocompleteIndex autocompleteIndex, MembershipGraph membershipGraph,
+                                      EventPageCache eventPageCache) {
         this.eventRepository = eventRepository;
         this.groupRepository = groupRepository;
+        this.autocompleteIndex = autocompleteIndex;
+        this.membershipGraph = membershipGraph;
+        this.eventPageCache = eventPageCache;
     }
 
     @Override
     public Event createEvent(Event event) {
-        return eventRepository.create(event);
+        Event createdEvent = eventRepository.create(event);
+        autocompleteIndex.eventChanged(createdEvent);
+        membershipGraph.eventChanged(createdEvent);
+        return createdEvent;
     }
 
     @Override
@@ -46,65 +65,102 @@ public class EventManagementServiceImpl implements EventManagementService {
         return eventRepository.findById(id);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<EventPage> getEventPage(Long id) {
+        // A cached page must not cost a transaction, so a page is assembled without one
+        return eventPageCache.get(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> getEventsInDateRange(LocalDate from, LocalDate to, Set<EventSummary.Field> fields) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Date range ends before it starts");
+        }
+        return eventRepository.findByDateRange(from, to, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> getUpcomingEvents(int limit, Set<EventSummary.Field> fields) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return eventRepository.findUpcoming(limit, fields);
+    }
+
     @Override
     public Event updateEvent(Event event) {
-        return eventRepository.update(event);
+        Event updatedEvent = eventRepository.update(event);
+        autocompleteIndex.eventChanged(updatedEvent);
+        membershipGraph.eventChanged(updatedEvent);
+        eventPageCache.eventChanged(updatedEvent.getId());
+        return updatedEvent;
     }
 
     @Override
     public void deleteEvent(Long id) {
         eventRepository.delete(id);
+        autocompleteIndex.entityDeleted(SuggestionType.EVENT, id);
+        membershipGraph.entityDeleted(EntityType.EVENT, id);
+        eventPageCache.eventChanged(id);
     }
 
     @Override
-    public Event assignGroupToEvent(Long eventId, Long groupId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("Event with id " + eventId + " does not exist"));
-        
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group with id " + groupId + " does not exist"));
-        
-        Set<Group> updatedGroups = new HashSet<>(event.getParticipatingGroups());
-        updatedGroups.add(group);
-        
-        Event updatedEvent = event.toBuilder()
-                .participatingGroups(updatedGroups)
-                .build();
-        
-        return eventRepository.update(updatedEvent);
+    public void assignGroupToEvent(Long eventId, Long groupId) {
+        if (!eventRepository.addGroup(eventId, groupId)) {
+            // Only the failure path reads, to tell a missing entity from an existing assignment
+            verifyEventExists(eventId);
+            verifyGroupExists(groupId);
+        }
+        membershipGraph.groupsAssigned(eventId, Set.of(groupId));
+        eventPageCache.eventChanged(eventId);
     }
 
     @Override
-    public Event removeGroupFromEvent(Long eventId, Long groupId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new IllegalArgumentException("Event with id " + eventId + " does not exist"));
-        
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new IllegalArgumentException("Group with id " + groupId + " does not exist"));
-        
-        Set<Group> updatedGroups = new HashSet<>(event.getParticipatingGroups());
-        updatedGroups.removeIf(g -> g.getId().equals(group.getId()));
-        
-        Event updatedEvent = event.toBuilder()
-                .participatingGroups(updatedGroups)
-                .build();
-        
-        return eventRepository.update(updatedEvent);
+    public void assignGroupsToEvent(Long eventId, Set<Long> groupIds) {
+        if (eventRepository.addGroups(eventId, groupIds) < groupIds.size()) {
+            verifyEventExists(eventId);
+            groupIds.forEach(this::verifyGroupExists);
+        }
+        membershipGraph.groupsAssigned(eventId, groupIds);
+        eventPageCache.eventChanged(eventId);
+    }
+
+    @Override
+    public void removeGroupFromEvent(Long eventId, Long groupId) {
+        if (!eventRepository.removeGroup(eventId, groupId)) {
+            verifyEventExists(eventId);
+            verifyGroupExists(groupId);
+        }
+        membershipGraph.groupRemoved(eventId, groupId);
+        eventPageCache.eventChanged(eventId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Event> getEventsForGroup(Long groupId) {
+    public List<EventSummary> getEventsForGroup(Long groupId) {
         // Verify group exists
         groupRepository.findById(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("Group with id " + groupId + " does not exist"));
         
-        return eventRepository.findEventsByGroupId(groupId);
+        return eventRepository.findEventsByGroupId(groupId, EnumSet.allOf(EventSummary.Field.class));
+    }
+
+    private void verifyEventExists(Long eventId) {
+        eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event with id " + eventId + " does not exist"));
+    }
+
+    private void verifyGroupExists(Long groupId) {
+        groupRepository.findById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group with id " + groupId + " does not exist"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChangeListener;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventPage;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory read model of the event detail pages, one entry per event.
+ *
+ * A page is assembled from the repositories the first time it is requested and is then served by a
+ * single map lookup. When the event, one of its participating groups, one of its registrations or one of
+ * the registered scouts changes, the page is dropped and assembled again on the next request, so only
+ * the affected events are rebuilt.
+ *
+ * A page is dropped only after the transaction of the change has committed. Every drop advances a
+ * generation counter, and a page is only cached if no drop happened while it was assembled, so a page
+ * read before a commit never outlives it. Cache hits take no lock.
+ *
+ * The event and registration services drop pages after their own writes. Renamed scouts and groups, and
+ * the writes of other application instances, arrive as entity change notifications.
+ */
+@Component
+public class EventPageCache implements EntityChangeListener {
+
+    private final Map<Long, CachedPage> pages = new ConcurrentHashMap<>();
+
+    /** Advanced by every drop, guarded by {@code this}. */
+    private long generation;
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+
+    public EventPageCache(EventRepository eventRepository, RegistrationRepository registrationRepository) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+    }
+
+    /**
+     * Returns the page of an event, assembling it if it is not cached yet.
+     *
+     * @param eventId the id of the event
+     * @return the page, or empty if the event does not exist
+     */
+    public Optional<EventPage> get(long eventId) {
+        CachedPage cached = pages.get(eventId);
+        if (cached != null) {
+            return Optional.of(cached.page());
+        }
+
+        long startGeneration = currentGeneration();
+        CachedPage assembled = assemble(eventId);
+        if (assembled == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            if (generation == startGeneration) {
+                pages.putIfAbsent(eventId, assembled);
+            }
+        }
+        return Optional.of(assembled.page());
+    }
+
+    /**
+     * Drops the page of an event once the current transaction has committed.
+     *
+     * @param eventId the id of the event whose data or registrations changed
+     */
+    public void eventChanged(long eventId) {
+        AfterCommit.run(() -> removeWhere(eventId, cached -> false));
+    }
+
+    @Override
+    public void changed(EntityChange change) {
+        long id = change.entityId();
+        switch (change.entityType()) {
+            case EVENT -> removeWhere(id, cached -> false);
+            case GROUP -> removeWhere(null, cached -> cached.groupIds().contains(id));
+            case SCOUT -> removeWhere(null, cached -> cached.scoutIds().contains(id));
+            case REGISTRATION -> {
+                // A new registration is not on any page yet, so its event has to be looked up. Only the id
+                // is read, as this runs on the single listener thread for every registration created.
+                Long eventId = change.changeType() == ChangeType.CREATED && !pages.isEmpty()
+                        ? registrationRepository.findEventIdById(id).orElse(null)
+                        : null;
+                removeWhere(eventId, cached -> cached.registrationIds().contains(id));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        generation++;
+        pages.clear();
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    /**
+     * Drops the page of an event, if given, and all pages matching a condition.
+     */
+    private synchronized void removeWhere(Long eventId, Predicate<CachedPage> affected) {
+        generation++;
+        if (eventId != null) {
+            pages.remove(eventId);
+        }
+        pages.values().removeIf(affected);
+    }
+
+    private CachedPage assemble(long eventId) {
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty()) {
+            return null;
+        }
+        List<Registration> registrations = registrationRepository.findByEventId(eventId);
+
+        Map<RegistrationStatus, Long> counts = new EnumMap<>(RegistrationStatus.class);
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        registrations.forEach(registration -> counts.merge(registration.getStatus(), 1L, Long::sum));
+
+        List<String> participantNames = registrations.stream()
+                .filter(registration -> registration.getStatus() == RegistrationStatus.CONFIRMED)
+                .map(registration -> registration.getScout().getName())
+                .sorted(Comparator.naturalOrder())
+                .toList();
+
+        return new CachedPage(
+                new EventPage(event.get(), Map.copyOf(counts), participantNames),
+                event.get().getParticipatingGroups().stream().map(Group::getId).collect(Collectors.toUnmodifiableSet()),
+                registrations.stream().map(Registration::getId).collect(Collectors.toUnmodifiableSet()),
+                registrations.stream().map(registration -> registration.getScout().getId())
+                        .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * A page together with the ids of the entities it was assembled from.
+     */
+    private record CachedPage(EventPage page, Set<Long> groupIds, Set<Long> registrationIds, Set<Long> scoutIds) {}
+}
@@ -1,6 +1,8 @@
 package name.alexkrauss.scouts.application.service;
 
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.SuggestionType;
 import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.domain.model.Group;
 import org.springframework.stereotype.Service;
@@ -14,9 +16,14 @@ import java.util.Optional;
 public class GroupManagementServiceImpl implements GroupManagementService {
 
     private final GroupRepository groupRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final MembershipGraph membershipGraph;
 
-    public GroupManagementServiceImpl(GroupRepository groupRepository) {
+    public GroupManagementServiceImpl(GroupRepository groupRepository, AutocompleteIndex autocompleteIndex,
+                                      MembershipGraph membershipGraph) {
         this.groupRepository = groupRepository;
+        this.autocompleteIndex = autocompleteIndex;
+        this.membershipGraph = membershipGraph;
     }
     @Override
     public Group createGroup(Group group) {
@@ -26,7 +33,9 @@ public class GroupManagementServiceImpl implements GroupManagementService {
             throw new IllegalArgumentException("Group with name '" + group.getName() + "' already exists");
         }
 
-        return groupRepository.create(group);
+        Group createdGroup = groupRepository.create(group);
+        autocompleteIndex.groupChanged(createdGroup);
+        return createdGroup;
     }
 
     @Override
@@ -41,13 +50,35 @@ public class GroupManagementServiceImpl implements GroupManagementService {
         return groupRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Group> getGroupsByIds(List<Long> ids) {
+        return groupRepository.findAllByIds(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getGroupVersion(Long id) {
+        return groupRepository.findVersionById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getGroupsFingerprint() {
+        return groupRepository.versionFingerprint();
+    }
+
     @Override
     public Group updateGroup(Group group) {
-        return groupRepository.update(group);
+        Group updatedGroup = groupRepository.update(group);
+        autocompleteIndex.groupChanged(updatedGroup);
+        return updatedGroup;
     }
 
     @Override
     public void deleteGroup(Long id) {
         groupRepository.delete(id);
+        autocompleteIndex.entityDeleted(SuggestionType.GROUP, id);
+        membershipGraph.entityDeleted(EntityType.GROUP, id);
     }
 }
@@ -0,0 +1,353 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChangeListener;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of which scouts belong to which groups and which groups participate in which events.
+ *
+ * Each side of the graph is a map by id holding a bit set of the other side. The bits are dense indices
+ * that the graph hands out to scouts and groups as it sees them, so the bit sets stay small regardless
+ * of how large the ids grow. Eligibility of a scout for an event is a single bit set intersection, and
+ * the scouts eligible for an event are the union of the member sets of its groups. An event without
+ * participating groups is open to all scouts. Events the graph does not know yet are treated the same way.
+ *
+ * Like the {@link AutocompleteIndex}, the graph is built when the application is ready, kept current by
+ * the management services after their transactions commit, and follows other application instances
+ * through entity change notifications. It may therefore lag behind the database. It serves the lists of
+ * eligible scouts and open events, while registrations check eligibility against the database.
+ */
+@Component
+public class MembershipGraph implements EntityChangeListener {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Scout indices by group id. */
+    private final Map<Long, BitSet> scoutsByGroup = new HashMap<>();
+
+    /** Group indices by scout id. Absent for unknown scouts. */
+    private final Map<Long, BitSet> groupsByScout = new HashMap<>();
+
+    /** Group indices by event id. Absent for unknown events, empty for events open to all groups. */
+    private final Map<Long, BitSet> groupsByEvent = new HashMap<>();
+
+    private final DenseIndex scoutIndex = new DenseIndex();
+    private final DenseIndex groupIndex = new DenseIndex();
+
+    private final ScoutRepository scoutRepository;
+    private final EventRepository eventRepository;
+
+    public MembershipGraph(ScoutRepository scoutRepository, EventRepository eventRepository) {
+        this.scoutRepository = scoutRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Discards the graph and loads it again from the repositories.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Only the ids are needed, so neither the scouts nor the events are loaded in full
+        Map<Long, Set<Long>> groupIdsByScout = scoutRepository.findAllGroupIds();
+        List<EventSummary> allEvents = eventRepository.findAllSummaries(
+                EnumSet.of(EventSummary.Field.PARTICIPATING_GROUP_IDS));
+
+        lock.writeLock().lock();
+        try {
+            scoutsByGroup.clear();
+            groupsByScout.clear();
+            groupsByEvent.clear();
+            scoutIndex.clear();
+            groupIndex.clear();
+            groupIdsByScout.forEach((scoutId, groupIds) -> putScout(scoutId, groupIds));
+            allEvents.forEach(event -> putEvent(event.id(), event.participatingGroupIds()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a scout may register for an event, that is whether the event is open to all groups
+     * or the scout is a member of at least one of its participating groups.
+     *
+     * @param scoutId the id of the scout
+     * @param eventId the id of the event
+     * @return true if the scout is eligible
+     */
+    public boolean isEligible(long scoutId, long eventId) {
+        lock.readLock().lock();
+        try {
+            BitSet participating = groupsByEvent.get(eventId);
+            if (participating == null || participating.isEmpty()) {
+                return true;
+            }
+            BitSet memberOf = groupsByScout.get(scoutId);
+            return memberOf != null && participating.intersects(memberOf);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the scouts that may register for an event.
+     *
+     * @param eventId the id of the event
+     * @return the ids of the eligible scouts in ascending order
+     */
+    public long[] eligibleScoutIds(long eventId) {
+        lock.readLock().lock();
+        try {
+            BitSet participating = groupsByEvent.get(eventId);
+            if (participating == null || participating.isEmpty()) {
+                return sorted(groupsByScout.keySet().stream().mapToLong(Long::longValue).toArray());
+            }
+            BitSet eligible = new BitSet();
+            participating.stream()
+                    .mapToObj(group -> scoutsByGroup.get(groupIndex.id(group)))
+                    .filter(members -> members != null)
+                    .forEach(eligible::or);
+            return sorted(eligible.stream().mapToLong(scoutIndex::id).toArray());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the events a scout may register for.
+     *
+     * @param scoutId the id of the scout
+     * @return the ids of the events in ascending order
+     */
+    public long[] eventIdsOpenTo(long scoutId) {
+        lock.readLock().lock();
+        try {
+            BitSet memberOf = groupsByScout.get(scoutId);
+            return sorted(groupsByEvent.entrySet().stream()
+                    .filter(event -> event.getValue().isEmpty()
+                            || (memberOf != null && event.getValue().intersects(memberOf)))
+                    .mapToLong(Map.Entry::getKey)
+                    .toArray());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the group memberships of a scout once the current transaction has committed.
+     *
+     * @param scout the created or updated scout
+     */
+    public void scoutChanged(Scout scout) {
+        long id = scout.getId();
+        Set<Long> groups = groupIds(scout.getGroups());
+        AfterCommit.run(() -> write(() -> putScout(id, groups)));
+    }
+
+    /**
+     * Replaces the participating groups of an event once the current transaction has committed.
+     *
+     * @param event the created or updated event
+     */
+    public void eventChanged(Event event) {
+        long id = event.getId();
+        Set<Long> groups = groupIds(event.getParticipatingGroups());
+        AfterCommit.run(() -> write(() -> putEvent(id, groups)));
+    }
+
+    /**
+     * Adds participating groups to an event once the current transaction has committed.
+     * An event the graph does not know yet is left to the next reload, since its other groups are unknown.
+     *
+     * @param eventId the id of the event
+     * @param groupIds the ids of the assigned groups
+     */
+    public void groupsAssigned(long eventId, Set<Long> groupIds) {
+        Set<Long> groups = Set.copyOf(groupIds);
+        AfterCommit.run(() -> write(() -> {
+            BitSet participating = groupsByEvent.get(eventId);
+            if (participating != null) {
+                groups.forEach(groupId -> participating.set(groupIndex.indexOf(groupId)));
+            }
+        }));
+    }
+
+    /**
+     * Removes a participating group from an event once the current transaction has committed.
+     * Removing the last group opens the event to all scouts, as in the database.
+     *
+     * @param eventId the id of the event
+     * @param groupId the id of the removed group
+     */
+    public void groupRemoved(long eventId, long groupId) {
+        AfterCommit.run(() -> write(() -> {
+            BitSet participating = groupsByEvent.get(eventId);
+            Integer group = groupIndex.find(groupId);
+            if (participating != null && group != null) {
+                participating.clear(group);
+            }
+        }));
+    }
+
+    /**
+     * Removes an entity and all its edges once the current transaction has committed.
+     *
+     * @param type the kind of entity
+     * @param id the id of the deleted entity
+     */
+    public void entityDeleted(EntityType type, long id) {
+        AfterCommit.run(() -> write(() -> remove(type, id)));
+    }
+
+    /**
+     * Reloads the changed scout or event from its repository. Group changes only matter once the group
+     * is deleted, since memberships and participations are stored with scouts and events.
+     */
+    @Override
+    public void changed(EntityChange change) {
+        long id = change.entityId();
+        switch (change.entityType()) {
+            case SCOUT -> scoutRepository.findById(id).ifPresentOrElse(
+                    scout -> write(() -> putScout(id, groupIds(scout.getGroups()))),
+                    () -> write(() -> remove(EntityType.SCOUT, id)));
+            case EVENT -> eventRepository.findById(id).ifPresentOrElse(
+                    event -> write(() -> putEvent(id, groupIds(event.getParticipatingGroups()))),
+                    () -> write(() -> remove(EntityType.EVENT, id)));
+            case GROUP -> {
+                if (change.changeType() == ChangeType.DELETED) {
+                    write(() -> remove(EntityType.GROUP, id));
+                }
+            }
+            case REGISTRATION -> {
+                // registrations are not part of the graph
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        rebuild();
+    }
+
+    private void write(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putScout(long scoutId, Set<Long> groupIds) {
+        removeScout(scoutId);
+        int scout = scoutIndex.indexOf(scoutId);
+        BitSet groups = new BitSet();
+        groupIds.forEach(groupId -> {
+            groups.set(groupIndex.indexOf(groupId));
+            scoutsByGroup.computeIfAbsent(groupId, id -> new BitSet()).set(scout);
+        });
+        groupsByScout.put(scoutId, groups);
+    }
+
+    private void putEvent(long eventId, Set<Long> groupIds) {
+        BitSet groups = new BitSet();
+        groupIds.forEach(groupId -> groups.set(groupIndex.indexOf(groupId)));
+        groupsByEvent.put(eventId, groups);
+    }
+
+    private void remove(EntityType type, long id) {
+        switch (type) {
+            case SCOUT -> removeScout(id);
+            case EVENT -> groupsByEvent.remove(id);
+            case GROUP -> removeGroup(id);
+            case REGISTRATION -> {
+                // registrations are not part of the graph
+            }
+        }
+    }
+
+    private void removeScout(long scoutId) {
+        BitSet previous = groupsByScout.remove(scoutId);
+        if (previous != null) {
+            int scout = scoutIndex.indexOf(scoutId);
+            previous.stream().forEach(group -> scoutsByGroup.get(groupIndex.id(group)).clear(scout));
+        }
+    }
+
+    private void removeGroup(long groupId) {
+        Integer group = groupIndex.find(groupId);
+        if (group == null) {
+            return;
+        }
+        BitSet members = scoutsByGroup.remove(groupId);
+        if (members != null) {
+            members.stream().forEach(scout -> groupsByScout.get(scoutIndex.id(scout)).clear(group));
+        }
+        groupsByEvent.values().forEach(groups -> groups.clear(group));
+    }
+
+    private static Set<Long> groupIds(Set<Group> groups) {
+        return groups.stream()
+                .map(Group::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private static long[] sorted(long[] ids) {
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Hands out consecutive indices for ids, so that bit sets over the ids stay dense.
+     * Indices are kept when an entity is removed, and only handed out again after a rebuild.
+     */
+    private static final class DenseIndex {
+
+        private final Map<Long, Integer> indices = new HashMap<>();
+        private long[] ids = new long[64];
+
+        int indexOf(long id) {
+            return indices.computeIfAbsent(id, key -> {
+                int index = indices.size();
+                if (index == ids.length) {
+                    ids = Arrays.copyOf(ids, ids.length * 2);
+                }
+                ids[index] = key;
+                return index;
+            });
+        }
+
+        Integer find(long id) {
+            return indices.get(id);
+        }
+
+        long id(int index) {
+            return ids[index];
+        }
+
+        void clear() {
+            indices.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.persistence.OutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Removes old changes from the outbox while the relay is disabled.
+ *
+ * Without the relay, nothing else removes the changes, and the outbox would grow with every write. Instances
+ * that only listen for change notifications do not need the rows once they are committed, so they are kept
+ * only for the configured retention, which leaves time to inspect recent changes.
+ */
+@Service
+@ConditionalOnProperty(name = "scouts.outbox.relay.enabled", havingValue = "false", matchIfMissing = true)
+public class OutboxPruner {
+
+    private final OutboxRepository outboxRepository;
+    private final Duration retention;
+    private final int batchSize;
+
+    public OutboxPruner(OutboxRepository outboxRepository,
+                        @Value("${scouts.outbox.pruning.retention:1h}") Duration retention,
+                        @Value("${scouts.outbox.pruning.batch-size:10000}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Removes the changes that are older than the retention, in batches so that no run holds many locks.
+     *
+     * @return the number of removed changes
+     */
+    @Scheduled(fixedDelayString = "${scouts.outbox.pruning.interval-millis:60000}")
+    public int prune() {
+        Instant before = Instant.now().minus(retention);
+        int total = 0;
+        int pruned;
+        do {
+            pruned = outboxRepository.prune(before, batchSize);
+            total += pruned;
+        } while (pruned == batchSize);
+        return total;
+    }
+}
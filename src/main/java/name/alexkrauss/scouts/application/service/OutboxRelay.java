@@ -0,0 +1,57 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.changes.ChangeSink;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.persistence.OutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Relays the entity changes recorded in the outbox to all change sinks.
+ *
+ * Changes are taken from the outbox in batches. A batch is removed from the outbox only if every sink
+ * accepted it, otherwise it is delivered again with the next run. The relay is only active if
+ * {@code scouts.outbox.relay.enabled} is set, since relaying without sinks would discard the changes. While it
+ * is disabled, the {@link OutboxPruner} removes old changes instead.
+ */
+@Service
+@ConditionalOnProperty(name = "scouts.outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final List<ChangeSink> sinks;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       List<ChangeSink> sinks,
+                       @Value("${scouts.outbox.relay.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Relays batches until the outbox is drained.
+     *
+     * @return the number of relayed changes
+     * @throws RuntimeException if a sink failed. The failed batch stays in the outbox.
+     */
+    @Scheduled(fixedDelayString = "${scouts.outbox.relay.interval-millis:1000}")
+    public int relay() {
+        int total = 0;
+        int relayed;
+        do {
+            relayed = outboxRepository.relay(batchSize, this::deliver);
+            total += relayed;
+        } while (relayed == batchSize);
+        return total;
+    }
+
+    private void deliver(List<EntityChange> changes) {
+        sinks.forEach(sink -> sink.deliver(changes));
+    }
+}
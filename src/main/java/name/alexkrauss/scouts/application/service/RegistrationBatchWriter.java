@@ -0,0 +1,225 @@
+package name.alexkrauss.scouts.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import name.alexkrauss.scouts.application.ports.api.BatchedRegistrationService;
+import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationRejection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the BatchedRegistrationService interface.
+ *
+ * Submitted registrations go into a bounded queue. A single writer thread takes the first waiting
+ * registration, collects more for at most {@code max-delay} or until {@code max-batch-size} is reached,
+ * and writes the batch with one multi-row insert. Registrations are checked before the insert, with a
+ * single query for the whole batch, so that invalid ones fail on their own. If the insert still fails,
+ * for instance because an event became full, the batch is retried one registration at a time, so that
+ * each caller gets its own result. Any other failure fails the rest of its batch, and the writer goes on
+ * with the next one.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "scouts.registrations.batching.enabled", havingValue = "true")
+public class RegistrationBatchWriter implements BatchedRegistrationService, MeterBinder {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final RegistrationRepository registrationRepository;
+    private final RegistrationManagementService registrationManagementService;
+    private final EventPageCache eventPageCache;
+
+    private final BlockingQueue<PendingRegistration> queue;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public RegistrationBatchWriter(RegistrationRepository registrationRepository,
+                                   RegistrationManagementService registrationManagementService,
+                                   EventPageCache eventPageCache,
+                                   @Value("${scouts.registrations.batching.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${scouts.registrations.batching.max-batch-size:200}") int maxBatchSize,
+                                   @Value("${scouts.registrations.batching.max-delay:5ms}") Duration maxDelay) {
+        this.registrationRepository = registrationRepository;
+        this.registrationManagementService = registrationManagementService;
+        this.eventPageCache = eventPageCache;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.writer = Thread.ofPlatform()
+                .name("registration-batch-writer")
+                .daemon()
+                .unstarted(this::run);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Stops the writer after the current batch. Registrations still waiting in the queue fail.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join();
+
+        List<PendingRegistration> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.result().completeExceptionally(
+                new RejectedExecutionException("Registration writer has been stopped")));
+    }
+
+    @Override
+    public CompletableFuture<Registration> submitRegistration(Registration registration) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Registration writer has been stopped"));
+        }
+        var pending = new PendingRegistration(registration, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Registration queue is full"));
+        }
+        return pending.result();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scouts.registrations.batching.queue", queue, BlockingQueue::size)
+                .description("Number of registrations waiting for the batch writer")
+                .register(registry);
+    }
+
+    private void run() {
+        while (running) {
+            List<PendingRegistration> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                // The writer must survive, or every registration submitted later would wait forever
+                log.error("Failed to write a batch of {} registrations", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+        }
+    }
+
+    private List<PendingRegistration> nextBatch() throws InterruptedException {
+        List<PendingRegistration> batch = new ArrayList<>(maxBatchSize);
+        PendingRegistration first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        // The first registration waits at most maxDelay for others to join its batch
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                break;
+            }
+            PendingRegistration next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void write(List<PendingRegistration> batch) {
+        List<Optional<RegistrationRejection>> rejections;
+        try {
+            rejections = registrationRepository.check(batch.stream()
+                    .map(PendingRegistration::registration)
+                    .toList());
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+
+        // Applies the checks of RegistrationManagementService.createRegistration, and additionally
+        // rejects a second registration of the same scout within the batch
+        List<PendingRegistration> accepted = new ArrayList<>(batch.size());
+        Set<SeatKey> seats = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRegistration pending = batch.get(i);
+            long scoutId = pending.registration().getScout().getId();
+            long eventId = pending.registration().getEvent().getId();
+            Optional<RegistrationRejection> rejection = rejections.get(i);
+            if (rejection.isEmpty() && !seats.add(new SeatKey(eventId, scoutId))) {
+                rejection = Optional.of(RegistrationRejection.ALREADY_REGISTERED);
+            }
+            if (rejection.isPresent()) {
+                pending.result().completeExceptionally(rejection.get().toException(scoutId, eventId));
+            } else {
+                accepted.add(pending);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Registration> created;
+        try {
+            created = registrationRepository.createAll(accepted.stream()
+                    .map(PendingRegistration::registration)
+                    .toList());
+        } catch (RuntimeException e) {
+            // A single registration spoils the whole insert. Retrying one by one confines the failure to it.
+            accepted.forEach(this::writeAlone);
+            return;
+        }
+
+        created.stream()
+                .map(registration -> registration.getEvent().getId())
+                .distinct()
+                .forEach(eventPageCache::eventChanged);
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).result().complete(created.get(i));
+        }
+    }
+
+    private void writeAlone(PendingRegistration pending) {
+        try {
+            pending.result().complete(registrationManagementService.createRegistration(pending.registration()));
+        } catch (RuntimeException e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingRegistration(Registration registration, CompletableFuture<Registration> result) {}
+
+    private record SeatKey(long eventId, long scoutId) {}
+}
@@ -6,11 +6,18 @@ import name.alexkrauss.scouts.application.ports.persistence.RegistrationReposito
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
 import name.alexkrauss.scouts.domain.model.Event;
 import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
+import name.alexkrauss.scouts.domain.model.RegistrationUpdate;
 import name.alexkrauss.scouts.domain.model.Scout;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the RegistrationManagementService interface.
@@ -23,6 +30,8 @@ public class RegistrationManagementServiceImpl implements RegistrationManagement
     private final RegistrationRepository registrationRepository;
     private final ScoutRepository scoutRepository;
     private final EventRepository eventRepository;
+    private final EventPageCache eventPageCache;
+    private final MembershipGraph membershipGraph;
 
     /**
      * Constructs a new RegistrationManagementServiceImpl with the required repositories.
@@ -30,57 +39,93 @@ public class RegistrationManagementServiceImpl implements RegistrationManagement
      * @param registrationRepository the repository for managing registrations
      * @param scoutRepository the repository for managing scouts
      * @param eventRepository the repository for managing events
+     * @param eventPageCache the event pages that are dropped when registrations change
+     * @param membershipGraph the group memberships that answer which scouts may attend which events
      */
     public RegistrationManagementServiceImpl(RegistrationRepository registrationRepository,
                                           ScoutRepository scoutRepository,
-                                          EventRepository eventRepository) {
+                                          EventRepository eventRepository,
+                                          EventPageCache eventPageCache,
+                                          MembershipGraph membershipGraph) {
         this.registrationRepository = registrationRepository;
         this.scoutRepository = scoutRepository;
         this.eventRepository = eventRepository;
+        this.eventPageCache = eventPageCache;
+        this.membershipGraph = membershipGraph;
     }
 
     @Override
     public Registration createRegistration(Registration registration) {
         Long scoutId = registration.getScout().getId();
         Long eventId = registration.getEvent().getId();
-        
-        // Verify that the scout exists
-        verifyScoutExists(scoutId);
-        
-        // Verify that the event exists
-        verifyEventExists(eventId);
-        
-        // Check for duplicate registration
-        if (registrationRepository.existsByEventIdAndScoutId(eventId, scoutId)) {
-            throw new IllegalArgumentException("Scout is already registered for this event");
-        }
-        
+
+        // Existence, eligibility and duplicates are checked against the database in this transaction,
+        // since the in-memory membership graph may not yet know of memberships committed elsewhere
+        registrationRepository.check(List.of(registration)).get(0).ifPresent(rejection -> {
+            throw rejection.toException(scoutId, eventId);
+        });
+
+        eventPageCache.eventChanged(eventId);
+
+        // The insert allocates the seat and locks the event's counter until commit,
+        // so it must stay the last statement of the transaction.
         return registrationRepository.create(registration);
     }
 
     @Override
     public Registration updateRegistration(Registration registration) {
-        // Get the existing registration
-        Registration existingRegistration = getRegistration(registration.getId());
-        
-        // Ensure scout and event are not changed
-        if (!existingRegistration.getScout().getId().equals(registration.getScout().getId())) {
-            throw new IllegalArgumentException("Cannot change the scout of an existing registration");
+        RegistrationUpdate update;
+        try {
+            update = registrationRepository.update(registration);
+        } catch (OptimisticLockingFailureException e) {
+            // Only the failure path reads the registration, to report the precise reason
+            Registration existingRegistration = getRegistration(registration.getId());
+
+            if (!existingRegistration.getScout().getId().equals(registration.getScout().getId())) {
+                throw new IllegalArgumentException("Cannot change the scout of an existing registration");
+            }
+
+            if (!existingRegistration.getEvent().getId().equals(registration.getEvent().getId())) {
+                throw new IllegalArgumentException("Cannot change the event of an existing registration");
+            }
+
+            throw e;
         }
-        
-        if (!existingRegistration.getEvent().getId().equals(registration.getEvent().getId())) {
-            throw new IllegalArgumentException("Cannot change the event of an existing registration");
+
+        Registration updatedRegistration = update.registration();
+        if (update.freedSeat()) {
+            registrationRepository.promoteFromWaitlist(updatedRegistration.getEvent().getId(), 1);
         }
-        
-        return registrationRepository.update(registration);
+        eventPageCache.eventChanged(updatedRegistration.getEvent().getId());
+        return updatedRegistration;
+    }
+
+    @Override
+    public List<Long> bulkUpdateStatus(Long eventId, RegistrationStatus fromStatus, RegistrationStatus toStatus) {
+        verifyEventExists(eventId);
+        return statusChanged(eventId, fromStatus,
+                registrationRepository.updateStatus(eventId, fromStatus, toStatus));
+    }
+
+    @Override
+    public List<Long> bulkUpdateStatus(Long eventId, Collection<Long> registrationIds,
+                                       RegistrationStatus fromStatus, RegistrationStatus toStatus) {
+        verifyEventExists(eventId);
+        return statusChanged(eventId, fromStatus,
+                registrationRepository.updateStatus(eventId, registrationIds, fromStatus, toStatus));
     }
 
     @Override
     public void deleteRegistration(Long registrationId) {
         // Verify that the registration exists
-        getRegistration(registrationId);
+        Registration registration = getRegistration(registrationId);
         
         registrationRepository.delete(registrationId);
+
+        if (registration.getStatus() == RegistrationStatus.CONFIRMED) {
+            registrationRepository.promoteFromWaitlist(registration.getEvent().getId(), 1);
+        }
+        eventPageCache.eventChanged(registration.getEvent().getId());
     }
 
     @Override
@@ -108,6 +153,52 @@ public class RegistrationManagementServiceImpl implements RegistrationManagement
         return registrationRepository.findByScoutId(scoutId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<RegistrationSummary> getRegistrationsByAccount(String accountId, RegistrationSummary.Cursor after,
+                                                               int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return registrationRepository.findByAccountId(accountId, after, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<RegistrationStatus, Long> getRegistrationCounts(Long eventId) {
+        return registrationRepository.countByEventId(eventId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getEligibleScoutIds(Long eventId) {
+        return Arrays.stream(membershipGraph.eligibleScoutIds(eventId)).boxed().toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getEventIdsOpenTo(Long scoutId) {
+        return Arrays.stream(membershipGraph.eventIdsOpenTo(scoutId)).boxed().toList();
+    }
+
+    /**
+     * Hands the seats freed by a bulk status change to the waitlist.
+     *
+     * @param eventId The event whose registrations changed.
+     * @param fromStatus The previous status of the changed registrations.
+     * @param changedIds The IDs of the changed registrations.
+     * @return The IDs of the changed registrations.
+     */
+    private List<Long> statusChanged(Long eventId, RegistrationStatus fromStatus, List<Long> changedIds) {
+        if (fromStatus == RegistrationStatus.CONFIRMED) {
+            registrationRepository.promoteFromWaitlist(eventId, changedIds.size());
+        }
+        if (!changedIds.isEmpty()) {
+            eventPageCache.eventChanged(eventId);
+        }
+        return changedIds;
+    }
+
     /**
      * Verifies that a scout with the given ID exists.
      *
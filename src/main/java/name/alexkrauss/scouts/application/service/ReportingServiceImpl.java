@@ -0,0 +1,68 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.ReportingService;
+import name.alexkrauss.scouts.application.ports.persistence.ReportRepository;
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementation of the ReportingService interface.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReportingServiceImpl implements ReportingService {
+
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 9999;
+
+    private final ReportRepository reportRepository;
+
+    /**
+     * Constructs a new ReportingServiceImpl.
+     *
+     * @param reportRepository the repository that aggregates the statistics
+     */
+    public ReportingServiceImpl(ReportRepository reportRepository) {
+        this.reportRepository = reportRepository;
+    }
+
+    @Override
+    public List<GroupParticipation> getGroupParticipation(int year) {
+        verifyYear(year);
+        return reportRepository.findGroupParticipation(startOf(year), startOf(year + 1));
+    }
+
+    @Override
+    public List<ConfirmationRate> getConfirmationRates(int year) {
+        verifyYear(year);
+        return reportRepository.findConfirmationRates(startOf(year), startOf(year + 1));
+    }
+
+    @Override
+    public RepeatAttendance getRepeatAttendance(int year) {
+        verifyYear(year);
+        List<RepeatAttendance.Frequency> frequencies =
+                reportRepository.findAttendanceFrequencies(startOf(year - 1), startOf(year), startOf(year + 1));
+        return new RepeatAttendance(
+                year,
+                frequencies.stream().mapToLong(RepeatAttendance.Frequency::scouts).sum(),
+                frequencies.stream().mapToLong(RepeatAttendance.Frequency::returningScouts).sum(),
+                frequencies);
+    }
+
+    private static void verifyYear(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new IllegalArgumentException("Year must be between " + MIN_YEAR + " and " + MAX_YEAR);
+        }
+    }
+
+    private static LocalDate startOf(int year) {
+        return LocalDate.of(year, 1, 1);
+    }
+}
@@ -0,0 +1,249 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.SuggestionType;
+import name.alexkrauss.scouts.application.ports.api.ScoutDeduplicationService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.DuplicateCandidateRepository;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ScoutDeduplicationService interface.
+ *
+ * Every scout is put into one block per phonetic key of the first and the last word of its name, both
+ * combined with the birth date. Only scouts that share a block are compared, by the edit distance of their
+ * normalized names with the words in alphabetical order, so swapped first and last names still match.
+ * Blocks hold a handful of scouts even for large memberships, so a run is dominated by loading the
+ * summaries. Each run replaces the stored report, so that every instance serves the latest one.
+ */
+@Service
+@Transactional
+public class ScoutDeduplicationServiceImpl implements ScoutDeduplicationService {
+
+    /** American Soundex digits for the letters a to z. */
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+
+    private static final Comparator<DuplicateCandidate> MOST_SIMILAR_FIRST = Comparator
+            .comparingDouble(DuplicateCandidate::similarity).reversed()
+            .thenComparingLong(candidate -> candidate.scout().id())
+            .thenComparingLong(candidate -> candidate.duplicate().id());
+
+    private final ScoutRepository scoutRepository;
+    private final DuplicateCandidateRepository duplicateCandidateRepository;
+    private final RegistrationRepository registrationRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final MembershipGraph membershipGraph;
+    private final EventPageCache eventPageCache;
+    private final ContactLookupCache contactLookupCache;
+    private final double minSimilarity;
+
+    /**
+     * Constructs a new ScoutDeduplicationServiceImpl.
+     *
+     * @param scoutRepository the repository for managing scouts
+     * @param duplicateCandidateRepository the repository that keeps the latest report
+     * @param registrationRepository the repository for managing registrations
+     * @param autocompleteIndex the index that is kept current on merges
+     * @param membershipGraph the group memberships that are kept current on merges
+     * @param eventPageCache the event pages that are dropped when registrations move
+     * @param contactLookupCache the scouts per contact email that are dropped on merges
+     * @param minSimilarity the similarity from which two names in the same block are reported
+     */
+    public ScoutDeduplicationServiceImpl(ScoutRepository scoutRepository,
+                                         DuplicateCandidateRepository duplicateCandidateRepository,
+                                         RegistrationRepository registrationRepository,
+                                         AutocompleteIndex autocompleteIndex,
+                                         MembershipGraph membershipGraph,
+                                         EventPageCache eventPageCache,
+                                         ContactLookupCache contactLookupCache,
+                                         @Value("${scouts.duplicates.min-similarity:0.85}") double minSimilarity) {
+        this.scoutRepository = scoutRepository;
+        this.duplicateCandidateRepository = duplicateCandidateRepository;
+        this.registrationRepository = registrationRepository;
+        this.autocompleteIndex = autocompleteIndex;
+        this.membershipGraph = membershipGraph;
+        this.eventPageCache = eventPageCache;
+        this.contactLookupCache = contactLookupCache;
+        this.minSimilarity = minSimilarity;
+    }
+
+    @Override
+    @Scheduled(cron = "${scouts.duplicates.cron:0 30 3 * * *}")
+    public List<DuplicateCandidate> detectDuplicates() {
+        Map<BlockKey, List<ComparableScout>> blocks = new HashMap<>();
+        for (ScoutSummary scout : scoutRepository.findAllSummaries()) {
+            if (scout.birthDate() == null) {
+                continue;
+            }
+            String[] words = AutocompleteIndex.normalize(scout.name()).split(" ");
+            if (words[0].isEmpty()) {
+                continue;
+            }
+            ComparableScout comparable = new ComparableScout(scout, sortedWords(words));
+            for (String key : Set.of(soundex(words[0]), soundex(words[words.length - 1]))) {
+                blocks.computeIfAbsent(new BlockKey(scout.birthDate(), key), k -> new ArrayList<>()).add(comparable);
+            }
+        }
+
+        List<DuplicateCandidate> candidates = new ArrayList<>();
+        Set<Pair> compared = new HashSet<>();
+        for (List<ComparableScout> block : blocks.values()) {
+            for (int i = 0; i < block.size(); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    ComparableScout first = block.get(i);
+                    ComparableScout second = block.get(j);
+                    if (!compared.add(Pair.of(first.summary().id(), second.summary().id()))) {
+                        continue;
+                    }
+                    double similarity = similarity(first.comparedName(), second.comparedName());
+                    if (similarity >= minSimilarity) {
+                        candidates.add(first.summary().id() < second.summary().id()
+                                ? new DuplicateCandidate(first.summary(), second.summary(), similarity)
+                                : new DuplicateCandidate(second.summary(), first.summary(), similarity));
+                    }
+                }
+            }
+        }
+        candidates.sort(MOST_SIMILAR_FIRST);
+        duplicateCandidateRepository.replaceAll(candidates);
+        return List.copyOf(candidates);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DuplicateCandidate> getDuplicateCandidates() {
+        return duplicateCandidateRepository.findAll();
+    }
+
+    @Override
+    public Scout mergeScouts(Long scoutId, Long duplicateId) {
+        if (scoutId.equals(duplicateId)) {
+            throw new IllegalArgumentException("A scout cannot be merged into itself");
+        }
+        scoutRepository.findById(duplicateId)
+                .orElseThrow(() -> new IllegalArgumentException("Scout with id " + duplicateId + " does not exist"));
+        scoutRepository.findById(scoutId)
+                .orElseThrow(() -> new IllegalArgumentException("Scout with id " + scoutId + " does not exist"));
+        List<Registration> duplicateRegistrations = registrationRepository.findByScoutId(duplicateId);
+        List<Long> affectedEventIds = duplicateRegistrations.stream()
+                .map(registration -> registration.getEvent().getId())
+                .distinct()
+                .toList();
+
+        // Registrations for events the kept scout attends already are dropped, and their seats go to the waitlist
+        Set<Long> keptEventIds = registrationRepository.findByScoutId(scoutId).stream()
+                .map(registration -> registration.getEvent().getId())
+                .collect(Collectors.toSet());
+        Map<Long, Integer> freedSeats = duplicateRegistrations.stream()
+                .filter(registration -> registration.getStatus() == RegistrationStatus.CONFIRMED)
+                .filter(registration -> keptEventIds.contains(registration.getEvent().getId()))
+                .collect(Collectors.toMap(registration -> registration.getEvent().getId(), registration -> 1,
+                        Integer::sum));
+
+        scoutRepository.merge(scoutId, duplicateId);
+        freedSeats.forEach(registrationRepository::promoteFromWaitlist);
+        Scout merged = scoutRepository.findById(scoutId).orElseThrow();
+
+        autocompleteIndex.entityDeleted(SuggestionType.SCOUT, duplicateId);
+        membershipGraph.entityDeleted(EntityType.SCOUT, duplicateId);
+        membershipGraph.scoutChanged(merged);
+        affectedEventIds.forEach(eventPageCache::eventChanged);
+        contactLookupCache.scoutDeleted(duplicateId);
+        contactLookupCache.scoutChanged(merged);
+        return merged;
+    }
+
+    /**
+     * Similarity of two names as one minus their edit distance relative to the longer name.
+     */
+    static double similarity(String first, String second) {
+        int longer = Math.max(first.length(), second.length());
+        if (longer == 0) {
+            return 1.0;
+        }
+        return 1.0 - (double) levenshtein(first, second) / longer;
+    }
+
+    private static int levenshtein(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * American Soundex of a normalized word: its first letter followed by three digits for the
+     * consonant groups that follow, so that "meier" and "mayer" share a key.
+     */
+    static String soundex(String word) {
+        StringBuilder key = new StringBuilder(4).append(word.charAt(0));
+        char previous = soundexDigit(word.charAt(0));
+        for (int i = 1; i < word.length() && key.length() < 4; i++) {
+            char letter = word.charAt(i);
+            char digit = soundexDigit(letter);
+            if (digit != '0' && digit != previous) {
+                key.append(digit);
+            }
+            // h and w do not separate consonants with the same digit
+            if (letter != 'h' && letter != 'w') {
+                previous = digit;
+            }
+        }
+        while (key.length() < 4) {
+            key.append('0');
+        }
+        return key.toString();
+    }
+
+    private static char soundexDigit(char letter) {
+        return letter >= 'a' && letter <= 'z' ? SOUNDEX_DIGITS.charAt(letter - 'a') : '0';
+    }
+
+    private static String sortedWords(String[] words) {
+        String[] sorted = words.clone();
+        Arrays.sort(sorted);
+        return String.join(" ", sorted);
+    }
+
+    private record BlockKey(LocalDate birthDate, String phoneticKey) {}
+
+    private record ComparableScout(ScoutSummary summary, String comparedName) {}
+
+    private record Pair(long lowerId, long higherId) {
+        static Pair of(long first, long second) {
+            return new Pair(Math.min(first, second), Math.max(first, second));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.SuggestionType;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of the ScoutManagementService interface.
+ */
+@Service
+@Transactional
+public class ScoutManagementServiceImpl implements ScoutManagementService {
+
+    private final ScoutRepository scoutRepository;
+    private final GroupRepository groupRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final MembershipGraph membershipGraph;
+    private final ContactLookupCache contactLookupCache;
+
+    /**
+     * Constructs a new ScoutManagementServiceImpl.
+     *
+     * @param scoutRepository the repository for managing scouts
+     * @param groupRepository the repository for managing groups
+     * @param autocompleteIndex the index that is kept current on writes
+     * @param membershipGraph the group memberships that are kept current on writes
+     * @param contactLookupCache the scouts per contact email that are dropped on writes
+     */
+    public ScoutManagementServiceImpl(ScoutRepository scoutRepository, GroupRepository groupRepository,
+                                      AutocompleteIndex autocompleteIndex, MembershipGraph membershipGraph,
+                                      ContactLookupCache contactLookupCache) {
+        this.scoutRepository = scoutRepository;
+        this.groupRepository = groupRepository;
+        this.autocompleteIndex = autocompleteIndex;
+        this.membershipGraph = membershipGraph;
+        this.contactLookupCache = contactLookupCache;
+    }
+
+    @Override
+    public Scout createScout(Scout scout) {
+        Scout createdScout = scoutRepository.create(scout);
+        autocompleteIndex.scoutChanged(createdScout);
+        membershipGraph.scoutChanged(createdScout);
+        contactLookupCache.scoutChanged(createdScout);
+        return createdScout;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Scout> getScout(Long id) {
+        return scoutRepository.findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Scout> getAllScouts() {
+        return scoutRepository.findAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Scout> getScoutsOfGroup(Long groupId) {
+        verifyGroupExists(groupId);
+        return scoutRepository.findByGroupId(groupId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScoutSummary> getGroupRoster(Long groupId) {
+        verifyGroupExists(groupId);
+        return scoutRepository.findSummariesByGroupId(groupId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Scout> getScoutsByContactEmail(String email) {
+        return contactLookupCache.findByContactEmail(email);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Scout> getScoutsByContactPhone(String phoneNumber) {
+        return scoutRepository.findByContactPhone(phoneNumber);
+    }
+
+    @Override
+    public Scout updateScout(Scout scout) {
+        Scout updatedScout = scoutRepository.update(scout);
+        autocompleteIndex.scoutChanged(updatedScout);
+        membershipGraph.scoutChanged(updatedScout);
+        contactLookupCache.scoutChanged(updatedScout);
+        return updatedScout;
+    }
+
+    @Override
+    public void deleteScout(Long id) {
+        scoutRepository.delete(id);
+        autocompleteIndex.entityDeleted(SuggestionType.SCOUT, id);
+        membershipGraph.entityDeleted(EntityType.SCOUT, id);
+        contactLookupCache.scoutDeleted(id);
+    }
+
+    private void verifyGroupExists(Long groupId) {
+        groupRepository.findVersionById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group with id " + groupId + " does not exist"));
+    }
+}
@@ -0,0 +1,32 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * How many of the registrations of an event were confirmed.
+ *
+ * @param eventId The id of the event
+ * @param eventName The name of the event
+ * @param eventStartDate The start date of the event
+ * @param registrations The number of registrations in any status
+ * @param confirmed The number of confirmed registrations
+ * @param cancelled The number of cancelled registrations
+ */
+public record ConfirmationRate(
+        long eventId,
+        String eventName,
+        LocalDate eventStartDate,
+        long registrations,
+        long confirmed,
+        long cancelled
+) {
+
+    /**
+     * The share of confirmed registrations.
+     *
+     * @return a value between 0 and 1, zero for events without registrations
+     */
+    public double rate() {
+        return registrations == 0 ? 0.0 : (double) confirmed / registrations;
+    }
+}
@@ -5,6 +5,9 @@ import jakarta.validation.constraints.NotEmpty;
 import lombok.Builder;
 import lombok.NonNull;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * A contact represents a person who can be reached regarding a scout, typically a parent or guardian.
  *
@@ -29,4 +32,31 @@ public record Contact(
 
     @NonNull
     String relationship
-) {}
\ No newline at end of file
+) {
+
+    private static final Pattern NOT_IN_PHONE_NUMBER = Pattern.compile("[^0-9+]");
+    private static final Pattern SURROUNDING_WHITESPACE = Pattern.compile("\\A[ \\t\\r\\n]+|[ \\t\\r\\n]+\\z");
+
+    /**
+     * Normalizes an email address for lookups: surrounding spaces, tabs and line breaks are removed and letters
+     * are lowercased. Matches the normalize_email function of the database, which trims the same characters.
+     * Other whitespace, such as non-breaking spaces, is kept.
+     *
+     * @param email the email address as entered
+     * @return the normalized address
+     */
+    public static String normalizeEmail(String email) {
+        return SURROUNDING_WHITESPACE.matcher(email).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a phone number for lookups: everything but digits and plus signs is removed.
+     * Matches the normalize_phone_number function of the database.
+     *
+     * @param phoneNumber the phone number as entered
+     * @return the normalized phone number
+     */
+    public static String normalizePhoneNumber(String phoneNumber) {
+        return NOT_IN_PHONE_NUMBER.matcher(phoneNumber).replaceAll("");
+    }
+}
@@ -0,0 +1,14 @@
+package name.alexkrauss.scouts.domain.model;
+
+/**
+ * Two scouts that are probably the same child, registered twice with slightly different spellings.
+ *
+ * @param scout The scout that was registered first, usually the one to keep
+ * @param duplicate The scout that was registered later
+ * @param similarity The similarity of the two names, between 0 and 1
+ */
+public record DuplicateCandidate(
+        ScoutSummary scout,
+        ScoutSummary duplicate,
+        double similarity
+) {}
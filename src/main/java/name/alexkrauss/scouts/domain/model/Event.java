@@ -1,20 +1,21 @@
 package name.alexkrauss.scouts.domain.model;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
-import lombok.Data;
 import lombok.NonNull;
+import lombok.Value;
 
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * An event represents a happening that scouts can register for.
  * Events typically involve multiple groups and have a specific location and timeframe.
  */
-@Data
+@Value
 @Builder(toBuilder = true)
 public class Event {
     Long id;
@@ -60,8 +61,14 @@ public class Event {
      * May be empty, in which case all groups can participate.
      */
     @NonNull
-    @Builder.Default
-    Set<Group> participatingGroups = new HashSet<>();
+    Set<Group> participatingGroups;
+
+    /**
+     * The maximum number of confirmed registrations.
+     * This is empty if the event has no participant limit.
+     */
+    @NonNull
+    Optional<@Min(0) Integer> capacity;
 
     /**
      * The cost for participation in the event.
@@ -75,4 +82,17 @@ public class Event {
      */
     @NonNull
     String additionalInfo;
+
+    public static class EventBuilder {
+        private Set<Group> participatingGroups = Set.of();
+        private Optional<Integer> capacity = Optional.empty();
+
+        /**
+         * Sets the participating groups as an unmodifiable copy.
+         */
+        public EventBuilder participatingGroups(Set<Group> participatingGroups) {
+            this.participatingGroups = Set.copyOf(participatingGroups);
+            return this;
+        }
+    }
 }
\ No newline at end of file
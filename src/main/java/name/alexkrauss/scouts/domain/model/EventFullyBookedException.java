@@ -0,0 +1,20 @@
+package name.alexkrauss.scouts.domain.model;
+
+import lombok.Getter;
+
+/**
+ * Signals that a registration cannot be confirmed because the event has no free seats left.
+ */
+@Getter
+public class EventFullyBookedException extends RuntimeException {
+
+    /**
+     * The id of the event that is fully booked.
+     */
+    private final long eventId;
+
+    public EventFullyBookedException(long eventId, Throwable cause) {
+        super("Event with id " + eventId + " is fully booked", cause);
+        this.eventId = eventId;
+    }
+}
@@ -0,0 +1,17 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the detail page of an event shows, combined into one read model.
+ *
+ * @param event The complete event, including its participating groups
+ * @param registrationCounts The number of registrations per status, zero for statuses without registrations
+ * @param participantNames The names of the scouts with a confirmed registration, in alphabetical order
+ */
+public record EventPage(
+        Event event,
+        Map<RegistrationStatus, Long> registrationCounts,
+        List<String> participantNames
+) {}
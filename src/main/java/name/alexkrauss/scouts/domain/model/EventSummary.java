@@ -0,0 +1,51 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The fields of an event that are shown in lists, such as a calendar.
+ * The free-text additional information is left out, and groups are referenced by id.
+ *
+ * A list may be loaded with only some of the fields. The id and version are always present.
+ * Fields that were not loaded are null, except for the capacity and the participating groups, which are empty.
+ *
+ * @param id The id of the event
+ * @param version The version of the event
+ * @param name The name of the event
+ * @param startDate The start date of the event
+ * @param endDate The end date of the event
+ * @param meetingPoint The meeting point, empty if attendees go directly to the location
+ * @param location The location where the event takes place
+ * @param cost The cost for participation, empty if there is none or it is not known yet
+ * @param capacity The maximum number of confirmed registrations, empty if unlimited or not loaded
+ * @param participatingGroupIds The ids of the participating groups, empty if all groups can participate
+ */
+public record EventSummary(
+        long id,
+        long version,
+        String name,
+        LocalDate startDate,
+        LocalDate endDate,
+        String meetingPoint,
+        String location,
+        String cost,
+        Optional<Integer> capacity,
+        Set<Long> participatingGroupIds
+) {
+
+    /**
+     * The fields of a summary that can be loaded selectively.
+     */
+    public enum Field {
+        NAME,
+        START_DATE,
+        END_DATE,
+        MEETING_POINT,
+        LOCATION,
+        COST,
+        CAPACITY,
+        PARTICIPATING_GROUP_IDS
+    }
+}
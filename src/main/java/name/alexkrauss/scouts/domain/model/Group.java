@@ -2,14 +2,17 @@ package name.alexkrauss.scouts.domain.model;
 
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Builder;
-import lombok.Data;
 import lombok.NonNull;
+import lombok.Value;
 
 /**
  * A group represents an organizational unit within the scout organization
  * that participates in events.
+ *
+ * Groups are identified by their id alone, so that sets of groups hash and compare cheaply.
+ * Groups that have not been stored yet are only equal to themselves.
  */
-@Data
+@Value
 @Builder(toBuilder = true)
 public class Group {
     Long id;
@@ -23,4 +26,14 @@ public class Group {
     @NonNull
     @NotEmpty
     String name;
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (id != null && other instanceof Group group && id.equals(group.id));
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? Long.hashCode(id) : System.identityHashCode(this);
+    }
 }
@@ -0,0 +1,23 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * The number of confirmed participants of an event that are members of a group.
+ * A scout in several groups counts for each of them.
+ *
+ * @param eventId The id of the event
+ * @param eventName The name of the event
+ * @param eventStartDate The start date of the event
+ * @param groupId The id of the group
+ * @param groupName The name of the group
+ * @param participants The number of members of the group with a confirmed registration for the event
+ */
+public record GroupParticipation(
+        long eventId,
+        String eventName,
+        LocalDate eventStartDate,
+        long groupId,
+        String groupName,
+        long participants
+) {}
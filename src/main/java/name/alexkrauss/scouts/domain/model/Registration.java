@@ -2,8 +2,8 @@ package name.alexkrauss.scouts.domain.model;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
-import lombok.Data;
 import lombok.NonNull;
+import lombok.Value;
 
 import java.time.LocalDateTime;
 
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  * A registration represents a scout's intent to participate in an event.
  * It tracks the registration status and related information.
  */
-@Data
+@Value
 @Builder(toBuilder = true)
 public class Registration {
     Long id;
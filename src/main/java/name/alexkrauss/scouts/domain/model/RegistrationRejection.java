@@ -0,0 +1,42 @@
+package name.alexkrauss.scouts.domain.model;
+
+/**
+ * The reasons why a registration cannot be created, in the order in which they are checked.
+ */
+public enum RegistrationRejection {
+    /**
+     * The scout of the registration does not exist.
+     */
+    SCOUT_NOT_FOUND,
+
+    /**
+     * The event of the registration does not exist.
+     */
+    EVENT_NOT_FOUND,
+
+    /**
+     * The event is restricted to some groups, and the scout is a member of none of them.
+     */
+    NOT_ELIGIBLE,
+
+    /**
+     * The scout is already registered for the event.
+     */
+    ALREADY_REGISTERED;
+
+    /**
+     * Creates the exception that reports this rejection to the caller.
+     *
+     * @param scoutId the id of the scout of the rejected registration
+     * @param eventId the id of the event of the rejected registration
+     * @return the exception to throw
+     */
+    public IllegalArgumentException toException(long scoutId, long eventId) {
+        return new IllegalArgumentException(switch (this) {
+            case SCOUT_NOT_FOUND -> "Scout with id " + scoutId + " does not exist";
+            case EVENT_NOT_FOUND -> "Event with id " + eventId + " does not exist";
+            case NOT_ELIGIBLE -> "Scout is not a member of any group participating in this event";
+            case ALREADY_REGISTERED -> "Scout is already registered for this event";
+        });
+    }
+}
@@ -14,6 +14,12 @@ public enum RegistrationStatus {
      */
     CONFIRMED,
 
+    /**
+     * The event was fully booked. The registration waits in a queue and is confirmed
+     * automatically when a seat becomes free, in the order of waitlisting.
+     */
+    WAITLISTED,
+
     /**
      * The registration has been cancelled and is no longer valid.
      */
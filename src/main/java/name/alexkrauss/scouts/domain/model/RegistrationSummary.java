@@ -0,0 +1,49 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The fields of a registration that are shown in lists, such as the registrations of a parent's account.
+ * The scout and the event are referenced by id and name only, and the note is left out.
+ *
+ * @param id The id of the registration
+ * @param version The version of the registration
+ * @param scoutId The id of the registered scout
+ * @param scoutName The name of the registered scout
+ * @param eventId The id of the event
+ * @param eventName The name of the event
+ * @param eventStartDate The start date of the event
+ * @param status The current status of the registration
+ * @param registrationDate The timestamp when the registration was created
+ */
+public record RegistrationSummary(
+        long id,
+        long version,
+        long scoutId,
+        String scoutName,
+        long eventId,
+        String eventName,
+        LocalDate eventStartDate,
+        RegistrationStatus status,
+        LocalDateTime registrationDate
+) {
+
+    /**
+     * The position of this registration in a list ordered by registration date and id,
+     * to continue the list after it.
+     *
+     * @return the position of this registration
+     */
+    public Cursor cursor() {
+        return new Cursor(registrationDate, id);
+    }
+
+    /**
+     * A position in a list of registrations ordered by registration date and id, newest first.
+     *
+     * @param registrationDate The registration date of the last registration already read
+     * @param id The id of the last registration already read
+     */
+    public record Cursor(LocalDateTime registrationDate, long id) {}
+}
@@ -0,0 +1,24 @@
+package name.alexkrauss.scouts.domain.model;
+
+/**
+ * The outcome of updating a registration: the stored registration and the status it had before.
+ *
+ * @param registration The registration after the update, with its new version
+ * @param previousStatus The status of the registration before the update
+ */
+public record RegistrationUpdate(
+        Registration registration,
+        RegistrationStatus previousStatus
+) {
+
+    /**
+     * Whether the update freed a seat of the event, which is the case if the registration was confirmed
+     * before and is not anymore.
+     *
+     * @return true if a seat was freed
+     */
+    public boolean freedSeat() {
+        return previousStatus == RegistrationStatus.CONFIRMED
+                && registration.getStatus() != RegistrationStatus.CONFIRMED;
+    }
+}
@@ -0,0 +1,28 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.util.List;
+
+/**
+ * How often the scouts took part in the events of a year.
+ *
+ * @param year The year, by the start date of the events
+ * @param participants The number of scouts with at least one confirmed registration
+ * @param returningParticipants The number of participants that also took part in an event of the previous year
+ * @param frequencies The number of participants per number of events attended, ordered by that number
+ */
+public record RepeatAttendance(
+        int year,
+        long participants,
+        long returningParticipants,
+        List<Frequency> frequencies
+) {
+
+    /**
+     * The number of scouts that attended a given number of events.
+     *
+     * @param eventsAttended The number of events with a confirmed registration
+     * @param scouts The number of scouts that attended that many events
+     * @param returningScouts The number of those scouts that also took part in an event of the previous year
+     */
+    public record Frequency(long eventsAttended, long scouts, long returningScouts) {}
+}
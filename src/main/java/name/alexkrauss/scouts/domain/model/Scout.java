@@ -3,14 +3,12 @@ package name.alexkrauss.scouts.domain.model;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Builder;
-import lombok.Data;
 import lombok.NonNull;
+import lombok.Value;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
-import java.util.ArrayList;
-import java.util.HashSet;
 
 /**
  * A scout is a member of the organization who can register for events.
@@ -18,7 +16,7 @@ import java.util.HashSet;
  * We refrain from overspecifying constraints, since most of the fields are not
  * used formally.
  */
-@Data
+@Value
 @Builder(toBuilder = true)
 public class Scout {
     Long id;
@@ -28,8 +26,7 @@ public class Scout {
      * The groups the scout belongs to. May be empty.
      */
     @NonNull
-    @Builder.Default
-    Set<Group> groups = new HashSet<>();
+    Set<Group> groups;
 
     /**
      * Full name of the scout, used for identification and communication.
@@ -81,12 +78,32 @@ public class Scout {
      */
     @NonNull
     @NotEmpty
-    @Builder.Default
-    List<Contact> contacts = new ArrayList<>();
+    List<Contact> contacts;
 
     /**
      * Timestamp of the most recent data verification or update.
      */
     @NonNull
     LocalDate lastUpdated;
+
+    public static class ScoutBuilder {
+        private Set<Group> groups = Set.of();
+        private List<Contact> contacts = List.of();
+
+        /**
+         * Sets the groups as an unmodifiable copy.
+         */
+        public ScoutBuilder groups(Set<Group> groups) {
+            this.groups = Set.copyOf(groups);
+            return this;
+        }
+
+        /**
+         * Sets the contacts as an unmodifiable copy.
+         */
+        public ScoutBuilder contacts(List<Contact> contacts) {
+            this.contacts = List.copyOf(contacts);
+            return this;
+        }
+    }
 }
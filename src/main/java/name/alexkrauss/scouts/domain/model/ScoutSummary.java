@@ -0,0 +1,14 @@
+package name.alexkrauss.scouts.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of a scout that identify it in lists, such as the roster of a group.
+ * Contacts, groups and health information are left out.
+ *
+ * @param id The id of the scout
+ * @param version The version of the scout
+ * @param name Full name of the scout
+ * @param birthDate Birth date of the scout
+ */
+public record ScoutSummary(long id, long version, String name, LocalDate birthDate) {}
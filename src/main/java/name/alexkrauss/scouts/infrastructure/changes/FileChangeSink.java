@@ -0,0 +1,49 @@
+package name.alexkrauss.scouts.infrastructure.changes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import name.alexkrauss.scouts.application.ports.changes.ChangeSink;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Change sink that appends every change as a line of JSON to a local file.
+ * Active if {@code scouts.outbox.file-sink.path} is set.
+ */
+@Component
+@ConditionalOnProperty(name = "scouts.outbox.file-sink.path")
+public class FileChangeSink implements ChangeSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FileChangeSink(@Value("${scouts.outbox.file-sink.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<EntityChange> changes) {
+        List<String> lines = new ArrayList<>(changes.size());
+        try {
+            for (EntityChange change : changes) {
+                lines.add(objectMapper.writeValueAsString(change));
+            }
+            Files.write(path, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize entity change", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write entity changes to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChangeListener;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Forwards the changes published on the {@code entity_changes} channel to all EntityChangeListeners.
+ *
+ * The outbox trigger notifies the channel for every recorded change when the writing transaction commits.
+ * This component holds a dedicated connection outside the pool, which does nothing but LISTEN. If the
+ * connection is lost, it reconnects and tells all listeners to invalidate everything, since notifications
+ * sent in between are lost.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "scouts.change-notifications.enabled", havingValue = "true")
+public class DbChangeNotificationListener {
+
+    static final String CHANNEL = "entity_changes";
+
+    private static final int POLL_MILLIS = 500;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final List<EntityChangeListener> listeners;
+    private final Duration reconnectDelay;
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+
+    public DbChangeNotificationListener(DataSourceProperties dataSourceProperties,
+                                        List<EntityChangeListener> listeners,
+                                        @Value("${scouts.change-notifications.reconnect-delay:2s}") Duration reconnectDelay) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.listeners = listeners;
+        this.reconnectDelay = reconnectDelay;
+        this.listenerThread = Thread.ofPlatform()
+                .name("entity-change-listener")
+                .daemon()
+                .unstarted(this::run);
+    }
+
+    @PostConstruct
+    void start() {
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        listenerThread.interrupt();
+        listenerThread.join();
+    }
+
+    private void run() {
+        boolean listenedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (listenedBefore) {
+                    listeners.forEach(EntityChangeListener::invalidateAll);
+                }
+                listenedBefore = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(parse(notification.getParameter()));
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Lost the connection listening for entity changes, reconnecting in {}", reconnectDelay, e);
+                    pauseBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void dispatch(EntityChange change) {
+        for (EntityChangeListener listener : listeners) {
+            try {
+                listener.changed(change);
+            } catch (RuntimeException e) {
+                log.warn("Listener {} failed to handle {}, invalidating all its data", listener, change, e);
+                // The listener may hold a stale entry now
+                listener.invalidateAll();
+            }
+        }
+    }
+
+    private void pauseBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * Parses the payload written by the outbox trigger.
+     */
+    static EntityChange parse(String payload) {
+        String[] parts = payload.split(":", -1);
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("Malformed entity change notification: " + payload);
+        }
+        return new EntityChange(
+                Long.parseLong(parts[0]),
+                EntityType.valueOf(parts[1]),
+                Long.parseLong(parts[2]),
+                parts[3].isEmpty() ? Optional.empty() : Optional.of(Long.parseLong(parts[3])),
+                ChangeType.valueOf(parts[4]),
+                Instant.EPOCH.plus(Long.parseLong(parts[5]), ChronoUnit.MICROS));
+    }
+}
@@ -0,0 +1,65 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.persistence.DuplicateCandidateRepository;
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.DuplicateCandidates.DUPLICATE_CANDIDATES;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Scouts.SCOUTS;
+
+/**
+ * jOOQ-based implementation of the DuplicateCandidateRepository interface.
+ * The report is not recorded in the outbox, as no in-memory view depends on it.
+ */
+@Repository
+public class DbDuplicateCandidateRepository implements DuplicateCandidateRepository {
+
+    private final DSLContext dsl;
+
+    public DbDuplicateCandidateRepository(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @Override
+    @Transactional
+    public void replaceAll(List<DuplicateCandidate> candidates) {
+        dsl.deleteFrom(DUPLICATE_CANDIDATES).execute();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        var insert = dsl.insertInto(DUPLICATE_CANDIDATES,
+                DUPLICATE_CANDIDATES.SCOUT_ID, DUPLICATE_CANDIDATES.DUPLICATE_ID, DUPLICATE_CANDIDATES.SIMILARITY);
+        for (DuplicateCandidate candidate : candidates) {
+            insert = insert.values(candidate.scout().id(), candidate.duplicate().id(), candidate.similarity());
+        }
+        // A run of another instance may have inserted the same pairs concurrently
+        insert.onConflict(DUPLICATE_CANDIDATES.SCOUT_ID, DUPLICATE_CANDIDATES.DUPLICATE_ID)
+                .doUpdate()
+                .set(DUPLICATE_CANDIDATES.SIMILARITY, DSL.excluded(DUPLICATE_CANDIDATES.SIMILARITY))
+                .execute();
+    }
+
+    @Override
+    public List<DuplicateCandidate> findAll() {
+        var scouts = SCOUTS.as("scouts");
+        var duplicates = SCOUTS.as("duplicates");
+        return dsl.select(scouts.ID, scouts.VERSION, scouts.NAME, scouts.BIRTH_DATE,
+                        duplicates.ID, duplicates.VERSION, duplicates.NAME, duplicates.BIRTH_DATE,
+                        DUPLICATE_CANDIDATES.SIMILARITY)
+                .from(DUPLICATE_CANDIDATES)
+                .join(scouts).on(scouts.ID.eq(DUPLICATE_CANDIDATES.SCOUT_ID))
+                .join(duplicates).on(duplicates.ID.eq(DUPLICATE_CANDIDATES.DUPLICATE_ID))
+                .orderBy(DUPLICATE_CANDIDATES.SIMILARITY.desc(), DUPLICATE_CANDIDATES.SCOUT_ID,
+                        DUPLICATE_CANDIDATES.DUPLICATE_ID)
+                .fetch(r -> new DuplicateCandidate(
+                        new ScoutSummary(r.value1(), r.value2(), r.value3(), r.value4()),
+                        new ScoutSummary(r.value5(), r.value6(), r.value7(), r.value8()),
+                        r.value9()));
+    }
+}
@@ -1,16 +1,26 @@
 package name.alexkrauss.scouts.infrastructure.db;
 
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
 import name.alexkrauss.scouts.domain.model.Group;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.OrderField;
 import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.SelectField;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.*;
 
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.EventGroups.EVENT_GROUPS;
@@ -23,10 +33,21 @@ import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Groups.G
 @Repository
 public class DbEventRepository implements EventRepository {
 
+    private static final Map<EventSummary.Field, TableField<?, ?>> SUMMARY_COLUMNS = new EnumMap<>(Map.of(
+            EventSummary.Field.NAME, EVENTS.NAME,
+            EventSummary.Field.START_DATE, EVENTS.START_DATE,
+            EventSummary.Field.END_DATE, EVENTS.END_DATE,
+            EventSummary.Field.MEETING_POINT, EVENTS.MEETING_POINT,
+            EventSummary.Field.LOCATION, EVENTS.LOCATION,
+            EventSummary.Field.COST, EVENTS.COST,
+            EventSummary.Field.CAPACITY, EVENTS.CAPACITY));
+
     private final DSLContext dsl;
+    private final DbOutboxRepository outbox;
 
-    public DbEventRepository(DSLContext dsl) {
+    public DbEventRepository(DSLContext dsl, DbOutboxRepository outbox) {
         this.dsl = dsl;
+        this.outbox = outbox;
     }
 
     @Override
@@ -40,6 +61,7 @@ public class DbEventRepository implements EventRepository {
                 .set(EVENTS.LOCATION, event.getLocation())
                 .set(EVENTS.COST, event.getCost())
                 .set(EVENTS.ADDITIONAL_INFO, event.getAdditionalInfo())
+                .set(EVENTS.CAPACITY, event.getCapacity().orElse(null))
                 .set(EVENTS.VERSION, 0L)
                 .returning()
                 .fetchOne();
@@ -48,6 +70,7 @@ public class DbEventRepository implements EventRepository {
 
         Long eventId = record.getId();
         insertGroups(eventId, event.getParticipatingGroups());
+        outbox.append(EntityType.EVENT, ChangeType.CREATED, eventId, 0L);
 
         return event.toBuilder()
                 .id(eventId)
@@ -66,6 +89,7 @@ public class DbEventRepository implements EventRepository {
                 .set(EVENTS.LOCATION, event.getLocation())
                 .set(EVENTS.COST, event.getCost())
                 .set(EVENTS.ADDITIONAL_INFO, event.getAdditionalInfo())
+                .set(EVENTS.CAPACITY, event.getCapacity().orElse(null))
                 .set(EVENTS.VERSION, event.getVersion() + 1)
                 .where(EVENTS.ID.eq(event.getId()))
                 .and(EVENTS.VERSION.eq(event.getVersion()))
@@ -80,6 +104,7 @@ public class DbEventRepository implements EventRepository {
                 .execute();
 
         insertGroups(event.getId(), event.getParticipatingGroups());
+        outbox.append(EntityType.EVENT, ChangeType.UPDATED, event.getId(), event.getVersion() + 1);
 
         return event.toBuilder()
                 .version(event.getVersion() + 1)
@@ -89,10 +114,53 @@ public class DbEventRepository implements EventRepository {
     @Override
     @Transactional
     public void delete(long id) {
-        // group associations are deleted by cascade
-        dsl.deleteFrom(EVENTS)
+        // group associations and registrations are deleted by cascade
+        int deletedRows = dsl.deleteFrom(EVENTS)
                 .where(EVENTS.ID.eq(id))
                 .execute();
+
+        if (deletedRows > 0) {
+            outbox.append(EntityType.EVENT, ChangeType.DELETED, id, null);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean addGroup(long eventId, long groupId) {
+        return addGroups(eventId, List.of(groupId)) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int addGroups(long eventId, Collection<Long> groupIds) {
+        // Missing events or groups yield no rows instead of a foreign key violation, which would
+        // abort the surrounding transaction. Existing associations are skipped.
+        int insertedRows = dsl.insertInto(EVENT_GROUPS, EVENT_GROUPS.EVENT_ID, EVENT_GROUPS.GROUP_ID)
+                .select(dsl.select(EVENTS.ID, GROUPS.ID)
+                        .from(EVENTS)
+                        .join(GROUPS).on(GROUPS.ID.eq(DSL.any(groupIds.toArray(Long[]::new))))
+                        .where(EVENTS.ID.eq(eventId)))
+                .onConflictDoNothing()
+                .execute();
+
+        if (insertedRows > 0) {
+            recordGroupsChanged(eventId);
+        }
+        return insertedRows;
+    }
+
+    @Override
+    @Transactional
+    public boolean removeGroup(long eventId, long groupId) {
+        int deletedRows = dsl.deleteFrom(EVENT_GROUPS)
+                .where(EVENT_GROUPS.EVENT_ID.eq(eventId))
+                .and(EVENT_GROUPS.GROUP_ID.eq(groupId))
+                .execute();
+
+        if (deletedRows > 0) {
+            recordGroupsChanged(eventId);
+        }
+        return deletedRows > 0;
     }
 
     @Override
@@ -102,17 +170,75 @@ public class DbEventRepository implements EventRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<Event> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return IdLists.inRequestOrder(ids,
+                findEventsByCondition(EVENTS.ID.eq(DSL.any(IdLists.toArray(ids)))),
+                Event::getId);
+    }
+
     @Override
     public List<Event> findAll() {
         return findEventsByCondition(null);
     }
 
     @Override
-    public List<Event> findEventsByGroupId(long groupId) {
-        // Get events that explicitly include this group
-        return findEventsByCondition(
-                EVENT_GROUPS.GROUP_ID.eq(groupId)
-        );
+    public List<EventSummary> findAllSummaries(Set<EventSummary.Field> fields) {
+        return findSummariesByCondition(DSL.noCondition(), fields, EVENTS.START_DATE, EVENTS.ID);
+    }
+
+    @Override
+    public List<EventSummary> findByDateRange(LocalDate from, LocalDate to, Set<EventSummary.Field> fields) {
+        // Written as an overlap of ranges, so that the range index applies
+        return findSummariesByCondition(
+                DSL.condition("{0} && daterange({1}, {2}, '[]')", dateRange(), DSL.val(from), DSL.val(to)),
+                fields, EVENTS.START_DATE, EVENTS.ID);
+    }
+
+    @Override
+    public List<EventSummary> findUpcoming(int limit, Set<EventSummary.Field> fields) {
+        // The limit applies to events, so it goes into a subquery before the groups are joined
+        var upcomingIds = dsl.select(EVENTS.ID)
+                .from(EVENTS)
+                .where(EVENTS.END_DATE.ge(DSL.currentLocalDate()))
+                .orderBy(EVENTS.START_DATE, EVENTS.ID)
+                .limit(limit);
+
+        return findSummariesByCondition(EVENTS.ID.in(upcomingIds), fields, EVENTS.START_DATE, EVENTS.ID);
+    }
+
+    @Override
+    public List<EventSummary> findEventsByGroupId(long groupId, Set<EventSummary.Field> fields) {
+        // A semi-join, so that the outer join still loads all participating groups of each event.
+        // Filtering the joined rows instead would leave only the requested group in each event.
+        var participation = EVENT_GROUPS.as("participation");
+        return findSummariesByCondition(DSL.exists(dsl.selectOne()
+                        .from(participation)
+                        .where(participation.EVENT_ID.eq(EVENTS.ID))
+                        .and(participation.GROUP_ID.eq(groupId))),
+                fields, EVENTS.START_DATE, EVENTS.ID);
+    }
+
+    /**
+     * The days of an event as a range, in the form of the expression index on events.
+     */
+    private static Field<Object> dateRange() {
+        return DSL.field("daterange({0}, {1}, '[]')", EVENTS.START_DATE, EVENTS.END_DATE);
+    }
+
+    /**
+     * Records a change of the group associations. The version of the event is not increased by them,
+     * so the change carries the current one.
+     */
+    private void recordGroupsChanged(long eventId) {
+        dsl.select(EVENTS.VERSION)
+                .from(EVENTS)
+                .where(EVENTS.ID.eq(eventId))
+                .fetchOptional(EVENTS.VERSION)
+                .ifPresent(version -> outbox.append(EntityType.EVENT, ChangeType.UPDATED, eventId, version));
     }
 
     private void insertGroups(Long eventId, Set<Group> groups) {
@@ -125,6 +251,10 @@ public class DbEventRepository implements EventRepository {
     }
 
     private List<Event> findEventsByCondition(Condition condition) {
+        return findEventsByCondition(condition, EVENTS.ID);
+    }
+
+    private List<Event> findEventsByCondition(Condition condition, OrderField<?>... order) {
         var query = dsl.select()
                 .from(EVENTS)
                 .leftJoin(EVENT_GROUPS).on(EVENTS.ID.eq(EVENT_GROUPS.EVENT_ID))
@@ -134,10 +264,11 @@ public class DbEventRepository implements EventRepository {
             query.where(condition);
         }
 
-        Result<Record> result = query.orderBy(EVENTS.ID).fetch();
+        Result<Record> result = query.orderBy(order).fetch();
 
-        Map<Long, Event.EventBuilder> eventBuilders = new HashMap<>();
+        Map<Long, Event.EventBuilder> eventBuilders = new LinkedHashMap<>();
         Map<Long, Set<Group>> groups = new HashMap<>();
+        GroupInterner groupInterner = new GroupInterner();
 
         for (Record r : result) {
             Long eventId = r.get(EVENTS.ID);
@@ -151,22 +282,78 @@ public class DbEventRepository implements EventRepository {
                     .meetingPoint(r.get(EVENTS.MEETING_POINT))
                     .location(r.get(EVENTS.LOCATION))
                     .cost(r.get(EVENTS.COST))
-                    .additionalInfo(r.get(EVENTS.ADDITIONAL_INFO)));
+                    .additionalInfo(r.get(EVENTS.ADDITIONAL_INFO))
+                    .capacity(Optional.ofNullable(r.get(EVENTS.CAPACITY))));
 
             if (r.get(GROUPS.ID) != null) {
                 groups.computeIfAbsent(eventId, k -> new HashSet<>())
-                        .add(Group.builder()
-                                .id(r.get(GROUPS.ID))
-                                .version(r.get(GROUPS.VERSION))
-                                .name(r.get(GROUPS.NAME))
-                                .build());
+                        .add(groupInterner.intern(r.get(GROUPS.ID), r.get(GROUPS.VERSION), r.get(GROUPS.NAME)));
             }
         }
 
         return eventBuilders.entrySet().stream()
                 .map(entry -> entry.getValue()
-                        .participatingGroups(groups.getOrDefault(entry.getKey(), new HashSet<>()))
+                        .participatingGroups(groups.getOrDefault(entry.getKey(), Set.of()))
                         .build())
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads the requested list fields of events. Only the columns of these fields are selected,
+     * and the association table is only joined if the participating groups are requested.
+     * The unbounded additional information is never selected.
+     */
+    private List<EventSummary> findSummariesByCondition(Condition condition, Set<EventSummary.Field> fields,
+                                                        OrderField<?>... order) {
+        List<SelectField<?>> columns = new ArrayList<>(List.of(EVENTS.ID, EVENTS.VERSION));
+        fields.stream()
+                .map(SUMMARY_COLUMNS::get)
+                .filter(Objects::nonNull)
+                .forEach(columns::add);
+
+        boolean withGroups = fields.contains(EventSummary.Field.PARTICIPATING_GROUP_IDS);
+        Table<?> source = EVENTS;
+        if (withGroups) {
+            columns.add(EVENT_GROUPS.GROUP_ID);
+            source = EVENTS.leftJoin(EVENT_GROUPS).on(EVENTS.ID.eq(EVENT_GROUPS.EVENT_ID));
+        }
+
+        Result<Record> result = dsl.select(columns)
+                .from(source)
+                .where(condition)
+                .orderBy(order)
+                .fetch();
+
+        Map<Long, Record> events = new LinkedHashMap<>();
+        Map<Long, Set<Long>> groupIds = new HashMap<>();
+
+        for (Record r : result) {
+            Long eventId = r.get(EVENTS.ID);
+            events.putIfAbsent(eventId, r);
+            if (withGroups && r.get(EVENT_GROUPS.GROUP_ID) != null) {
+                groupIds.computeIfAbsent(eventId, k -> new HashSet<>()).add(r.get(EVENT_GROUPS.GROUP_ID));
+            }
+        }
+
+        return events.entrySet().stream()
+                .map(entry -> {
+                    Record r = entry.getValue();
+                    return new EventSummary(
+                            entry.getKey(),
+                            r.get(EVENTS.VERSION),
+                            loaded(r, EVENTS.NAME),
+                            loaded(r, EVENTS.START_DATE),
+                            loaded(r, EVENTS.END_DATE),
+                            loaded(r, EVENTS.MEETING_POINT),
+                            loaded(r, EVENTS.LOCATION),
+                            loaded(r, EVENTS.COST),
+                            Optional.ofNullable(loaded(r, EVENTS.CAPACITY)),
+                            Set.copyOf(groupIds.getOrDefault(entry.getKey(), Set.of())));
+                })
+                .toList();
+    }
+
+    private static <T> T loaded(Record record, TableField<?, T> column) {
+        return record.field(column) != null ? record.get(column) : null;
+    }
+}
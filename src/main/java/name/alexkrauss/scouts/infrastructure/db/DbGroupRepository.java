@@ -1,11 +1,16 @@
 package name.alexkrauss.scouts.infrastructure.db;
 
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.domain.model.Group;
 import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,12 +21,15 @@ import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Groups.G
 public class DbGroupRepository implements GroupRepository {
 
     private final DSLContext dsl;
+    private final DbOutboxRepository outbox;
 
-    public DbGroupRepository(DSLContext dsl) {
+    public DbGroupRepository(DSLContext dsl, DbOutboxRepository outbox) {
         this.dsl = dsl;
+        this.outbox = outbox;
     }
 
     @Override
+    @Transactional
     public Group create(Group group) {
         var record = dsl.insertInto(GROUPS)
                 .set(GROUPS.NAME, group.getName())
@@ -30,6 +38,7 @@ public class DbGroupRepository implements GroupRepository {
                 .fetchOne();
 
         Objects.requireNonNull(record, "Group not created");
+        outbox.append(EntityType.GROUP, ChangeType.CREATED, record.getId(), record.getVersion());
 
         return Group.builder()
                 .id(record.getId())
@@ -39,6 +48,7 @@ public class DbGroupRepository implements GroupRepository {
     }
 
     @Override
+    @Transactional
     public Group update(Group group) {
         var updatedRows = dsl.update(GROUPS)
                 .set(GROUPS.NAME, group.getName())
@@ -50,6 +60,7 @@ public class DbGroupRepository implements GroupRepository {
         if (updatedRows == 0) {
             throw new OptimisticLockingFailureException("Group was updated by another transaction");
         }
+        outbox.append(EntityType.GROUP, ChangeType.UPDATED, group.getId(), group.getVersion() + 1);
 
         return group.toBuilder()
                 .version(group.getVersion() + 1)
@@ -57,10 +68,15 @@ public class DbGroupRepository implements GroupRepository {
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        dsl.deleteFrom(GROUPS)
+        int deletedRows = dsl.deleteFrom(GROUPS)
                 .where(GROUPS.ID.eq(id))
                 .execute();
+
+        if (deletedRows > 0) {
+            outbox.append(EntityType.GROUP, ChangeType.DELETED, id, null);
+        }
     }
 
     @Override
@@ -75,6 +91,22 @@ public class DbGroupRepository implements GroupRepository {
                         .build());
     }
 
+    @Override
+    public List<Group> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Group> found = dsl.selectFrom(GROUPS)
+                .where(GROUPS.ID.eq(DSL.any(IdLists.toArray(ids))))
+                .fetch()
+                .map(record -> Group.builder()
+                        .id(record.getId())
+                        .name(record.getName())
+                        .version(record.getVersion())
+                        .build());
+        return IdLists.inRequestOrder(ids, found, Group::getId);
+    }
+
     @Override
     public List<Group> findAll() {
         return dsl.selectFrom(GROUPS)
@@ -85,4 +117,22 @@ public class DbGroupRepository implements GroupRepository {
                         .version(record.getVersion())
                         .build());
     }
+
+    @Override
+    public Optional<Long> findVersionById(long id) {
+        return dsl.select(GROUPS.VERSION)
+                .from(GROUPS)
+                .where(GROUPS.ID.eq(id))
+                .fetchOptional(GROUPS.VERSION);
+    }
+
+    @Override
+    public String versionFingerprint() {
+        var versions = DSL.listAgg(DSL.concat(GROUPS.ID, DSL.inline(":"), GROUPS.VERSION), ",")
+                .withinGroupOrderBy(GROUPS.ID);
+
+        return dsl.select(DSL.md5(DSL.coalesce(versions, "")))
+                .from(GROUPS)
+                .fetchOne(0, String.class);
+    }
 }
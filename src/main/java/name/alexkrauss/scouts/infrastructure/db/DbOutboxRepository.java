@@ -0,0 +1,146 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.OutboxRepository;
+import name.alexkrauss.scouts.infrastructure.db.generated.tables.records.OutboxRecord;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Outbox.OUTBOX;
+
+/**
+ * jOOQ-based implementation of the OutboxRepository interface.
+ *
+ * The other repositories call the append methods in the transaction of their writes, so that a change
+ * is recorded if and only if it is committed. Rows removed by a cascade are not recorded separately,
+ * consumers derive them from the deletion of the parent.
+ */
+@Repository
+public class DbOutboxRepository implements OutboxRepository {
+
+    private final DSLContext dsl;
+
+    public DbOutboxRepository(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    /**
+     * Records the change of a single entity.
+     *
+     * @param entityType the kind of entity
+     * @param changeType the kind of change
+     * @param entityId the id of the entity
+     * @param version the version of the entity after the change, null for deletions
+     */
+    public void append(EntityType entityType, ChangeType changeType, long entityId, Long version) {
+        dsl.insertInto(OUTBOX)
+                .set(OUTBOX.ENTITY_TYPE, entityType.name())
+                .set(OUTBOX.ENTITY_ID, entityId)
+                .set(OUTBOX.VERSION, version)
+                .set(OUTBOX.CHANGE_TYPE, changeType.name())
+                .execute();
+    }
+
+    /**
+     * Records the same change of several entities of one kind with a single insert.
+     *
+     * @param entityType the kind of entity
+     * @param changeType the kind of change
+     * @param entityIds the ids of the entities
+     * @param version the version of all entities after the change, null for deletions
+     */
+    public void appendAll(EntityType entityType, ChangeType changeType, Collection<Long> entityIds, Long version) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        var insert = dsl.insertInto(OUTBOX, OUTBOX.ENTITY_TYPE, OUTBOX.ENTITY_ID, OUTBOX.VERSION, OUTBOX.CHANGE_TYPE);
+        for (Long entityId : entityIds) {
+            insert = insert.values(entityType.name(), entityId, version, changeType.name());
+        }
+        insert.execute();
+    }
+
+    /**
+     * Records the same change of several entities of one kind, each with its own version, with a single insert.
+     *
+     * @param entityType the kind of entity
+     * @param changeType the kind of change
+     * @param versionsById the version of each entity after the change, by entity id
+     */
+    public void appendAll(EntityType entityType, ChangeType changeType, Map<Long, Long> versionsById) {
+        if (versionsById.isEmpty()) {
+            return;
+        }
+        var insert = dsl.insertInto(OUTBOX, OUTBOX.ENTITY_TYPE, OUTBOX.ENTITY_ID, OUTBOX.VERSION, OUTBOX.CHANGE_TYPE);
+        for (var entry : versionsById.entrySet()) {
+            insert = insert.values(entityType.name(), entry.getKey(), entry.getValue(), changeType.name());
+        }
+        insert.execute();
+    }
+
+    @Override
+    @Transactional
+    public int relay(int limit, Consumer<List<EntityChange>> handler) {
+        var oldest = dsl.select(OUTBOX.ID)
+                .from(OUTBOX)
+                .orderBy(OUTBOX.ID)
+                .limit(limit)
+                .forUpdate()
+                .skipLocked();
+
+        List<EntityChange> changes = dsl.deleteFrom(OUTBOX)
+                .where(OUTBOX.ID.in(oldest))
+                .returning()
+                .fetch()
+                .map(DbOutboxRepository::toChange);
+
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        // The rows returned by DELETE are in no particular order
+        List<EntityChange> ordered = changes.stream()
+                .sorted(Comparator.comparingLong(EntityChange::sequence))
+                .toList();
+        handler.accept(ordered);
+        return ordered.size();
+    }
+
+    @Override
+    @Transactional
+    public int prune(Instant before, int limit) {
+        var oldest = dsl.select(OUTBOX.ID)
+                .from(OUTBOX)
+                .where(OUTBOX.OCCURRED_AT.lt(before.atOffset(ZoneOffset.UTC)))
+                .orderBy(OUTBOX.ID)
+                .limit(limit)
+                .forUpdate()
+                .skipLocked();
+
+        return dsl.deleteFrom(OUTBOX)
+                .where(OUTBOX.ID.in(oldest))
+                .execute();
+    }
+
+    private static EntityChange toChange(OutboxRecord record) {
+        return new EntityChange(
+                record.getId(),
+                EntityType.valueOf(record.getEntityType()),
+                record.getEntityId(),
+                Optional.ofNullable(record.getVersion()),
+                ChangeType.valueOf(record.getChangeType()),
+                record.getOccurredAt().toInstant());
+    }
+}
@@ -1,27 +1,46 @@
 package name.alexkrauss.scouts.infrastructure.db;
 
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
 import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
 import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationRejection;
 import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
+import name.alexkrauss.scouts.domain.model.RegistrationUpdate;
 import name.alexkrauss.scouts.domain.model.Scout;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
-import org.jooq.Record;
-import org.jooq.Result;
+import org.jooq.Field;
+import org.jooq.Row2;
+import org.jooq.impl.DSL;
+import org.postgresql.util.PSQLException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import static name.alexkrauss.scouts.infrastructure.db.generated.Sequences.REGISTRATION_WAITLIST_SEQ;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.EventGroups.EVENT_GROUPS;
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Events.EVENTS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.RegistrationCounts.REGISTRATION_COUNTS;
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Registrations.REGISTRATIONS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.ScoutGroups.SCOUT_GROUPS;
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Scouts.SCOUTS;
 
 /**
@@ -30,33 +49,44 @@ import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Scouts.S
 @Repository
 public class DbRegistrationRepository implements RegistrationRepository {
 
+    private static final String CAPACITY_CONSTRAINT = "registrations_event_capacity";
+
     private final DSLContext dsl;
     private final ScoutRepository scoutRepository;
     private final EventRepository eventRepository;
+    private final DbOutboxRepository outbox;
 
-    public DbRegistrationRepository(DSLContext dsl, ScoutRepository scoutRepository, EventRepository eventRepository) {
+    public DbRegistrationRepository(DSLContext dsl,
+                                    ScoutRepository scoutRepository,
+                                    EventRepository eventRepository,
+                                    DbOutboxRepository outbox) {
         this.dsl = dsl;
         this.scoutRepository = scoutRepository;
         this.eventRepository = eventRepository;
+        this.outbox = outbox;
     }
 
     @Override
     @Transactional
     public Registration create(Registration registration) {
-        var record = dsl.insertInto(REGISTRATIONS)
+        var record = allocatingSeat(() -> dsl.insertInto(REGISTRATIONS)
                 .set(REGISTRATIONS.SCOUT_ID, registration.getScout().getId())
                 .set(REGISTRATIONS.EVENT_ID, registration.getEvent().getId())
                 .set(REGISTRATIONS.NOTE, registration.getNote())
                 .set(REGISTRATIONS.STATUS, registration.getStatus().name())
                 .set(REGISTRATIONS.REGISTRATION_DATE, registration.getRegistrationDate())
                 .set(REGISTRATIONS.ACCOUNT_ID, registration.getAccountId())
+                .set(REGISTRATIONS.WAITLIST_POSITION, registration.getStatus() == RegistrationStatus.WAITLISTED
+                        ? REGISTRATION_WAITLIST_SEQ.nextval()
+                        : DSL.castNull(Long.class))
                 .set(REGISTRATIONS.VERSION, 0L)
                 .returning()
-                .fetchOne();
+                .fetchOne());
 
         if (record == null) {
             throw new IllegalStateException("Failed to create registration");
         }
+        outbox.append(EntityType.REGISTRATION, ChangeType.CREATED, record.getId(), 0L);
 
         return registration.toBuilder()
                 .id(record.getId())
@@ -66,34 +96,194 @@ public class DbRegistrationRepository implements RegistrationRepository {
 
     @Override
     @Transactional
-    public Registration update(Registration registration) {
-        var updatedRows = dsl.update(REGISTRATIONS)
-                .set(REGISTRATIONS.SCOUT_ID, registration.getScout().getId())
-                .set(REGISTRATIONS.EVENT_ID, registration.getEvent().getId())
+    public List<Registration> createAll(List<Registration> registrations) {
+        if (registrations.isEmpty()) {
+            return List.of();
+        }
+
+        // The rows returned by the insert come in no guaranteed order. They are matched back to the
+        // input by scout and event, which is why a batch may hold each pair only once.
+        Map<RegistrationKey, Integer> positions = new HashMap<>();
+        for (int i = 0; i < registrations.size(); i++) {
+            Registration registration = registrations.get(i);
+            if (positions.putIfAbsent(RegistrationKey.of(registration), i) != null) {
+                throw new IllegalArgumentException("Scout with id " + registration.getScout().getId()
+                        + " is registered for event with id " + registration.getEvent().getId() + " twice");
+            }
+        }
+
+        var insert = dsl.insertInto(REGISTRATIONS,
+                REGISTRATIONS.SCOUT_ID,
+                REGISTRATIONS.EVENT_ID,
+                REGISTRATIONS.NOTE,
+                REGISTRATIONS.STATUS,
+                REGISTRATIONS.REGISTRATION_DATE,
+                REGISTRATIONS.ACCOUNT_ID,
+                REGISTRATIONS.WAITLIST_POSITION,
+                REGISTRATIONS.VERSION);
+        for (Registration registration : registrations) {
+            insert = insert.values(
+                    DSL.val(registration.getScout().getId()),
+                    DSL.val(registration.getEvent().getId()),
+                    DSL.val(registration.getNote()),
+                    DSL.val(registration.getStatus().name()),
+                    DSL.val(registration.getRegistrationDate()),
+                    DSL.val(registration.getAccountId()),
+                    registration.getStatus() == RegistrationStatus.WAITLISTED
+                            ? REGISTRATION_WAITLIST_SEQ.nextval()
+                            : DSL.castNull(Long.class),
+                    DSL.val(0L));
+        }
+
+        var finalInsert = insert;
+        Long[] ids = new Long[registrations.size()];
+        allocatingSeat(() -> finalInsert
+                .returningResult(REGISTRATIONS.ID, REGISTRATIONS.SCOUT_ID, REGISTRATIONS.EVENT_ID)
+                .fetch())
+                .forEach(row -> ids[positions.get(new RegistrationKey(row.value2(), row.value3()))] = row.value1());
+        outbox.appendAll(EntityType.REGISTRATION, ChangeType.CREATED, Arrays.asList(ids), 0L);
+
+        List<Registration> created = new ArrayList<>(registrations.size());
+        for (int i = 0; i < registrations.size(); i++) {
+            created.add(registrations.get(i).toBuilder()
+                    .id(ids[i])
+                    .version(0L)
+                    .build());
+        }
+        return created;
+    }
+
+    @Override
+    public List<Optional<RegistrationRejection>> check(List<Registration> registrations) {
+        if (registrations.isEmpty()) {
+            return List.of();
+        }
+
+        // One row per distinct scout and event, each condition answered by an index lookup
+        var pairs = DSL.values(registrations.stream()
+                        .map(RegistrationKey::of)
+                        .distinct()
+                        .map(key -> DSL.row(key.scoutId(), key.eventId()))
+                        .toArray(Row2[]::new))
+                .as("pairs", "scout_id", "event_id");
+        Field<Long> scoutId = pairs.field("scout_id", Long.class);
+        Field<Long> eventId = pairs.field("event_id", Long.class);
+
+        Map<RegistrationKey, Optional<RegistrationRejection>> rejections = new HashMap<>();
+        dsl.select(scoutId, eventId,
+                        DSL.field(DSL.exists(dsl.selectOne()
+                                .from(SCOUTS)
+                                .where(SCOUTS.ID.eq(scoutId)))),
+                        DSL.field(DSL.exists(dsl.selectOne()
+                                .from(EVENTS)
+                                .where(EVENTS.ID.eq(eventId)))),
+                        DSL.field(DSL.notExists(dsl.selectOne()
+                                        .from(EVENT_GROUPS)
+                                        .where(EVENT_GROUPS.EVENT_ID.eq(eventId)))
+                                .or(DSL.exists(dsl.selectOne()
+                                        .from(EVENT_GROUPS)
+                                        .join(SCOUT_GROUPS).on(SCOUT_GROUPS.GROUP_ID.eq(EVENT_GROUPS.GROUP_ID))
+                                        .where(EVENT_GROUPS.EVENT_ID.eq(eventId))
+                                        .and(SCOUT_GROUPS.SCOUT_ID.eq(scoutId))))),
+                        DSL.field(DSL.exists(dsl.selectOne()
+                                .from(REGISTRATIONS)
+                                .where(REGISTRATIONS.EVENT_ID.eq(eventId))
+                                .and(REGISTRATIONS.SCOUT_ID.eq(scoutId)))))
+                .from(pairs)
+                .forEach(r -> rejections.put(new RegistrationKey(r.value1(), r.value2()),
+                        rejection(r.value3(), r.value4(), r.value5(), r.value6())));
+
+        return registrations.stream()
+                .map(registration -> rejections.get(RegistrationKey.of(registration)))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public RegistrationUpdate update(Registration registration) {
+        // Scout and event are immutable. They are part of the condition, so that a changed
+        // scout or event is detected in the same statement as a stale version. The row is joined
+        // with itself to return the previous status; as the version matches, it is the row updated.
+        var previous = REGISTRATIONS.as("previous");
+        var previousStatus = allocatingSeat(() -> dsl.update(REGISTRATIONS)
                 .set(REGISTRATIONS.NOTE, registration.getNote())
                 .set(REGISTRATIONS.STATUS, registration.getStatus().name())
                 .set(REGISTRATIONS.REGISTRATION_DATE, registration.getRegistrationDate())
                 .set(REGISTRATIONS.ACCOUNT_ID, registration.getAccountId())
+                .set(REGISTRATIONS.WAITLIST_POSITION, registration.getStatus() == RegistrationStatus.WAITLISTED
+                        ? DSL.coalesce(REGISTRATIONS.WAITLIST_POSITION, REGISTRATION_WAITLIST_SEQ.nextval())
+                        : DSL.castNull(Long.class))
                 .set(REGISTRATIONS.VERSION, registration.getVersion() + 1)
+                .from(previous)
                 .where(REGISTRATIONS.ID.eq(registration.getId()))
                 .and(REGISTRATIONS.VERSION.eq(registration.getVersion()))
-                .execute();
+                .and(REGISTRATIONS.SCOUT_ID.eq(registration.getScout().getId()))
+                .and(REGISTRATIONS.EVENT_ID.eq(registration.getEvent().getId()))
+                .and(previous.ID.eq(REGISTRATIONS.ID))
+                .returningResult(previous.STATUS)
+                .fetchOptional(previous.STATUS))
+                .orElseThrow(() -> new OptimisticLockingFailureException(
+                        "Registration was updated by another transaction"));
+        outbox.append(EntityType.REGISTRATION, ChangeType.UPDATED, registration.getId(), registration.getVersion() + 1);
+
+        return new RegistrationUpdate(registration.toBuilder()
+                .version(registration.getVersion() + 1)
+                .build(), RegistrationStatus.valueOf(previousStatus));
+    }
+
+    @Override
+    @Transactional
+    public List<Long> updateStatus(long eventId, RegistrationStatus fromStatus, RegistrationStatus toStatus) {
+        return updateStatusWhere(eventId, fromStatus, toStatus, DSL.noCondition());
+    }
 
-        if (updatedRows == 0) {
-            throw new OptimisticLockingFailureException("Registration was updated by another transaction");
+    @Override
+    @Transactional
+    public List<Long> updateStatus(long eventId, Collection<Long> ids,
+                                   RegistrationStatus fromStatus, RegistrationStatus toStatus) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        return updateStatusWhere(eventId, fromStatus, toStatus, REGISTRATIONS.ID.eq(DSL.any(IdLists.toArray(ids))));
+    }
 
-        return registration.toBuilder()
-                .version(registration.getVersion() + 1)
-                .build();
+    /**
+     * Changes the status of all matching registrations with one statement. The counter trigger sees all
+     * changed rows at once, so the seats are allocated and checked once for the whole update.
+     */
+    private List<Long> updateStatusWhere(long eventId, RegistrationStatus fromStatus, RegistrationStatus toStatus,
+                                         Condition condition) {
+        if (fromStatus == toStatus) {
+            return List.of();
+        }
+        Map<Long, Long> versionsById = new LinkedHashMap<>();
+        allocatingSeat(() -> dsl.update(REGISTRATIONS)
+                .set(REGISTRATIONS.STATUS, toStatus.name())
+                .set(REGISTRATIONS.WAITLIST_POSITION, toStatus == RegistrationStatus.WAITLISTED
+                        ? REGISTRATION_WAITLIST_SEQ.nextval()
+                        : DSL.castNull(Long.class))
+                .set(REGISTRATIONS.VERSION, REGISTRATIONS.VERSION.plus(1))
+                .where(REGISTRATIONS.EVENT_ID.eq(eventId))
+                .and(REGISTRATIONS.STATUS.eq(fromStatus.name()))
+                .and(condition)
+                .returningResult(REGISTRATIONS.ID, REGISTRATIONS.VERSION)
+                .fetch())
+                .forEach(row -> versionsById.put(row.value1(), row.value2()));
+
+        outbox.appendAll(EntityType.REGISTRATION, ChangeType.UPDATED, versionsById);
+        return List.copyOf(versionsById.keySet());
     }
 
     @Override
     @Transactional
     public void delete(long id) {
-        dsl.deleteFrom(REGISTRATIONS)
+        int deletedRows = dsl.deleteFrom(REGISTRATIONS)
                 .where(REGISTRATIONS.ID.eq(id))
                 .execute();
+
+        if (deletedRows > 0) {
+            outbox.append(EntityType.REGISTRATION, ChangeType.DELETED, id, null);
+        }
     }
 
     @Override
@@ -103,6 +293,24 @@ public class DbRegistrationRepository implements RegistrationRepository {
                 .findFirst();
     }
 
+    @Override
+    public Optional<Long> findEventIdById(long id) {
+        return dsl.select(REGISTRATIONS.EVENT_ID)
+                .from(REGISTRATIONS)
+                .where(REGISTRATIONS.ID.eq(id))
+                .fetchOptional(REGISTRATIONS.EVENT_ID);
+    }
+
+    @Override
+    public List<Registration> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return IdLists.inRequestOrder(ids,
+                findRegistrationsByCondition(REGISTRATIONS.ID.eq(DSL.any(IdLists.toArray(ids)))),
+                Registration::getId);
+    }
+
     @Override
     public List<Registration> findByEventId(long eventId) {
         return findRegistrationsByCondition(REGISTRATIONS.EVENT_ID.eq(eventId));
@@ -112,6 +320,34 @@ public class DbRegistrationRepository implements RegistrationRepository {
     public List<Registration> findByScoutId(long scoutId) {
         return findRegistrationsByCondition(REGISTRATIONS.SCOUT_ID.eq(scoutId));
     }
+
+    @Override
+    public List<RegistrationSummary> findByAccountId(String accountId, RegistrationSummary.Cursor after, int limit) {
+        // Scouts and events are joined by primary key for the names of the page only
+        return dsl.select(REGISTRATIONS.ID, REGISTRATIONS.VERSION, REGISTRATIONS.SCOUT_ID, SCOUTS.NAME,
+                        REGISTRATIONS.EVENT_ID, EVENTS.NAME, EVENTS.START_DATE, REGISTRATIONS.STATUS,
+                        REGISTRATIONS.REGISTRATION_DATE)
+                .from(REGISTRATIONS)
+                .join(SCOUTS).on(SCOUTS.ID.eq(REGISTRATIONS.SCOUT_ID))
+                .join(EVENTS).on(EVENTS.ID.eq(REGISTRATIONS.EVENT_ID))
+                .where(REGISTRATIONS.ACCOUNT_ID.eq(accountId))
+                .and(after == null
+                        ? DSL.noCondition()
+                        : DSL.row(REGISTRATIONS.REGISTRATION_DATE, REGISTRATIONS.ID)
+                                .lt(after.registrationDate(), after.id()))
+                .orderBy(REGISTRATIONS.REGISTRATION_DATE.desc(), REGISTRATIONS.ID.desc())
+                .limit(limit)
+                .fetch(r -> new RegistrationSummary(
+                        r.value1(),
+                        r.value2(),
+                        r.value3(),
+                        r.value4(),
+                        r.value5(),
+                        r.value6(),
+                        r.value7(),
+                        RegistrationStatus.valueOf(r.value8()),
+                        r.value9()));
+    }
     
     @Override
     public boolean existsByEventIdAndScoutId(long eventId, long scoutId) {
@@ -122,43 +358,139 @@ public class DbRegistrationRepository implements RegistrationRepository {
                 .fetchOne(0, Integer.class) > 0;
     }
 
-    private List<Registration> findRegistrationsByCondition(Condition condition) {
-        Result<Record> result = dsl.select()
+    @Override
+    public Map<RegistrationStatus, Long> countByEventId(long eventId) {
+        Map<RegistrationStatus, Long> counts = new EnumMap<>(RegistrationStatus.class);
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        dsl.select(REGISTRATION_COUNTS.STATUS, REGISTRATION_COUNTS.COUNT)
+                .from(REGISTRATION_COUNTS)
+                .where(REGISTRATION_COUNTS.EVENT_ID.eq(eventId))
+                .forEach(r -> counts.put(RegistrationStatus.valueOf(r.value1()), r.value2()));
+
+        return counts;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> promoteFromWaitlist(long eventId, int seats) {
+        if (seats <= 0) {
+            return List.of();
+        }
+
+        // Lock the confirmed counter while computing the free seats. This serializes promotions with
+        // concurrent confirmations of the same event, so the capacity check of the trigger cannot fail.
+        var counter = dsl.select(REGISTRATION_COUNTS.COUNT, EVENTS.CAPACITY)
+                .from(REGISTRATION_COUNTS)
+                .join(EVENTS).on(EVENTS.ID.eq(REGISTRATION_COUNTS.EVENT_ID))
+                .where(REGISTRATION_COUNTS.EVENT_ID.eq(eventId))
+                .and(REGISTRATION_COUNTS.STATUS.eq(RegistrationStatus.CONFIRMED.name()))
+                .forUpdate()
+                .of(REGISTRATION_COUNTS)
+                .fetchOptional();
+
+        if (counter.isEmpty()) {
+            return List.of();
+        }
+
+        Integer capacity = counter.get().value2();
+        long freeSeats = capacity == null
+                ? seats
+                : Math.min(seats, capacity - counter.get().value1());
+        if (freeSeats <= 0) {
+            return List.of();
+        }
+
+        // Head of the waitlist, found through the partial index. Entries locked by other
+        // transactions are skipped instead of waited for.
+        var nextInLine = dsl.select(REGISTRATIONS.ID)
                 .from(REGISTRATIONS)
-                .join(SCOUTS).on(REGISTRATIONS.SCOUT_ID.eq(SCOUTS.ID))
-                .join(EVENTS).on(REGISTRATIONS.EVENT_ID.eq(EVENTS.ID))
+                .where(REGISTRATIONS.EVENT_ID.eq(eventId))
+                .and(REGISTRATIONS.STATUS.eq(RegistrationStatus.WAITLISTED.name()))
+                .orderBy(REGISTRATIONS.WAITLIST_POSITION)
+                .limit(freeSeats)
+                .forUpdate()
+                .skipLocked();
+
+        Map<Long, Long> promoted = dsl.update(REGISTRATIONS)
+                .set(REGISTRATIONS.STATUS, RegistrationStatus.CONFIRMED.name())
+                .set(REGISTRATIONS.WAITLIST_POSITION, DSL.castNull(Long.class))
+                .set(REGISTRATIONS.VERSION, REGISTRATIONS.VERSION.plus(1))
+                .where(REGISTRATIONS.ID.in(nextInLine))
+                .returningResult(REGISTRATIONS.ID, REGISTRATIONS.VERSION)
+                .fetchMap(REGISTRATIONS.ID, REGISTRATIONS.VERSION);
+
+        outbox.appendAll(EntityType.REGISTRATION, ChangeType.UPDATED, promoted);
+        return List.copyOf(promoted.keySet());
+    }
+
+    private static Optional<RegistrationRejection> rejection(boolean scoutExists, boolean eventExists,
+                                                             boolean eligible, boolean registered) {
+        if (!scoutExists) {
+            return Optional.of(RegistrationRejection.SCOUT_NOT_FOUND);
+        }
+        if (!eventExists) {
+            return Optional.of(RegistrationRejection.EVENT_NOT_FOUND);
+        }
+        if (!eligible) {
+            return Optional.of(RegistrationRejection.NOT_ELIGIBLE);
+        }
+        return registered ? Optional.of(RegistrationRejection.ALREADY_REGISTERED) : Optional.empty();
+    }
+
+    /**
+     * Runs a write that may confirm a registration. Seats are allocated by the counter trigger, which
+     * raises a check violation on the capacity constraint if an event would be oversubscribed. The
+     * detail of the violation holds the id of that event.
+     */
+    private <T> T allocatingSeat(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMostSpecificCause() instanceof PSQLException psqlException
+                    && psqlException.getServerErrorMessage() != null
+                    && CAPACITY_CONSTRAINT.equals(psqlException.getServerErrorMessage().getConstraint())) {
+                long fullEventId = Long.parseLong(psqlException.getServerErrorMessage().getDetail());
+                throw new EventFullyBookedException(fullEventId, e);
+            }
+            throw e;
+        }
+    }
+
+    private List<Registration> findRegistrationsByCondition(Condition condition) {
+        var result = dsl.selectFrom(REGISTRATIONS)
                 .where(condition)
                 .orderBy(REGISTRATIONS.ID)
                 .fetch();
 
-        Map<Long, Registration> registrations = new HashMap<>();
+        // The scouts and events of all registrations are loaded with one query each
+        Map<Long, Scout> scouts = new HashMap<>();
+        scoutRepository.findAllByIds(result.getValues(REGISTRATIONS.SCOUT_ID).stream().distinct().toList())
+                .forEach(scout -> scouts.put(scout.getId(), scout));
+        Map<Long, Event> events = new HashMap<>();
+        eventRepository.findAllByIds(result.getValues(REGISTRATIONS.EVENT_ID).stream().distinct().toList())
+                .forEach(event -> events.put(event.getId(), event));
 
-        for (Record r : result) {
-            Long registrationId = r.get(REGISTRATIONS.ID);
-            
-            // If we already processed this registration, skip
-            if (registrations.containsKey(registrationId)) {
-                continue;
-            }
-            
-            // Fetch the complete scout and event objects
-            Scout scout = scoutRepository.findById(r.get(REGISTRATIONS.SCOUT_ID)).orElseThrow();
-            Event event = eventRepository.findById(r.get(REGISTRATIONS.EVENT_ID)).orElseThrow();
-
-            Registration registration = Registration.builder()
-                    .id(registrationId)
-                    .version(r.get(REGISTRATIONS.VERSION))
-                    .scout(scout)
-                    .event(event)
-                    .note(r.get(REGISTRATIONS.NOTE))
-                    .status(RegistrationStatus.valueOf(r.get(REGISTRATIONS.STATUS)))
-                    .registrationDate(r.get(REGISTRATIONS.REGISTRATION_DATE))
-                    .accountId(r.get(REGISTRATIONS.ACCOUNT_ID))
-                    .build();
-
-            registrations.put(registrationId, registration);
-        }
-
-        return registrations.values().stream().toList();
+        return result.stream()
+                .map(r -> Registration.builder()
+                        .id(r.getId())
+                        .version(r.getVersion())
+                        .scout(scouts.get(r.getScoutId()))
+                        .event(events.get(r.getEventId()))
+                        .note(r.getNote())
+                        .status(RegistrationStatus.valueOf(r.getStatus()))
+                        .registrationDate(r.getRegistrationDate())
+                        .accountId(r.getAccountId())
+                        .build())
+                .toList();
+    }
+
+    private record RegistrationKey(long scoutId, long eventId) {
+
+        static RegistrationKey of(Registration registration) {
+            return new RegistrationKey(registration.getScout().getId(), registration.getEvent().getId());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.persistence.ReportRepository;
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Events.EVENTS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Groups.GROUPS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.RegistrationCounts.REGISTRATION_COUNTS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Registrations.REGISTRATIONS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.ScoutGroups.SCOUT_GROUPS;
+
+/**
+ * Computes the reports with aggregate queries, which return one row per line of the report.
+ * Events are selected through the index on their dates, and registrations through the index on their event.
+ */
+@Repository
+public class DbReportRepository implements ReportRepository {
+
+    private static final String CONFIRMED = RegistrationStatus.CONFIRMED.name();
+
+    private final DSLContext dsl;
+
+    public DbReportRepository(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @Override
+    public List<GroupParticipation> findGroupParticipation(LocalDate from, LocalDate to) {
+        // A scout registered twice for an event still counts once
+        return dsl.select(EVENTS.ID, EVENTS.NAME, EVENTS.START_DATE, GROUPS.ID, GROUPS.NAME,
+                        DSL.countDistinct(REGISTRATIONS.SCOUT_ID))
+                .from(EVENTS)
+                .join(REGISTRATIONS).on(REGISTRATIONS.EVENT_ID.eq(EVENTS.ID))
+                .join(SCOUT_GROUPS).on(SCOUT_GROUPS.SCOUT_ID.eq(REGISTRATIONS.SCOUT_ID))
+                .join(GROUPS).on(GROUPS.ID.eq(SCOUT_GROUPS.GROUP_ID))
+                .where(startsBetween(from, to))
+                .and(REGISTRATIONS.STATUS.eq(CONFIRMED))
+                .groupBy(EVENTS.ID, GROUPS.ID)
+                .orderBy(EVENTS.START_DATE, EVENTS.ID, GROUPS.NAME, GROUPS.ID)
+                .fetch(r -> new GroupParticipation(r.value1(), r.value2(), r.value3(), r.value4(), r.value5(),
+                        r.value6()));
+    }
+
+    @Override
+    public List<ConfirmationRate> findConfirmationRates(LocalDate from, LocalDate to) {
+        // The counts are maintained by triggers on every registration write, so no registration is read
+        return dsl.select(EVENTS.ID, EVENTS.NAME, EVENTS.START_DATE,
+                        DSL.sum(REGISTRATION_COUNTS.COUNT),
+                        DSL.sum(REGISTRATION_COUNTS.COUNT).filterWhere(REGISTRATION_COUNTS.STATUS.eq(CONFIRMED)),
+                        DSL.sum(REGISTRATION_COUNTS.COUNT)
+                                .filterWhere(REGISTRATION_COUNTS.STATUS.eq(RegistrationStatus.CANCELLED.name())))
+                .from(EVENTS)
+                .leftJoin(REGISTRATION_COUNTS).on(REGISTRATION_COUNTS.EVENT_ID.eq(EVENTS.ID))
+                .where(startsBetween(from, to))
+                .groupBy(EVENTS.ID)
+                .orderBy(EVENTS.START_DATE, EVENTS.ID)
+                .fetch(r -> new ConfirmationRate(r.value1(), r.value2(), r.value3(), total(r.value4()),
+                        total(r.value5()), total(r.value6())));
+    }
+
+    @Override
+    public List<RepeatAttendance.Frequency> findAttendanceFrequencies(LocalDate previousFrom, LocalDate from,
+                                                                      LocalDate to) {
+        // One row per scout that attended an event in either period, then one row per number of events
+        var attendance = dsl.select(
+                        REGISTRATIONS.SCOUT_ID,
+                        DSL.countDistinct(REGISTRATIONS.EVENT_ID).filterWhere(EVENTS.START_DATE.ge(from))
+                                .as("events_attended"),
+                        DSL.boolOr(EVENTS.START_DATE.lt(from)).as("returning"))
+                .from(REGISTRATIONS)
+                .join(EVENTS).on(EVENTS.ID.eq(REGISTRATIONS.EVENT_ID))
+                .where(startsBetween(previousFrom, to))
+                .and(REGISTRATIONS.STATUS.eq(CONFIRMED))
+                .groupBy(REGISTRATIONS.SCOUT_ID)
+                .asTable("attendance");
+        Field<Integer> eventsAttended = attendance.field("events_attended", Integer.class);
+        Field<Boolean> returning = attendance.field("returning", Boolean.class);
+
+        return dsl.select(eventsAttended, DSL.count(), DSL.count().filterWhere(returning.isTrue()))
+                .from(attendance)
+                .where(eventsAttended.gt(0))
+                .groupBy(eventsAttended)
+                .orderBy(eventsAttended)
+                .fetch(r -> new RepeatAttendance.Frequency(r.value1(), r.value2(), r.value3()));
+    }
+
+    private static Condition startsBetween(LocalDate from, LocalDate to) {
+        return EVENTS.START_DATE.ge(from).and(EVENTS.START_DATE.lt(to));
+    }
+
+    private static long total(BigDecimal sum) {
+        return sum == null ? 0 : sum.longValue();
+    }
+}
@@ -1,18 +1,31 @@
 package name.alexkrauss.scouts.infrastructure.db;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
 import name.alexkrauss.scouts.domain.model.Contact;
 import name.alexkrauss.scouts.domain.model.Group;
 import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import name.alexkrauss.scouts.infrastructure.db.generated.Routines;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.JSONB;
+import org.jooq.OrderField;
 import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.impl.DSL;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Registrations.REGISTRATIONS;
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.ScoutContacts.SCOUT_CONTACTS;
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.ScoutGroups.SCOUT_GROUPS;
 import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Scouts.SCOUTS;
@@ -21,10 +34,20 @@ import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Groups.G
 @Repository
 public class DbScoutRepository implements ScoutRepository {
 
+    private static final TypeReference<List<Contact>> CONTACT_LIST = new TypeReference<>() {};
+
+    /**
+     * The stored form of the contacts must not change with the configuration of the REST responses,
+     * so it has a mapper of its own.
+     */
+    private static final ObjectMapper CONTACTS_MAPPER = new ObjectMapper();
+
     private final DSLContext dsl;
+    private final DbOutboxRepository outbox;
 
-    public DbScoutRepository(DSLContext dsl) {
+    public DbScoutRepository(DSLContext dsl, DbOutboxRepository outbox) {
         this.dsl = dsl;
+        this.outbox = outbox;
     }
 
     @Override
@@ -39,6 +62,7 @@ public class DbScoutRepository implements ScoutRepository {
                 .set(SCOUTS.ALLERGY_INFO, scout.getAllergyInfo())
                 .set(SCOUTS.VACCINATION_INFO, scout.getVaccinationInfo())
                 .set(SCOUTS.LAST_UPDATED, scout.getLastUpdated())
+                .set(SCOUTS.CONTACTS, toJson(scout.getContacts()))
                 .set(SCOUTS.VERSION, 0L)
                 .returning()
                 .fetchOne();
@@ -46,8 +70,9 @@ public class DbScoutRepository implements ScoutRepository {
         Objects.requireNonNull(record, "Scout not created");
 
         Long scoutId = record.getId();
-        insertContacts(scoutId, scout.getContacts());
+        writeLegacyContacts(scoutId, scout.getContacts());
         insertGroups(scoutId, scout.getGroups());
+        outbox.append(EntityType.SCOUT, ChangeType.CREATED, scoutId, 0L);
 
         return scout.toBuilder()
                 .id(scoutId)
@@ -67,6 +92,7 @@ public class DbScoutRepository implements ScoutRepository {
                 .set(SCOUTS.ALLERGY_INFO, scout.getAllergyInfo())
                 .set(SCOUTS.VACCINATION_INFO, scout.getVaccinationInfo())
                 .set(SCOUTS.LAST_UPDATED, scout.getLastUpdated())
+                .set(SCOUTS.CONTACTS, toJson(scout.getContacts()))
                 .set(SCOUTS.VERSION, scout.getVersion() + 1)
                 .where(SCOUTS.ID.eq(scout.getId()))
                 .and(SCOUTS.VERSION.eq(scout.getVersion()))
@@ -76,16 +102,13 @@ public class DbScoutRepository implements ScoutRepository {
             throw new OptimisticLockingFailureException("Scout was updated by another transaction");
         }
 
-        dsl.deleteFrom(SCOUT_CONTACTS)
-                .where(SCOUT_CONTACTS.SCOUT_ID.eq(scout.getId()))
-                .execute();
-
         dsl.deleteFrom(SCOUT_GROUPS)
                 .where(SCOUT_GROUPS.SCOUT_ID.eq(scout.getId()))
                 .execute();
 
-        insertContacts(scout.getId(), scout.getContacts());
+        writeLegacyContacts(scout.getId(), scout.getContacts());
         insertGroups(scout.getId(), scout.getGroups());
+        outbox.append(EntityType.SCOUT, ChangeType.UPDATED, scout.getId(), scout.getVersion() + 1);
 
         return scout.toBuilder()
                 .version(scout.getVersion() + 1)
@@ -95,11 +118,61 @@ public class DbScoutRepository implements ScoutRepository {
     @Override
     @Transactional
     public void delete(Long id) {
-        // group associations and contacts are deleted by cascade
+        // group associations and registrations are deleted by cascade
 
-        dsl.deleteFrom(SCOUTS)
+        int deletedRows = dsl.deleteFrom(SCOUTS)
                 .where(SCOUTS.ID.eq(id))
                 .execute();
+
+        if (deletedRows > 0) {
+            outbox.append(EntityType.SCOUT, ChangeType.DELETED, id, null);
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<Long> merge(long scoutId, long duplicateId) {
+        Long version = dsl.update(SCOUTS)
+                .set(SCOUTS.VERSION, SCOUTS.VERSION.plus(1))
+                .where(SCOUTS.ID.eq(scoutId))
+                .returningResult(SCOUTS.VERSION)
+                .fetchOptional(SCOUTS.VERSION)
+                .orElseThrow(() -> new OptimisticLockingFailureException("Scout was deleted by another transaction"));
+
+        var keptRegistrations = REGISTRATIONS.as("kept");
+        Map<Long, Long> movedRegistrations = new LinkedHashMap<>();
+        dsl.update(REGISTRATIONS)
+                .set(REGISTRATIONS.SCOUT_ID, scoutId)
+                .set(REGISTRATIONS.VERSION, REGISTRATIONS.VERSION.plus(1))
+                .where(REGISTRATIONS.SCOUT_ID.eq(duplicateId))
+                .andNotExists(dsl.selectOne()
+                        .from(keptRegistrations)
+                        .where(keptRegistrations.SCOUT_ID.eq(scoutId))
+                        .and(keptRegistrations.EVENT_ID.eq(REGISTRATIONS.EVENT_ID)))
+                .returningResult(REGISTRATIONS.ID, REGISTRATIONS.VERSION)
+                .fetch()
+                .forEach(row -> movedRegistrations.put(row.value1(), row.value2()));
+
+        dsl.insertInto(SCOUT_GROUPS, SCOUT_GROUPS.SCOUT_ID, SCOUT_GROUPS.GROUP_ID)
+                .select(dsl.select(DSL.val(scoutId), SCOUT_GROUPS.GROUP_ID)
+                        .from(SCOUT_GROUPS)
+                        .where(SCOUT_GROUPS.SCOUT_ID.eq(duplicateId)))
+                .onConflictDoNothing()
+                .execute();
+
+        // The registrations left are for events the kept scout attends already. They are deleted here
+        // rather than by the cascade, so that their deletion is recorded.
+        List<Long> droppedRegistrations = dsl.deleteFrom(REGISTRATIONS)
+                .where(REGISTRATIONS.SCOUT_ID.eq(duplicateId))
+                .returningResult(REGISTRATIONS.ID)
+                .fetch(REGISTRATIONS.ID);
+
+        outbox.appendAll(EntityType.REGISTRATION, ChangeType.UPDATED, movedRegistrations);
+        outbox.appendAll(EntityType.REGISTRATION, ChangeType.DELETED, droppedRegistrations, null);
+        outbox.append(EntityType.SCOUT, ChangeType.UPDATED, scoutId, version);
+        delete(duplicateId);
+
+        return List.copyOf(movedRegistrations.keySet());
     }
 
     @Override
@@ -109,6 +182,16 @@ public class DbScoutRepository implements ScoutRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<Scout> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return IdLists.inRequestOrder(ids,
+                findScoutsByCondition(SCOUTS.ID.eq(DSL.any(IdLists.toArray(ids)))),
+                Scout::getId);
+    }
+
     @Override
     public List<Scout> findAll() {
         return findScoutsByCondition(null);
@@ -119,7 +202,137 @@ public class DbScoutRepository implements ScoutRepository {
         return findScoutsByCondition(SCOUTS.NAME.eq(name));
     }
 
-    private void insertContacts(Long scoutId, List<Contact> contacts) {
+    @Override
+    public List<Scout> findByContactEmail(String email) {
+        String normalized = Contact.normalizeEmail(email);
+        return findByContact(
+                Routines.normalizedContactEmails(SCOUTS.CONTACTS).contains(new String[] {normalized}),
+                Routines.normalizeEmail(SCOUT_CONTACTS.EMAIL).eq(normalized));
+    }
+
+    @Override
+    public List<Scout> findByContactPhone(String phoneNumber) {
+        String normalized = Contact.normalizePhoneNumber(phoneNumber);
+        return findByContact(
+                Routines.normalizedContactPhoneNumbers(SCOUTS.CONTACTS).contains(new String[] {normalized}),
+                Routines.normalizePhoneNumber(SCOUT_CONTACTS.PHONE_NUMBER).eq(normalized));
+    }
+
+    /**
+     * Finds the scouts with a matching contact in the JSON column or, for scouts last saved by an older
+     * instance, in the scout_contacts table. Both branches are served by the expression indexes on the
+     * normalized values.
+     */
+    private List<Scout> findByContact(Condition jsonMatch, Condition legacyMatch) {
+        var legacyScouts = SCOUTS.as("legacy_scouts");
+        return findScoutsByCondition(
+                SCOUTS.ID.in(dsl.select(SCOUTS.ID)
+                        .from(SCOUTS)
+                        .where(jsonMatch)
+                        .union(dsl.select(SCOUT_CONTACTS.SCOUT_ID)
+                                .from(SCOUT_CONTACTS)
+                                .join(legacyScouts).on(legacyScouts.ID.eq(SCOUT_CONTACTS.SCOUT_ID))
+                                .where(legacyMatch)
+                                .and(legacyScouts.CONTACTS.isNull()))),
+                SCOUTS.NAME, SCOUTS.ID);
+    }
+
+    @Override
+    public List<Scout> findByGroupId(long groupId) {
+        // A semi-join, so that the outer join still loads all groups of each member
+        var members = SCOUT_GROUPS.as("members");
+        return findScoutsByCondition(
+                SCOUTS.ID.in(dsl.select(members.SCOUT_ID)
+                        .from(members)
+                        .where(members.GROUP_ID.eq(groupId))),
+                SCOUTS.NAME, SCOUTS.ID);
+    }
+
+    @Override
+    public List<ScoutSummary> findSummariesByGroupId(long groupId) {
+        return dsl.select(SCOUTS.ID, SCOUTS.VERSION, SCOUTS.NAME, SCOUTS.BIRTH_DATE)
+                .from(SCOUT_GROUPS)
+                .join(SCOUTS).on(SCOUTS.ID.eq(SCOUT_GROUPS.SCOUT_ID))
+                .where(SCOUT_GROUPS.GROUP_ID.eq(groupId))
+                .orderBy(SCOUTS.NAME, SCOUTS.ID)
+                .fetch(r -> new ScoutSummary(r.value1(), r.value2(), r.value3(), r.value4()));
+    }
+
+    @Override
+    public List<ScoutSummary> findAllSummaries() {
+        return dsl.select(SCOUTS.ID, SCOUTS.VERSION, SCOUTS.NAME, SCOUTS.BIRTH_DATE)
+                .from(SCOUTS)
+                .orderBy(SCOUTS.NAME, SCOUTS.ID)
+                .fetch(r -> new ScoutSummary(r.value1(), r.value2(), r.value3(), r.value4()));
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findAllGroupIds() {
+        Map<Long, Set<Long>> groupIds = new HashMap<>();
+        dsl.select(SCOUTS.ID, SCOUT_GROUPS.GROUP_ID)
+                .from(SCOUTS)
+                .leftJoin(SCOUT_GROUPS).on(SCOUT_GROUPS.SCOUT_ID.eq(SCOUTS.ID))
+                .forEach(r -> {
+                    Set<Long> groups = groupIds.computeIfAbsent(r.value1(), id -> new HashSet<>());
+                    if (r.value2() != null) {
+                        groups.add(r.value2());
+                    }
+                });
+        return groupIds;
+    }
+
+    private JSONB toJson(List<Contact> contacts) {
+        try {
+            return JSONB.valueOf(CONTACTS_MAPPER.writeValueAsString(contacts));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Contacts cannot be written as JSON", e);
+        }
+    }
+
+    private List<Contact> fromJson(Long scoutId, JSONB contacts) {
+        try {
+            return CONTACTS_MAPPER.readValue(contacts.data(), CONTACT_LIST);
+        } catch (JsonProcessingException e) {
+            throw new DataRetrievalFailureException("Contacts of scout " + scoutId + " cannot be read", e);
+        }
+    }
+
+    /**
+     * Loads the contacts of scouts that were last saved by an instance still writing the scout_contacts table.
+     * Only needed until that table is dropped.
+     */
+    private Map<Long, List<Contact>> findLegacyContacts(Collection<Long> scoutIds) {
+        Map<Long, List<Contact>> contacts = new HashMap<>();
+        if (scoutIds.isEmpty()) {
+            return contacts;
+        }
+        dsl.selectFrom(SCOUT_CONTACTS)
+                .where(SCOUT_CONTACTS.SCOUT_ID.in(scoutIds))
+                .orderBy(SCOUT_CONTACTS.SCOUT_ID, SCOUT_CONTACTS.CONTACT_ORDER)
+                .forEach(r -> contacts.computeIfAbsent(r.getScoutId(), k -> new ArrayList<>())
+                        .add(Contact.builder()
+                                .name(r.getName())
+                                .phoneNumber(r.getPhoneNumber())
+                                .email(r.getEmail())
+                                .relationship(r.getRelationship())
+                                .build()));
+        return contacts;
+    }
+
+    /**
+     * Replaces the rows of a scout in the scout_contacts table, which instances that have not been updated
+     * still read. Only needed until that table is dropped.
+     * The transaction is marked first, so that the trigger keeps the contacts on the scout row.
+     */
+    private void writeLegacyContacts(Long scoutId, List<Contact> contacts) {
+        dsl.select(DSL.function("set_config", String.class,
+                        DSL.inline("scouts.contacts_json_write"), DSL.inline("on"), DSL.inline(true)))
+                .fetch();
+
+        dsl.deleteFrom(SCOUT_CONTACTS)
+                .where(SCOUT_CONTACTS.SCOUT_ID.eq(scoutId))
+                .execute();
+
         for (int i = 0; i < contacts.size(); i++) {
             Contact contact = contacts.get(i);
             dsl.insertInto(SCOUT_CONTACTS)
@@ -143,9 +356,12 @@ public class DbScoutRepository implements ScoutRepository {
     }
 
     private List<Scout> findScoutsByCondition(org.jooq.Condition condition) {
+        return findScoutsByCondition(condition, SCOUTS.ID);
+    }
+
+    private List<Scout> findScoutsByCondition(org.jooq.Condition condition, OrderField<?>... order) {
         var query = dsl.select()
                 .from(SCOUTS)
-                .leftJoin(SCOUT_CONTACTS).on(SCOUTS.ID.eq(SCOUT_CONTACTS.SCOUT_ID))
                 .leftJoin(SCOUT_GROUPS).on(SCOUTS.ID.eq(SCOUT_GROUPS.SCOUT_ID))
                 .leftJoin(GROUPS).on(SCOUT_GROUPS.GROUP_ID.eq(GROUPS.ID));
 
@@ -153,11 +369,13 @@ public class DbScoutRepository implements ScoutRepository {
             query.where(condition);
         }
 
-        Result<Record> result = query.orderBy(SCOUTS.ID, SCOUT_CONTACTS.CONTACT_ORDER).fetch();
+        Result<Record> result = query.orderBy(order).fetch();
 
-        Map<Long, Scout.ScoutBuilder> scoutBuilders = new HashMap<>();
+        Map<Long, Scout.ScoutBuilder> scoutBuilders = new LinkedHashMap<>();
         Map<Long, List<Contact>> contacts = new HashMap<>();
+        Set<Long> withoutJsonContacts = new HashSet<>();
         Map<Long, Set<Group>> groups = new HashMap<>();
+        GroupInterner groupInterner = new GroupInterner();
 
         for (Record r : result) {
             Long scoutId = r.get(SCOUTS.ID);
@@ -174,30 +392,27 @@ public class DbScoutRepository implements ScoutRepository {
                     .vaccinationInfo(r.get(SCOUTS.VACCINATION_INFO))
                     .lastUpdated(r.get(SCOUTS.LAST_UPDATED)));
 
-            if (r.get(SCOUT_CONTACTS.SCOUT_ID) != null) {
-                contacts.computeIfAbsent(scoutId, k -> new ArrayList<>())
-                        .add(Contact.builder()
-                                .name(r.get(SCOUT_CONTACTS.NAME))
-                                .phoneNumber(r.get(SCOUT_CONTACTS.PHONE_NUMBER))
-                                .email(r.get(SCOUT_CONTACTS.EMAIL))
-                                .relationship(r.get(SCOUT_CONTACTS.RELATIONSHIP))
-                                .build());
+            if (!contacts.containsKey(scoutId) && !withoutJsonContacts.contains(scoutId)) {
+                JSONB json = r.get(SCOUTS.CONTACTS);
+                if (json != null) {
+                    contacts.put(scoutId, fromJson(scoutId, json));
+                } else {
+                    withoutJsonContacts.add(scoutId);
+                }
             }
 
             if (r.get(GROUPS.ID) != null) {
                 groups.computeIfAbsent(scoutId, k -> new HashSet<>())
-                        .add(Group.builder()
-                                .id(r.get(GROUPS.ID))
-                                .version(r.get(GROUPS.VERSION))
-                                .name(r.get(GROUPS.NAME))
-                                .build());
+                        .add(groupInterner.intern(r.get(GROUPS.ID), r.get(GROUPS.VERSION), r.get(GROUPS.NAME)));
             }
         }
 
+        contacts.putAll(findLegacyContacts(withoutJsonContacts));
+
         return scoutBuilders.entrySet().stream()
                 .map(entry -> entry.getValue()
-                        .contacts(contacts.getOrDefault(entry.getKey(), new ArrayList<>()))
-                        .groups(groups.getOrDefault(entry.getKey(), new HashSet<>()))
+                        .contacts(contacts.getOrDefault(entry.getKey(), List.of()))
+                        .groups(groups.getOrDefault(entry.getKey(), Set.of()))
                         .build())
                 .toList();
     }
@@ -0,0 +1,35 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.domain.model.Group;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out a single Group instance per id and version within one load.
+ *
+ * Joined queries return the same group on many rows. Mapping each row to its own Group would leave
+ * a large list of scouts or events holding many copies of the few groups there are.
+ */
+final class GroupInterner {
+
+    private final Map<GroupKey, Group> groups = new HashMap<>();
+
+    /**
+     * Returns the group with the given state, creating it on first use.
+     *
+     * @param id the id of the group
+     * @param version the version of the group
+     * @param name the name of the group
+     * @return the shared instance
+     */
+    Group intern(long id, long version, String name) {
+        return groups.computeIfAbsent(new GroupKey(id, version), key -> Group.builder()
+                .id(id)
+                .version(version)
+                .name(name)
+                .build());
+    }
+
+    private record GroupKey(long id, long version) {}
+}
@@ -0,0 +1,43 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Helpers for loading entities by a list of ids with a single {@code id = ANY(?)} query.
+ */
+final class IdLists {
+
+    private IdLists() {
+    }
+
+    /**
+     * Converts ids into an array, so that the query binds one array parameter however many ids there are.
+     */
+    static Long[] toArray(Collection<Long> ids) {
+        return ids.toArray(Long[]::new);
+    }
+
+    /**
+     * Orders loaded entities like the requested ids. Ids without an entity are skipped, and an id that
+     * was requested more than once is returned at its first position only.
+     *
+     * @param ids the requested ids
+     * @param found the loaded entities, in any order
+     * @param idOf extracts the id of an entity
+     * @return the entities in request order
+     */
+    static <T> List<T> inRequestOrder(Collection<Long> ids, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        found.forEach(entity -> byId.put(idOf.apply(entity), entity));
+        return ids.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
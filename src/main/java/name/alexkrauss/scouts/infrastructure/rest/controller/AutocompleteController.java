@@ -0,0 +1,37 @@
+package name.alexkrauss.scouts.infrastructure.rest.controller;
+
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService;
+import name.alexkrauss.scouts.infrastructure.rest.api.AutocompleteApi;
+import name.alexkrauss.scouts.infrastructure.rest.model.Suggestion;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class AutocompleteController implements AutocompleteApi {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    @Override
+    public ResponseEntity<List<Suggestion>> autocomplete(String q, Integer limit) {
+        var suggestions = autocompleteService.suggest(q, limit == null ? DEFAULT_LIMIT : limit).stream()
+                .map(this::mapToApiSuggestion)
+                .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+    private Suggestion mapToApiSuggestion(AutocompleteService.Suggestion suggestion) {
+        var apiSuggestion = new Suggestion();
+        apiSuggestion.setType(Suggestion.TypeEnum.fromValue(suggestion.type().name()));
+        apiSuggestion.setId(suggestion.id());
+        apiSuggestion.setLabel(suggestion.label());
+        return apiSuggestion;
+    }
+}
@@ -0,0 +1,105 @@
+package name.alexkrauss.scouts.infrastructure.rest.controller;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Builds and compares the entity tags used for conditional requests.
+ *
+ * Tags are derived from the version column, so they can be checked without loading an aggregate.
+ * Single resources are tagged as {@code "<type>-<id>-<version>"}, collections as
+ * {@code "<type>-<fingerprint>"}.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Tag of a single resource.
+     */
+    static String of(String type, long id, long version) {
+        return "\"" + type + "-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Tag of a collection, given a fingerprint over the versions of its members.
+     */
+    static String ofCollection(String type, String fingerprint) {
+        return "\"" + type + "-" + fingerprint + "\"";
+    }
+
+    /**
+     * Checks an If-None-Match header against the current tag, using weak comparison as required
+     * for If-None-Match.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param etag the current tag
+     * @return true if the client's copy is still current
+     */
+    static boolean matchesNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::strip)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+
+    /**
+     * Determines the version to update from an If-Match header, using strong comparison as required for If-Match.
+     *
+     * The header may list several tags. {@code *} matches whenever the resource exists, so the current version
+     * is updated then. The current version is also read if the list names several versions of this resource,
+     * to pick the one that is still current. A single tag of this resource is used without reading.
+     *
+     * @param ifMatch the header value
+     * @param type the resource type the tag must belong to
+     * @param id the id the tag must belong to
+     * @param currentVersion reads the current version of the resource, empty if it does not exist
+     * @return the version to update, or empty if the header matches no current version of this resource
+     */
+    static OptionalLong versionFromIfMatch(String ifMatch, String type, long id,
+                                           Supplier<Optional<Long>> currentVersion) {
+        List<String> tags = Arrays.stream(ifMatch.split(","))
+                .map(String::strip)
+                .toList();
+        if (tags.contains("*")) {
+            return currentVersion.get().map(OptionalLong::of).orElse(OptionalLong.empty());
+        }
+
+        String prefix = "\"" + type + "-" + id + "-";
+        Set<Long> versions = tags.stream()
+                .map(tag -> versionOf(tag, prefix))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        if (versions.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        if (versions.size() == 1) {
+            return OptionalLong.of(versions.iterator().next());
+        }
+        return currentVersion.get()
+                .filter(versions::contains)
+                .map(OptionalLong::of)
+                .orElse(OptionalLong.empty());
+    }
+
+    private static Optional<Long> versionOf(String tag, String prefix) {
+        // Weak tags start with W/ and therefore never match the prefix, as strong comparison requires
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package name.alexkrauss.scouts.infrastructure.rest.controller;
+
+import name.alexkrauss.scouts.application.ports.api.EventManagementService;
+import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
+import name.alexkrauss.scouts.domain.model.EventSummary;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.infrastructure.rest.api.EventsApi;
+import name.alexkrauss.scouts.infrastructure.rest.model.Event;
+import name.alexkrauss.scouts.infrastructure.rest.model.EventListItem;
+import name.alexkrauss.scouts.infrastructure.rest.model.EventPage;
+import name.alexkrauss.scouts.infrastructure.rest.model.RegistrationCounts;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+public class EventsController implements EventsApi {
+
+    private static final int DEFAULT_UPCOMING_LIMIT = 10;
+
+    private static final Set<String> ALWAYS_INCLUDED_PROPERTIES = Set.of("id", "version");
+
+    private static final Map<String, EventSummary.Field> FIELDS_BY_PROPERTY = Map.of(
+            "name", EventSummary.Field.NAME,
+            "startDate", EventSummary.Field.START_DATE,
+            "endDate", EventSummary.Field.END_DATE,
+            "meetingPoint", EventSummary.Field.MEETING_POINT,
+            "location", EventSummary.Field.LOCATION,
+            "cost", EventSummary.Field.COST,
+            "capacity", EventSummary.Field.CAPACITY,
+            "participatingGroupIds", EventSummary.Field.PARTICIPATING_GROUP_IDS);
+
+    private final EventManagementService eventManagementService;
+    private final RegistrationManagementService registrationManagementService;
+
+    public EventsController(EventManagementService eventManagementService,
+                            RegistrationManagementService registrationManagementService) {
+        this.eventManagementService = eventManagementService;
+        this.registrationManagementService = registrationManagementService;
+    }
+
+    @Override
+    public ResponseEntity<List<EventListItem>> getEventsInDateRange(LocalDate from, LocalDate to, List<String> fields) {
+        Optional<Set<EventSummary.Field>> requestedFields = parseFields(fields);
+        if (to.isBefore(from) || requestedFields.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        var events = eventManagementService.getEventsInDateRange(from, to, requestedFields.get()).stream()
+                .map(summary -> mapToApiEvent(summary, requestedFields.get()))
+                .toList();
+        return ResponseEntity.ok(events);
+    }
+
+    @Override
+    public ResponseEntity<List<EventListItem>> getUpcomingEvents(Integer limit, List<String> fields) {
+        Optional<Set<EventSummary.Field>> requestedFields = parseFields(fields);
+        if (requestedFields.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        var events = eventManagementService.getUpcomingEvents(limit == null ? DEFAULT_UPCOMING_LIMIT : limit,
+                        requestedFields.get()).stream()
+                .map(summary -> mapToApiEvent(summary, requestedFields.get()))
+                .toList();
+        return ResponseEntity.ok(events);
+    }
+
+    @Override
+    public ResponseEntity<EventPage> getEventPage(Long id) {
+        return eventManagementService.getEventPage(id)
+                .map(page -> ResponseEntity.ok(mapToApiEventPage(page)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Override
+    public ResponseEntity<RegistrationCounts> getRegistrationCounts(Long id) {
+        return ResponseEntity.ok(mapToApiCounts(id, registrationManagementService.getRegistrationCounts(id)));
+    }
+
+    @Override
+    public ResponseEntity<List<Long>> getEligibleScoutIds(Long id) {
+        return ResponseEntity.ok(registrationManagementService.getEligibleScoutIds(id));
+    }
+
+    private RegistrationCounts mapToApiCounts(Long eventId, Map<RegistrationStatus, Long> counts) {
+        var apiCounts = new RegistrationCounts();
+        apiCounts.setEventId(eventId);
+        apiCounts.setPending(counts.get(RegistrationStatus.PENDING));
+        apiCounts.setConfirmed(counts.get(RegistrationStatus.CONFIRMED));
+        apiCounts.setCancelled(counts.get(RegistrationStatus.CANCELLED));
+        apiCounts.setWaitlisted(counts.get(RegistrationStatus.WAITLISTED));
+        return apiCounts;
+    }
+
+    private EventPage mapToApiEventPage(name.alexkrauss.scouts.domain.model.EventPage page) {
+        var event = page.event();
+
+        var apiEvent = new Event();
+        apiEvent.setId(event.getId());
+        apiEvent.setVersion(event.getVersion());
+        apiEvent.setName(event.getName());
+        apiEvent.setStartDate(event.getStartDate());
+        apiEvent.setEndDate(event.getEndDate());
+        apiEvent.setMeetingPoint(event.getMeetingPoint());
+        apiEvent.setLocation(event.getLocation());
+        apiEvent.setCost(event.getCost());
+        apiEvent.setAdditionalInfo(event.getAdditionalInfo());
+        apiEvent.setCapacity(event.getCapacity().orElse(null));
+        apiEvent.setParticipatingGroupIds(event.getParticipatingGroups().stream()
+                .map(Group::getId)
+                .sorted()
+                .toList());
+
+        var apiPage = new EventPage();
+        apiPage.setEvent(apiEvent);
+        apiPage.setGroups(event.getParticipatingGroups().stream()
+                .sorted(Comparator.comparing(Group::getName))
+                .map(group -> {
+                    var apiGroup = new name.alexkrauss.scouts.infrastructure.rest.model.Group();
+                    apiGroup.setId(group.getId());
+                    apiGroup.setVersion(group.getVersion());
+                    apiGroup.setName(group.getName());
+                    return apiGroup;
+                })
+                .toList());
+        apiPage.setRegistrationCounts(mapToApiCounts(event.getId(), page.registrationCounts()));
+        apiPage.setParticipants(page.participantNames());
+        return apiPage;
+    }
+
+    /**
+     * Translates the property names of a fields parameter. All fields are requested if it is absent.
+     *
+     * @return the requested fields, or empty if a property is unknown
+     */
+    private static Optional<Set<EventSummary.Field>> parseFields(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return Optional.of(EnumSet.allOf(EventSummary.Field.class));
+        }
+        Set<EventSummary.Field> result = EnumSet.noneOf(EventSummary.Field.class);
+        for (String property : fields) {
+            if (ALWAYS_INCLUDED_PROPERTIES.contains(property)) {
+                continue;
+            }
+            EventSummary.Field field = FIELDS_BY_PROPERTY.get(property);
+            if (field == null) {
+                return Optional.empty();
+            }
+            result.add(field);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Maps an event of a list. Fields that were not requested are null, and the list item leaves them out.
+     */
+    private EventListItem mapToApiEvent(EventSummary summary, Set<EventSummary.Field> fields) {
+        var apiEvent = new EventListItem();
+        apiEvent.setId(summary.id());
+        apiEvent.setVersion(summary.version());
+        apiEvent.setName(summary.name());
+        apiEvent.setStartDate(summary.startDate());
+        apiEvent.setEndDate(summary.endDate());
+        apiEvent.setMeetingPoint(summary.meetingPoint());
+        apiEvent.setLocation(summary.location());
+        apiEvent.setCost(summary.cost());
+        apiEvent.setCapacity(summary.capacity().orElse(null));
+        if (fields.contains(EventSummary.Field.PARTICIPATING_GROUP_IDS)) {
+            apiEvent.setParticipatingGroupIds(summary.participatingGroupIds().stream()
+                    .sorted()
+                    .toList());
+        } else {
+            apiEvent.setParticipatingGroupIds(null);
+        }
+        return apiEvent;
+    }
+}
@@ -1,9 +1,13 @@
 package name.alexkrauss.scouts.infrastructure.rest.controller;
 
 import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
 import name.alexkrauss.scouts.infrastructure.rest.api.GroupsApi;
 import name.alexkrauss.scouts.infrastructure.rest.model.Group;
 import name.alexkrauss.scouts.infrastructure.rest.model.GroupRequest;
+import name.alexkrauss.scouts.infrastructure.rest.model.ScoutSummary;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,10 +17,17 @@ import java.util.stream.Collectors;
 @RestController
 public class GroupsController implements GroupsApi {
 
+    private static final String RESOURCE_TYPE = "group";
+    private static final String COLLECTION_TYPE = "groups";
+    private static final int MAX_BULK_IDS = 100;
+
     private final GroupManagementService groupManagementService;
+    private final ScoutManagementService scoutManagementService;
 
-    public GroupsController(GroupManagementService groupManagementService) {
+    public GroupsController(GroupManagementService groupManagementService,
+                            ScoutManagementService scoutManagementService) {
         this.groupManagementService = groupManagementService;
+        this.scoutManagementService = scoutManagementService;
     }
 
     @Override
@@ -36,29 +47,102 @@ public class GroupsController implements GroupsApi {
     }
 
     @Override
-    public ResponseEntity<List<Group>> getAllGroups() {
+    public ResponseEntity<List<Group>> getAllGroups(String ifNoneMatch, List<Long> ids) {
+        if (ids != null) {
+            return getGroupsByIds(ids);
+        }
+
+        // The fingerprint is taken before loading, so a concurrent write at worst causes one more full response.
+        var etag = ETags.ofCollection(COLLECTION_TYPE, groupManagementService.getGroupsFingerprint());
+        if (ETags.matchesNoneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         var groups = groupManagementService.getAllGroups().stream()
                 .map(this::mapToApiGroup)
                 .collect(Collectors.toList());
+        return ResponseEntity.ok().eTag(etag).body(groups);
+    }
+
+    private ResponseEntity<List<Group>> getGroupsByIds(List<Long> ids) {
+        if (ids.size() > MAX_BULK_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        var groups = groupManagementService.getGroupsByIds(ids).stream()
+                .map(this::mapToApiGroup)
+                .toList();
         return ResponseEntity.ok(groups);
     }
 
     @Override
-    public ResponseEntity<Group> getGroup(Long id) {
+    public ResponseEntity<Group> getGroup(Long id, String ifNoneMatch) {
+        var version = groupManagementService.getGroupVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        var etag = ETags.of(RESOURCE_TYPE, id, version.get());
+        if (ETags.matchesNoneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         return groupManagementService.getGroup(id)
-                .map(group -> ResponseEntity.ok(mapToApiGroup(group)))
+                .map(group -> ResponseEntity.ok()
+                        .eTag(ETags.of(RESOURCE_TYPE, group.getId(), group.getVersion()))
+                        .body(mapToApiGroup(group)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @Override
-    public ResponseEntity<Group> updateGroup(Long id, GroupRequest groupRequest) {
+    public ResponseEntity<Group> updateGroup(Long id, GroupRequest groupRequest, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+        var version = ETags.versionFromIfMatch(ifMatch, RESOURCE_TYPE, id,
+                () -> groupManagementService.getGroupVersion(id));
+        if (version.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+
         var domainGroup = name.alexkrauss.scouts.domain.model.Group.builder()
                 .id(id)
+                .version(version.getAsLong())
                 .name(groupRequest.getName())
                 .build();
 
-        var updatedGroup = groupManagementService.updateGroup(domainGroup);
-        return ResponseEntity.ok(mapToApiGroup(updatedGroup));
+        try {
+            var updatedGroup = groupManagementService.updateGroup(domainGroup);
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(RESOURCE_TYPE, updatedGroup.getId(), updatedGroup.getVersion()))
+                    .body(mapToApiGroup(updatedGroup));
+        } catch (OptimisticLockingFailureException e) {
+            // Only a failed update pays for telling a missing group apart from a stale version
+            var status = groupManagementService.getGroupVersion(id).isPresent()
+                    ? HttpStatus.PRECONDITION_FAILED
+                    : HttpStatus.NOT_FOUND;
+            return ResponseEntity.status(status).build();
+        }
+    }
+
+    @Override
+    public ResponseEntity<List<ScoutSummary>> getGroupRoster(Long id) {
+        try {
+            var roster = scoutManagementService.getGroupRoster(id).stream()
+                    .map(this::mapToApiScoutSummary)
+                    .toList();
+            return ResponseEntity.ok(roster);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    private ScoutSummary mapToApiScoutSummary(name.alexkrauss.scouts.domain.model.ScoutSummary summary) {
+        var apiSummary = new ScoutSummary();
+        apiSummary.setId(summary.id());
+        apiSummary.setVersion(summary.version());
+        apiSummary.setName(summary.name());
+        apiSummary.setBirthDate(summary.birthDate());
+        return apiSummary;
     }
 
     private Group mapToApiGroup(name.alexkrauss.scouts.domain.model.Group domainGroup) {
@@ -0,0 +1,96 @@
+package name.alexkrauss.scouts.infrastructure.rest.controller;
+
+import name.alexkrauss.scouts.application.ports.api.ReportingService;
+import name.alexkrauss.scouts.infrastructure.rest.api.ReportsApi;
+import name.alexkrauss.scouts.infrastructure.rest.model.AttendanceFrequency;
+import name.alexkrauss.scouts.infrastructure.rest.model.ConfirmationRate;
+import name.alexkrauss.scouts.infrastructure.rest.model.GroupParticipation;
+import name.alexkrauss.scouts.infrastructure.rest.model.RepeatAttendance;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class ReportsController implements ReportsApi {
+
+    private final ReportingService reportingService;
+
+    public ReportsController(ReportingService reportingService) {
+        this.reportingService = reportingService;
+    }
+
+    @Override
+    public ResponseEntity<List<GroupParticipation>> getGroupParticipation(Integer year) {
+        try {
+            var report = reportingService.getGroupParticipation(year).stream()
+                    .map(this::mapToApiGroupParticipation)
+                    .toList();
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Override
+    public ResponseEntity<List<ConfirmationRate>> getConfirmationRates(Integer year) {
+        try {
+            var report = reportingService.getConfirmationRates(year).stream()
+                    .map(this::mapToApiConfirmationRate)
+                    .toList();
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Override
+    public ResponseEntity<RepeatAttendance> getRepeatAttendance(Integer year) {
+        try {
+            return ResponseEntity.ok(mapToApiRepeatAttendance(reportingService.getRepeatAttendance(year)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private GroupParticipation mapToApiGroupParticipation(
+            name.alexkrauss.scouts.domain.model.GroupParticipation participation) {
+        var apiParticipation = new GroupParticipation();
+        apiParticipation.setEventId(participation.eventId());
+        apiParticipation.setEventName(participation.eventName());
+        apiParticipation.setEventStartDate(participation.eventStartDate());
+        apiParticipation.setGroupId(participation.groupId());
+        apiParticipation.setGroupName(participation.groupName());
+        apiParticipation.setParticipants(participation.participants());
+        return apiParticipation;
+    }
+
+    private ConfirmationRate mapToApiConfirmationRate(name.alexkrauss.scouts.domain.model.ConfirmationRate rate) {
+        var apiRate = new ConfirmationRate();
+        apiRate.setEventId(rate.eventId());
+        apiRate.setEventName(rate.eventName());
+        apiRate.setEventStartDate(rate.eventStartDate());
+        apiRate.setRegistrations(rate.registrations());
+        apiRate.setConfirmed(rate.confirmed());
+        apiRate.setCancelled(rate.cancelled());
+        apiRate.setRate(rate.rate());
+        return apiRate;
+    }
+
+    private RepeatAttendance mapToApiRepeatAttendance(name.alexkrauss.scouts.domain.model.RepeatAttendance attendance) {
+        var apiAttendance = new RepeatAttendance();
+        apiAttendance.setYear(attendance.year());
+        apiAttendance.setParticipants(attendance.participants());
+        apiAttendance.setReturningParticipants(attendance.returningParticipants());
+        apiAttendance.setFrequencies(attendance.frequencies().stream()
+                .map(frequency -> {
+                    var apiFrequency = new AttendanceFrequency();
+                    apiFrequency.setEventsAttended(frequency.eventsAttended());
+                    apiFrequency.setScouts(frequency.scouts());
+                    apiFrequency.setReturningScouts(frequency.returningScouts());
+                    return apiFrequency;
+                })
+                .toList());
+        return apiAttendance;
+    }
+}
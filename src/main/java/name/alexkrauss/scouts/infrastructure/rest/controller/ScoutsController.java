@@ -0,0 +1,23 @@
+package name.alexkrauss.scouts.infrastructure.rest.controller;
+
+import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
+import name.alexkrauss.scouts.infrastructure.rest.api.ScoutsApi;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class ScoutsController implements ScoutsApi {
+
+    private final RegistrationManagementService registrationManagementService;
+
+    public ScoutsController(RegistrationManagementService registrationManagementService) {
+        this.registrationManagementService = registrationManagementService;
+    }
+
+    @Override
+    public ResponseEntity<List<Long>> getOpenEventIds(Long id) {
+        return ResponseEntity.ok(registrationManagementService.getEventIdsOpenTo(id));
+    }
+}
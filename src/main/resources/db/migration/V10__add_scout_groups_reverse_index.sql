@@ -0,0 +1,2 @@
+-- The primary key (scout_id, group_id) serves lookups by scout. This index serves the members of a group.
+CREATE INDEX idx_scout_groups_group_id ON scout_groups (group_id, scout_id);
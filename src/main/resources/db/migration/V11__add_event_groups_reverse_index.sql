@@ -0,0 +1,2 @@
+-- The primary key (event_id, group_id) serves lookups by event. This index serves the events of a group.
+CREATE INDEX idx_event_groups_group_id ON event_groups (group_id, event_id);
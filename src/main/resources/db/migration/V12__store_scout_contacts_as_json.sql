@@ -0,0 +1,33 @@
+-- Contacts are always read and written together with their scout, so they are stored as an ordered
+-- JSON array on the scout row. Reading a scout needs no join, and writing one touches a single row.
+ALTER TABLE scouts ADD COLUMN contacts jsonb;
+
+UPDATE scouts s
+SET contacts = coalesce((
+        SELECT jsonb_agg(jsonb_build_object(
+                       'name', c.name,
+                       'phoneNumber', c.phone_number,
+                       'email', c.email,
+                       'relationship', c.relationship)
+                   ORDER BY c.contact_order)
+        FROM scout_contacts c
+        WHERE c.scout_id = s.id),
+    '[]'::jsonb);
+
+-- Until all instances have been updated, older ones still write scout_contacts. Such a write clears the
+-- array, and readers fall back to the child table for scouts without one, until the scout is saved again.
+-- A later migration drops scout_contacts and this trigger, and makes the column NOT NULL.
+CREATE FUNCTION clear_scout_contacts_json() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE scouts
+    SET contacts = NULL
+    WHERE id = coalesce(NEW.scout_id, OLD.scout_id)
+      AND contacts IS NOT NULL;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER scout_contacts_legacy_write
+    AFTER INSERT OR UPDATE OR DELETE ON scout_contacts
+    FOR EACH ROW EXECUTE FUNCTION clear_scout_contacts_json();
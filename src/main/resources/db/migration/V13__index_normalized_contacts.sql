@@ -0,0 +1,33 @@
+-- Parents log in with their email address and see the scouts they are a contact for. Contacts are looked up
+-- by their normalized email address or phone number, which expression indexes make a single index scan.
+-- The normalization must match Contact.normalizeEmail and Contact.normalizePhoneNumber.
+CREATE FUNCTION normalize_email(email text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT lower(btrim(email))
+$$;
+
+CREATE FUNCTION normalize_phone_number(phone_number text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT regexp_replace(phone_number, '[^0-9+]', '', 'g')
+$$;
+
+CREATE FUNCTION normalized_contact_emails(contacts jsonb) RETURNS text[]
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT coalesce(array_agg(normalize_email(c ->> 'email')), '{}')
+    FROM jsonb_array_elements(coalesce(contacts, '[]'::jsonb)) AS c
+    WHERE c ->> 'email' IS NOT NULL
+$$;
+
+CREATE FUNCTION normalized_contact_phone_numbers(contacts jsonb) RETURNS text[]
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT coalesce(array_agg(normalize_phone_number(c ->> 'phoneNumber')), '{}')
+    FROM jsonb_array_elements(coalesce(contacts, '[]'::jsonb)) AS c
+    WHERE c ->> 'phoneNumber' IS NOT NULL
+$$;
+
+CREATE INDEX idx_scouts_contact_emails ON scouts USING gin (normalized_contact_emails(contacts));
+CREATE INDEX idx_scouts_contact_phone_numbers ON scouts USING gin (normalized_contact_phone_numbers(contacts));
+
+-- Scouts last saved by an older instance still have their contacts in scout_contacts only
+CREATE INDEX idx_scout_contacts_email ON scout_contacts (normalize_email(email));
+CREATE INDEX idx_scout_contacts_phone_number ON scout_contacts (normalize_phone_number(phone_number));
@@ -0,0 +1,3 @@
+-- Supports the registrations of an account, newest first. The id makes the order unique for keyset paging,
+-- so each page is a single backward range scan starting after the last registration of the previous page.
+CREATE INDEX idx_registrations_account ON registrations (account_id, registration_date, id);
@@ -0,0 +1,22 @@
+-- Reports the id of the full event in the detail of the capacity error, so that a write spanning
+-- several events, such as a batch of registrations, can tell the caller which event is full.
+CREATE OR REPLACE FUNCTION check_event_capacity(event_ids bigint[]) RETURNS void
+LANGUAGE plpgsql AS $$
+DECLARE
+    full_event_id bigint;
+BEGIN
+    SELECT c.event_id INTO full_event_id
+    FROM registration_counts c
+    JOIN events e ON e.id = c.event_id
+    WHERE c.event_id = ANY (event_ids)
+      AND c.status = 'CONFIRMED'
+      AND c.count > e.capacity
+    LIMIT 1;
+
+    IF full_event_id IS NOT NULL THEN
+        RAISE EXCEPTION 'Event % is fully booked', full_event_id
+            USING ERRCODE = 'check_violation', CONSTRAINT = 'registrations_event_capacity',
+                  DETAIL = full_event_id::text;
+    END IF;
+END;
+$$;
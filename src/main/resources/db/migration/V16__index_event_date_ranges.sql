@@ -0,0 +1,10 @@
+-- The start_date index of V9 serves the reports, which select events by start date. It does not bound
+-- the queries for upcoming and overlapping events, which would scan every past event.
+--
+-- Upcoming events have not ended yet. The end_date index finds them without visiting past events,
+-- and only these few are sorted by start date.
+CREATE INDEX idx_events_end_date ON events (end_date);
+
+-- Overlapping events are found through the range of each event, including both days.
+-- The expression must match the one in the query for the index to be used.
+CREATE INDEX idx_events_date_range ON events USING gist (daterange(start_date, end_date, '[]'));
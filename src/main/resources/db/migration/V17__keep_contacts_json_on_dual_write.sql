@@ -0,0 +1,16 @@
+-- Until scout_contacts is dropped, current instances write the child table alongside the JSON array, so
+-- that instances still reading the table see the same contacts. They mark their transaction first, and
+-- the trigger of V12 then leaves the array alone. Writes of older instances still clear it.
+CREATE OR REPLACE FUNCTION clear_scout_contacts_json() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF current_setting('scouts.contacts_json_write', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    UPDATE scouts
+    SET contacts = NULL
+    WHERE id = coalesce(NEW.scout_id, OLD.scout_id)
+      AND contacts IS NOT NULL;
+    RETURN NULL;
+END;
+$$;
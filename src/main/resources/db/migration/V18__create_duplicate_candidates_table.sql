@@ -0,0 +1,11 @@
+-- The latest report of probable duplicate scouts. The detection runs on every instance, and each run
+-- replaces the whole report, so all instances serve the same one. Candidates of deleted scouts are
+-- removed with them.
+CREATE TABLE duplicate_candidates (
+    scout_id BIGINT NOT NULL REFERENCES scouts(id) ON DELETE CASCADE,
+    duplicate_id BIGINT NOT NULL REFERENCES scouts(id) ON DELETE CASCADE,
+    similarity DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (scout_id, duplicate_id)
+);
+
+CREATE INDEX idx_duplicate_candidates_duplicate_id ON duplicate_candidates(duplicate_id);
@@ -0,0 +1,10 @@
+-- btrim without characters only removes spaces, while Contact.normalizeEmail removed all surrounding
+-- whitespace. Both now trim spaces, tabs, carriage returns and line feeds. The indexes on the normalized
+-- addresses are rebuilt, as they hold the values of the previous definition.
+CREATE OR REPLACE FUNCTION normalize_email(email text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT lower(btrim(email, E' \t\r\n'))
+$$;
+
+REINDEX INDEX idx_scouts_contact_emails;
+REINDEX INDEX idx_scout_contacts_email;
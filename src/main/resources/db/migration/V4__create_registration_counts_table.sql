@@ -0,0 +1,70 @@
+-- Number of registrations per event and status, maintained by triggers in the same transaction
+-- as every write to registrations. Reading the counts of an event touches at most one row per status.
+CREATE TABLE registration_counts (
+    event_id bigint NOT NULL REFERENCES events (id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    count bigint NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, status)
+);
+
+INSERT INTO registration_counts (event_id, status, count)
+SELECT event_id, status, count(*)
+FROM registrations
+GROUP BY event_id, status;
+
+-- Statement-level triggers aggregate all changed rows first, so bulk writes touch each counter row once.
+-- Deltas are applied in key order to keep lock order stable between concurrent transactions.
+-- Counters of deleted events are skipped, since they are removed by the same cascade.
+CREATE FUNCTION count_registrations() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO registration_counts AS c (event_id, status, count)
+        SELECT n.event_id, n.status, count(*)
+        FROM new_rows n
+        GROUP BY n.event_id, n.status
+        ORDER BY n.event_id, n.status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO registration_counts AS c (event_id, status, count)
+        SELECT d.event_id, d.status, sum(d.delta)
+        FROM (
+            SELECT o.event_id, o.status, -1 AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE (o.event_id, o.status) IS DISTINCT FROM (n.event_id, n.status)
+            UNION ALL
+            SELECT n.event_id, n.status, 1 AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE (o.event_id, o.status) IS DISTINCT FROM (n.event_id, n.status)
+        ) d
+        GROUP BY d.event_id, d.status
+        HAVING sum(d.delta) <> 0
+        ORDER BY d.event_id, d.status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO registration_counts AS c (event_id, status, count)
+        SELECT o.event_id, o.status, -count(*)
+        FROM old_rows o
+        WHERE EXISTS (SELECT 1 FROM events e WHERE e.id = o.event_id)
+        GROUP BY o.event_id, o.status
+        ORDER BY o.event_id, o.status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER registrations_count_insert
+    AFTER INSERT ON registrations
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION count_registrations();
+
+CREATE TRIGGER registrations_count_update
+    AFTER UPDATE ON registrations
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION count_registrations();
+
+CREATE TRIGGER registrations_count_delete
+    AFTER DELETE ON registrations
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION count_registrations();
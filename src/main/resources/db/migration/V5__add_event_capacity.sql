@@ -0,0 +1,76 @@
+-- Maximum number of confirmed registrations of an event. NULL means the event has no limit.
+ALTER TABLE events ADD COLUMN capacity integer CHECK (capacity >= 0);
+
+-- Raises a check violation if any of the given events has more confirmed registrations than seats.
+-- Called after the counters have been updated, while their rows are still locked by the current
+-- transaction. Concurrent confirmations for the same event therefore queue on the counter row only
+-- until the confirming transaction ends, and each sees the count left by the previous one.
+CREATE FUNCTION check_event_capacity(event_ids bigint[]) RETURNS void
+LANGUAGE plpgsql AS $$
+DECLARE
+    full_event_id bigint;
+BEGIN
+    SELECT c.event_id INTO full_event_id
+    FROM registration_counts c
+    JOIN events e ON e.id = c.event_id
+    WHERE c.event_id = ANY (event_ids)
+      AND c.status = 'CONFIRMED'
+      AND c.count > e.capacity
+    LIMIT 1;
+
+    IF full_event_id IS NOT NULL THEN
+        RAISE EXCEPTION 'Event % is fully booked', full_event_id
+            USING ERRCODE = 'check_violation', CONSTRAINT = 'registrations_event_capacity';
+    END IF;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION count_registrations() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO registration_counts AS c (event_id, status, count)
+        SELECT n.event_id, n.status, count(*)
+        FROM new_rows n
+        GROUP BY n.event_id, n.status
+        ORDER BY n.event_id, n.status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+
+        PERFORM check_event_capacity(ARRAY(
+            SELECT DISTINCT n.event_id FROM new_rows n WHERE n.status = 'CONFIRMED'));
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO registration_counts AS c (event_id, status, count)
+        SELECT d.event_id, d.status, sum(d.delta)
+        FROM (
+            SELECT o.event_id, o.status, -1 AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE (o.event_id, o.status) IS DISTINCT FROM (n.event_id, n.status)
+            UNION ALL
+            SELECT n.event_id, n.status, 1 AS delta
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE (o.event_id, o.status) IS DISTINCT FROM (n.event_id, n.status)
+        ) d
+        GROUP BY d.event_id, d.status
+        HAVING sum(d.delta) <> 0
+        ORDER BY d.event_id, d.status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+
+        -- Only registrations that become confirmed take a seat. Editing an already confirmed
+        -- registration of an event whose capacity was lowered later is still allowed.
+        PERFORM check_event_capacity(ARRAY(
+            SELECT DISTINCT n.event_id
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE n.status = 'CONFIRMED'
+              AND (o.event_id, o.status) IS DISTINCT FROM (n.event_id, n.status)));
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO registration_counts AS c (event_id, status, count)
+        SELECT o.event_id, o.status, -count(*)
+        FROM old_rows o
+        WHERE EXISTS (SELECT 1 FROM events e WHERE e.id = o.event_id)
+        GROUP BY o.event_id, o.status
+        ORDER BY o.event_id, o.status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+    END IF;
+    RETURN NULL;
+END;
+$$;
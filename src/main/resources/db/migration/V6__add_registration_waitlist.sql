@@ -0,0 +1,9 @@
+-- Position of a waitlisted registration in the queue of its event. Positions are drawn from a sequence,
+-- so they are stable and increase with the time of waitlisting. NULL for all other statuses.
+CREATE SEQUENCE registration_waitlist_seq;
+
+ALTER TABLE registrations ADD COLUMN waitlist_position bigint;
+
+-- Finds the head of an event's waitlist with a single index descent.
+CREATE INDEX idx_registrations_waitlist ON registrations (event_id, waitlist_position)
+    WHERE status = 'WAITLISTED';
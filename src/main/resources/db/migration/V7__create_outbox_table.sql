@@ -0,0 +1,11 @@
+-- Transactional outbox. Every repository write appends one row per changed entity in the same
+-- transaction, and the relay deletes rows once they have been delivered to the sinks.
+CREATE TABLE outbox (
+    id bigint PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id bigint NOT NULL,
+    -- Version of the entity after the change, NULL for deletions
+    version bigint,
+    change_type VARCHAR(10) NOT NULL,
+    occurred_at timestamptz NOT NULL DEFAULT now()
+);
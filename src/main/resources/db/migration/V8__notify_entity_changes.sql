@@ -0,0 +1,25 @@
+-- Publishes every change recorded in the outbox on the entity_changes channel, so that other
+-- application instances can invalidate their in-memory data. Notifications are delivered when the
+-- writing transaction commits, and not at all if it rolls back.
+--
+-- Payload: <outbox id>:<entity type>:<entity id>:<version, empty for deletions>:<change type>:<epoch micros>
+CREATE FUNCTION notify_entity_changes() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM pg_notify('entity_changes', concat_ws(':',
+            n.id,
+            n.entity_type,
+            n.entity_id,
+            coalesce(n.version::text, ''),
+            n.change_type,
+            (extract(epoch FROM n.occurred_at) * 1000000)::bigint))
+    FROM new_rows n
+    ORDER BY n.id;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER outbox_notify
+    AFTER INSERT ON outbox
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_entity_changes();
@@ -0,0 +1,3 @@
+-- Supports date-range and upcoming-event queries. Upcoming events are read in start_date order,
+-- and end_date in the index lets ongoing events be filtered without visiting the table.
+CREATE INDEX idx_events_dates ON events (start_date, end_date);
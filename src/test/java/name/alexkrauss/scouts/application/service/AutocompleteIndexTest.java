@@ -0,0 +1,134 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.Suggestion;
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.SuggestionType;
+import name.alexkrauss.scouts.application.ports.api.EventManagementService;
+import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the AutocompleteIndex.
+ * These tests verify that the index is built from the repositories and follows the writes of the services.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class AutocompleteIndexTest {
+
+    @Autowired
+    private AutocompleteIndex index;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupManagementService groupService;
+
+    @Autowired
+    private EventManagementService eventService;
+
+    @Autowired
+    private ScoutManagementService scoutService;
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild();
+    }
+
+    /**
+     * Tests that the index is built from the repository content.
+     * Verifies that:
+     * - Entities that only exist in the repository are found after a rebuild
+     */
+    @Test
+    void rebuildLoadsRepositoryContent() {
+        Group group = groupRepository.create(Group.builder().name("Beavers").build());
+
+        index.rebuild();
+
+        assertThat(index.suggest("bea", 10))
+                .containsExactly(new Suggestion(SuggestionType.GROUP, group.getId(), "Beavers"));
+    }
+
+    /**
+     * Tests prefix matching.
+     * Verifies that:
+     * - Any word of the name can be matched, not just the first
+     * - Matching ignores case and diacritics
+     * - Several words of the query are matched in order
+     */
+    @Test
+    void matchesWordPrefixes() {
+        Event camp = eventService.createEvent(SUMMER_CAMP);
+        Scout john = scoutService.createScout(JOHN_DOE.toBuilder().name("John Müller").build());
+
+        assertThat(index.suggest("CAMP", 10)).extracting(Suggestion::id).containsExactly(camp.getId());
+        assertThat(index.suggest("mull", 10)).extracting(Suggestion::id).containsExactly(john.getId());
+        assertThat(index.suggest("summer camp 20", 10)).extracting(Suggestion::id).containsExactly(camp.getId());
+        assertThat(index.suggest("camp summer", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that the number of results is bounded and that an entity is returned only once.
+     */
+    @Test
+    void limitsAndDeduplicatesResults() {
+        scoutService.createScout(JOHN_DOE.toBuilder().name("Sam Sample").build());
+        scoutService.createScout(EMMA_SMITH.toBuilder().name("Sandra Smith").build());
+        eventService.createEvent(HIKING_TRIP.toBuilder().name("Sailing Saturday").build());
+
+        assertThat(index.suggest("sa", 10)).hasSize(3);
+        assertThat(index.suggest("sa", 2)).hasSize(2);
+    }
+
+    /**
+     * Tests that updates and deletions through the services are reflected in the index.
+     */
+    @Test
+    void followsServiceWrites() {
+        Group group = groupService.createGroup(Group.builder().name("Cubs").build());
+        groupService.updateGroup(group.toBuilder().name("Wolf Cubs").build());
+
+        assertThat(index.suggest("wolf", 10)).extracting(Suggestion::label).containsExactly("Wolf Cubs");
+
+        groupService.deleteGroup(group.getId());
+
+        assertThat(index.suggest("cubs", 10)).isEmpty();
+        assertThat(index.suggest("wolf", 10)).isEmpty();
+    }
+
+    /**
+     * Tests that the memory estimate grows with the content and returns to its baseline after removal.
+     */
+    @Test
+    void reportsMemoryFootprint() {
+        long baseline = index.estimatedMemoryBytes();
+
+        Group group = groupService.createGroup(Group.builder().name("Rover Scouts").build());
+        assertThat(index.estimatedMemoryBytes()).isGreaterThan(baseline);
+
+        groupService.deleteGroup(group.getId());
+        assertThat(index.estimatedMemoryBytes()).isEqualTo(baseline);
+    }
+}
@@ -0,0 +1,113 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Contact;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the ContactLookupCache.
+ * These tests verify the lookup of scouts by contact and that cached entries are dropped after changes.
+ */
+@SpringBootTest(properties = "scouts.contact-lookup.cache.enabled=true")
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class ContactLookupCacheTest {
+
+    @Autowired
+    private ContactLookupCache cache;
+
+    @Autowired
+    private ScoutRepository scoutRepository;
+
+    @Autowired
+    private ScoutManagementService scoutService;
+
+    /**
+     * Tests the lookup of scouts by contact.
+     * Verifies that:
+     * - Email addresses are compared regardless of case and surrounding whitespace
+     * - Phone numbers are compared by their digits
+     * - Scouts are ordered by name
+     */
+    @Test
+    void findsScoutsByContact() {
+        Scout john = scoutService.createScout(JOHN_DOE);
+        Scout emma = scoutService.createScout(EMMA_SMITH.toBuilder()
+                .contacts(List.of(EMMA_SMITH.getContacts().getFirst(), JOHN_DOE.getContacts().getFirst()))
+                .build());
+
+        assertThat(scoutService.getScoutsByContactEmail(" Jane.Doe@Email.com"))
+                .extracting(Scout::getId)
+                .containsExactly(emma.getId(), john.getId());
+        assertThat(scoutService.getScoutsByContactPhone("(555) 0125"))
+                .extracting(Scout::getId)
+                .containsExactly(john.getId());
+        assertThat(scoutService.getScoutsByContactEmail("nobody@email.com")).isEmpty();
+    }
+
+    /**
+     * Tests that entries follow the writes of the scout service.
+     * Verifies that:
+     * - A cached entry is served until something changes
+     * - A scout that gains the address shows up, and a deleted scout disappears
+     */
+    @Test
+    void followsServiceWrites() {
+        Scout john = scoutService.createScout(JOHN_DOE);
+        List<Scout> cached = scoutService.getScoutsByContactEmail("jane.doe@email.com");
+        assertThat(scoutService.getScoutsByContactEmail("jane.doe@email.com")).isSameAs(cached);
+
+        Contact jane = JOHN_DOE.getContacts().getFirst();
+        Scout emma = scoutService.createScout(EMMA_SMITH);
+        scoutService.updateScout(emma.toBuilder().contacts(List.of(jane)).build());
+        assertThat(scoutService.getScoutsByContactEmail("jane.doe@email.com"))
+                .extracting(Scout::getId)
+                .containsExactly(emma.getId(), john.getId());
+
+        scoutService.deleteScout(john.getId());
+        assertThat(scoutService.getScoutsByContactEmail("jane.doe@email.com"))
+                .extracting(Scout::getId)
+                .containsExactly(emma.getId());
+    }
+
+    /**
+     * Tests that a change notification drops the affected entries.
+     * Verifies that:
+     * - A scout written directly to the repository shows up once its notification arrives
+     */
+    @Test
+    void dropsEntriesOnNotifiedChanges() {
+        scoutService.getScoutsByContactEmail("jane.doe@email.com");
+        Scout john = scoutRepository.create(JOHN_DOE);
+        assertThat(scoutService.getScoutsByContactEmail("jane.doe@email.com")).isEmpty();
+
+        cache.changed(new EntityChange(1, EntityType.SCOUT, john.getId(), Optional.of(john.getVersion()),
+                ChangeType.CREATED, Instant.now()));
+
+        assertThat(scoutService.getScoutsByContactEmail("jane.doe@email.com"))
+                .extracting(Scout::getId)
+                .containsExactly(john.getId());
+    }
+}
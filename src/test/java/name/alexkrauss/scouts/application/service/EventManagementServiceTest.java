@@ -3,6 +3,7 @@ package name.alexkrauss.scouts.application.service;
 import name.alexkrauss.scouts.application.ports.api.EventManagementService;
 import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
 import name.alexkrauss.scouts.domain.model.Group;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.Set;
 
 import static name.alexkrauss.scouts.domain.model.EventsTestData.*;
@@ -31,6 +34,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 )
 public class EventManagementServiceTest {
 
+    private static final Set<EventSummary.Field> ALL_FIELDS = EnumSet.allOf(EventSummary.Field.class);
+
     @Autowired
     private EventManagementService service;
 
@@ -129,6 +134,7 @@ public class EventManagementServiceTest {
      * Verifies that:
      * - A group can be successfully assigned to an event
      * - The group is included in the event's participating groups
+     * - The version of the event is not changed
      */
     @Test
     void assignGroupToEvent() {
@@ -138,18 +144,14 @@ public class EventManagementServiceTest {
         assertThat(event.getParticipatingGroups()).isEmpty();
         
         // Assign group to event
-        Event updatedEvent = service.assignGroupToEvent(event.getId(), testGroup1.getId());
-        
-        // Verify the group was added
-        assertThat(updatedEvent.getParticipatingGroups())
-                .extracting("id")
-                .containsExactly(testGroup1.getId());
+        service.assignGroupToEvent(event.getId(), testGroup1.getId());
         
-        // Retrieve event and verify again
+        // Retrieve event and verify the group was added
         Event retrievedEvent = service.getEvent(event.getId()).orElseThrow();
         assertThat(retrievedEvent.getParticipatingGroups())
                 .extracting("id")
                 .containsExactly(testGroup1.getId());
+        assertThat(retrievedEvent.getVersion()).isEqualTo(event.getVersion());
     }
 
     /**
@@ -173,12 +175,9 @@ public class EventManagementServiceTest {
                 .containsExactly(testGroup1.getId());
         
         // Remove the group
-        Event updatedEvent = service.removeGroupFromEvent(event.getId(), testGroup1.getId());
+        service.removeGroupFromEvent(event.getId(), testGroup1.getId());
         
-        // Verify the group was removed
-        assertThat(updatedEvent.getParticipatingGroups()).isEmpty();
-        
-        // Retrieve event and verify again
+        // Retrieve event and verify the group was removed
         Event retrievedEvent = service.getEvent(event.getId()).orElseThrow();
         assertThat(retrievedEvent.getParticipatingGroups()).isEmpty();
     }
@@ -248,4 +247,65 @@ public class EventManagementServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("does not exist");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests assigning several groups to an event at once.
+     * Verifies that:
+     * - All groups are assigned, including ones that already participated
+     * - The version of the event is not changed
+     * - A missing group is rejected
+     */
+    @Test
+    void assignGroupsToEvent() {
+        Event event = service.createEvent(
+                SUMMER_CAMP.toBuilder()
+                        .participatingGroups(Set.of(testGroup1))
+                        .build()
+        );
+
+        service.assignGroupsToEvent(event.getId(), Set.of(testGroup1.getId(), testGroup2.getId()));
+
+        Event updatedEvent = service.getEvent(event.getId()).orElseThrow();
+        assertThat(updatedEvent.getParticipatingGroups())
+                .extracting("id")
+                .containsExactlyInAnyOrder(testGroup1.getId(), testGroup2.getId());
+        assertThat(updatedEvent.getVersion()).isEqualTo(event.getVersion());
+
+        assertThatThrownBy(() -> service.assignGroupsToEvent(event.getId(), Set.of(testGroup1.getId(), 999L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not exist");
+    }
+
+    /**
+     * Tests retrieving events by date range and upcoming events.
+     * Verifies that:
+     * - Only events overlapping the range are returned
+     * - Upcoming events exclude events that have ended, ordered by start date
+     * - Invalid ranges and limits are rejected
+     */
+    @Test
+    void getEventsByDate() {
+        LocalDate today = LocalDate.now();
+        Event past = service.createEvent(SUMMER_CAMP.toBuilder()
+                .startDate(today.minusDays(10)).endDate(today.minusDays(8)).build());
+        Event later = service.createEvent(HIKING_TRIP.toBuilder()
+                .startDate(today.plusDays(20)).endDate(today.plusDays(22)).build());
+        Event soon = service.createEvent(CRAFT_WORKSHOP.toBuilder()
+                .startDate(today.plusDays(2)).endDate(today.plusDays(2)).build());
+
+        assertThat(service.getEventsInDateRange(today.minusDays(9), today.plusDays(5), ALL_FIELDS))
+                .extracting("id")
+                .containsExactly(past.getId(), soon.getId());
+        assertThat(service.getUpcomingEvents(10, ALL_FIELDS))
+                .extracting("id")
+                .containsExactly(soon.getId(), later.getId());
+        assertThat(service.getUpcomingEvents(1, ALL_FIELDS))
+                .extracting("id")
+                .containsExactly(soon.getId());
+
+        assertThatThrownBy(() -> service.getEventsInDateRange(today, today.minusDays(1), ALL_FIELDS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getUpcomingEvents(0, ALL_FIELDS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,160 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.EventManagementService;
+import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventPage;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the EventPageCache.
+ * These tests verify the content of event pages and that pages are assembled again after changes.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class EventPageCacheTest {
+
+    @Autowired
+    private EventPageCache cache;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private GroupManagementService groupService;
+
+    @Autowired
+    private EventManagementService eventService;
+
+    @Autowired
+    private ScoutManagementService scoutService;
+
+    @Autowired
+    private RegistrationManagementService registrationService;
+
+    private Group beavers;
+    private Scout john;
+    private Scout emma;
+    private Event camp;
+
+    @BeforeEach
+    void setUp() {
+        beavers = groupService.createGroup(Group.builder().name("Beavers").build());
+        john = scoutService.createScout(JOHN_DOE.toBuilder().groups(Set.of(beavers)).build());
+        emma = scoutService.createScout(EMMA_SMITH.toBuilder().groups(Set.of(beavers)).build());
+        camp = eventService.createEvent(SUMMER_CAMP.toBuilder().participatingGroups(Set.of(beavers)).build());
+    }
+
+    /**
+     * Tests the content of an event page.
+     * Verifies that:
+     * - The page contains the event with its participating groups
+     * - Registrations are counted per status, with zero for statuses without registrations
+     * - Only confirmed participants are listed, in alphabetical order
+     * - Unknown events have no page
+     */
+    @Test
+    void combinesEventAndRegistrations() {
+        registrationService.createRegistration(registration(john, RegistrationStatus.CONFIRMED));
+        registrationService.createRegistration(registration(emma, RegistrationStatus.PENDING));
+
+        EventPage page = eventService.getEventPage(camp.getId()).orElseThrow();
+
+        assertThat(page.event().getName()).isEqualTo(camp.getName());
+        assertThat(page.event().getParticipatingGroups()).extracting(Group::getName).containsExactly("Beavers");
+        assertThat(page.registrationCounts())
+                .containsEntry(RegistrationStatus.CONFIRMED, 1L)
+                .containsEntry(RegistrationStatus.PENDING, 1L)
+                .containsEntry(RegistrationStatus.CANCELLED, 0L)
+                .containsEntry(RegistrationStatus.WAITLISTED, 0L);
+        assertThat(page.participantNames()).containsExactly(john.getName());
+
+        assertThat(eventService.getEventPage(999L)).isEmpty();
+    }
+
+    /**
+     * Tests that pages follow the writes of the services.
+     * Verifies that:
+     * - A cached page is served until something changes
+     * - New and updated registrations and event updates show up on the next request
+     */
+    @Test
+    void followsServiceWrites() {
+        EventPage emptyPage = eventService.getEventPage(camp.getId()).orElseThrow();
+        assertThat(eventService.getEventPage(camp.getId())).containsSame(emptyPage);
+        assertThat(emptyPage.participantNames()).isEmpty();
+
+        Registration emmaRegistration = registrationService.createRegistration(
+                registration(emma, RegistrationStatus.PENDING));
+        assertThat(eventService.getEventPage(camp.getId()).orElseThrow().registrationCounts())
+                .containsEntry(RegistrationStatus.PENDING, 1L);
+
+        registrationService.updateRegistration(emmaRegistration.toBuilder().status(RegistrationStatus.CONFIRMED).build());
+        assertThat(eventService.getEventPage(camp.getId()).orElseThrow().participantNames())
+                .containsExactly(emma.getName());
+
+        eventService.updateEvent(camp.toBuilder().name("Renamed Camp").build());
+        assertThat(eventService.getEventPage(camp.getId()).orElseThrow().event().getName())
+                .isEqualTo("Renamed Camp");
+    }
+
+    /**
+     * Tests that a change notification drops the page of the affected event.
+     * Verifies that:
+     * - A registration written directly to the repository shows up once its notification arrives
+     */
+    @Test
+    void dropsPagesOnNotifiedChanges() {
+        eventService.getEventPage(camp.getId()).orElseThrow();
+        Registration created = registrationRepository.create(registration(john, RegistrationStatus.CONFIRMED));
+        assertThat(eventService.getEventPage(camp.getId()).orElseThrow().participantNames()).isEmpty();
+
+        cache.changed(new EntityChange(1, EntityType.REGISTRATION, created.getId(), Optional.of(created.getVersion()),
+                ChangeType.CREATED, Instant.now()));
+
+        assertThat(eventService.getEventPage(camp.getId()).orElseThrow().participantNames())
+                .containsExactly(john.getName());
+    }
+
+    private Registration registration(Scout scout, RegistrationStatus status) {
+        return Registration.builder()
+                .scout(scout)
+                .event(camp)
+                .note("")
+                .status(status)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build();
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -55,4 +57,14 @@ public class GroupManagementServiceTest {
                 .hasMessage("Group with name 'Foo' already exists");
     }
 
+    @Test
+    void getGroupsByIdsInRequestOrder() {
+        var foo = service.createGroup(Group.builder().name("Foo").build());
+        var bar = service.createGroup(Group.builder().name("Bar").build());
+
+        var groups = service.getGroupsByIds(List.of(bar.getId(), 999L, foo.getId()));
+
+        assertThat(groups).extracting(Group::getName).containsExactly("Bar", "Foo");
+    }
+
 }
@@ -0,0 +1,181 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.EventManagementService;
+import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the MembershipGraph.
+ * These tests verify the eligibility of scouts for events and that the graph follows the writes of the services.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class MembershipGraphTest {
+
+    @Autowired
+    private MembershipGraph graph;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GroupManagementService groupService;
+
+    @Autowired
+    private EventManagementService eventService;
+
+    @Autowired
+    private ScoutManagementService scoutService;
+
+    @Autowired
+    private RegistrationManagementService registrationService;
+
+    private Group beavers;
+    private Group cubs;
+    private Scout john;
+    private Scout emma;
+
+    @BeforeEach
+    void setUp() {
+        beavers = groupService.createGroup(Group.builder().name("Beavers").build());
+        cubs = groupService.createGroup(Group.builder().name("Cubs").build());
+        john = scoutService.createScout(JOHN_DOE.toBuilder().groups(Set.of(beavers)).build());
+        emma = scoutService.createScout(EMMA_SMITH.toBuilder().groups(Set.of(cubs)).build());
+    }
+
+    /**
+     * Tests eligibility for restricted and open events.
+     * Verifies that:
+     * - Only members of a participating group are eligible for a restricted event
+     * - All scouts are eligible for an event without participating groups
+     * - The eligible scouts and the events open to a scout are listed accordingly
+     */
+    @Test
+    void eligibilityFollowsGroupMembership() {
+        Event beaverCamp = eventService.createEvent(SUMMER_CAMP.toBuilder().participatingGroups(Set.of(beavers)).build());
+        Event openHike = eventService.createEvent(HIKING_TRIP);
+
+        assertThat(graph.isEligible(john.getId(), beaverCamp.getId())).isTrue();
+        assertThat(graph.isEligible(emma.getId(), beaverCamp.getId())).isFalse();
+        assertThat(graph.isEligible(emma.getId(), openHike.getId())).isTrue();
+
+        assertThat(graph.eligibleScoutIds(beaverCamp.getId())).containsExactly(john.getId());
+        assertThat(graph.eligibleScoutIds(openHike.getId())).containsExactlyInAnyOrder(john.getId(), emma.getId());
+        assertThat(graph.eventIdsOpenTo(john.getId())).containsExactlyInAnyOrder(beaverCamp.getId(), openHike.getId());
+        assertThat(graph.eventIdsOpenTo(emma.getId())).containsExactly(openHike.getId());
+    }
+
+    /**
+     * Tests that membership and participation changes through the services are reflected in the graph.
+     * Verifies that:
+     * - A scout joining a participating group becomes eligible
+     * - Assigning a group to an event makes its members eligible, and removing it again revokes that
+     * - Deleting the only participating group opens the event to all scouts, as in the database
+     */
+    @Test
+    void followsServiceWrites() {
+        Event beaverCamp = eventService.createEvent(SUMMER_CAMP.toBuilder().participatingGroups(Set.of(beavers)).build());
+        Event cubHike = eventService.createEvent(HIKING_TRIP.toBuilder().participatingGroups(Set.of(cubs)).build());
+
+        Scout movedJohn = scoutService.updateScout(john.toBuilder().groups(Set.of(cubs)).build());
+        assertThat(graph.isEligible(movedJohn.getId(), beaverCamp.getId())).isFalse();
+        assertThat(graph.isEligible(movedJohn.getId(), cubHike.getId())).isTrue();
+
+        eventService.assignGroupToEvent(beaverCamp.getId(), cubs.getId());
+        assertThat(graph.eligibleScoutIds(beaverCamp.getId())).containsExactlyInAnyOrder(john.getId(), emma.getId());
+        eventService.removeGroupFromEvent(beaverCamp.getId(), cubs.getId());
+        assertThat(graph.eligibleScoutIds(beaverCamp.getId())).isEmpty();
+
+        scoutService.deleteScout(emma.getId());
+        assertThat(graph.eligibleScoutIds(cubHike.getId())).containsExactly(john.getId());
+
+        Scout loner = scoutService.createScout(JOHN_DOE.toBuilder().name("Lone Walker").groups(Set.of()).build());
+        assertThat(graph.isEligible(loner.getId(), cubHike.getId())).isFalse();
+        groupService.deleteGroup(cubs.getId());
+        assertThat(graph.isEligible(loner.getId(), cubHike.getId())).isTrue();
+    }
+
+    /**
+     * Tests ids beyond the range of int, which the graph must not use as array indices.
+     * Verifies that:
+     * - Scouts, groups and events with large ids are linked like any others
+     */
+    @Test
+    void supportsLargeIds() {
+        Group rangers = Group.builder().id(5_000_000_000L).name("Rangers").build();
+        Scout ranger = JOHN_DOE.toBuilder().id(6_000_000_000L).groups(Set.of(rangers)).build();
+        Event expedition = SUMMER_CAMP.toBuilder().id(7_000_000_000L).participatingGroups(Set.of(rangers)).build();
+
+        graph.scoutChanged(ranger);
+        graph.eventChanged(expedition);
+
+        assertThat(graph.isEligible(ranger.getId(), expedition.getId())).isTrue();
+        assertThat(graph.isEligible(john.getId(), expedition.getId())).isFalse();
+        assertThat(graph.eligibleScoutIds(expedition.getId())).containsExactly(ranger.getId());
+        assertThat(graph.eventIdsOpenTo(ranger.getId())).contains(expedition.getId());
+    }
+
+    /**
+     * Tests the lists of eligible scouts and open events served by the registration service.
+     * Verifies that:
+     * - The eligible scouts of a restricted event are the members of its groups, in ascending order
+     * - The events open to a scout include the restricted events of its groups and the open events
+     */
+    @Test
+    void servesEligibilityLists() {
+        Event beaverCamp = eventService.createEvent(SUMMER_CAMP.toBuilder().participatingGroups(Set.of(beavers)).build());
+        Event openHike = eventService.createEvent(HIKING_TRIP);
+
+        assertThat(registrationService.getEligibleScoutIds(beaverCamp.getId())).containsExactly(john.getId());
+        assertThat(registrationService.getEligibleScoutIds(openHike.getId())).containsExactly(john.getId(), emma.getId());
+        assertThat(registrationService.getEventIdsOpenTo(emma.getId())).containsExactly(openHike.getId());
+    }
+
+    /**
+     * Tests that a change notification reloads the entity instead of trusting local state.
+     * Verifies that:
+     * - A change written directly to the repository is picked up when its notification arrives
+     */
+    @Test
+    void reloadsNotifiedChanges() {
+        Event camp = eventService.createEvent(SUMMER_CAMP);
+        eventRepository.addGroup(camp.getId(), cubs.getId());
+        assertThat(graph.isEligible(john.getId(), camp.getId())).isTrue();
+
+        graph.changed(new EntityChange(1, EntityType.EVENT, camp.getId(), Optional.of(camp.getVersion()),
+                ChangeType.UPDATED, Instant.now()));
+
+        assertThat(graph.isEligible(john.getId(), camp.getId())).isFalse();
+        assertThat(graph.isEligible(emma.getId(), camp.getId())).isTrue();
+    }
+}
@@ -1,5 +1,6 @@
 package name.alexkrauss.scouts.application.service;
 
+import name.alexkrauss.scouts.application.ports.changes.EntityChangeListener;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.TestContext;
@@ -20,6 +21,9 @@ public class MockedDbTestConfiguration {
         public void beforeTestMethod(TestContext testContext) {
             testContext.getApplicationContext().getBeansOfType(MockResetAware.class).values()
                     .forEach(MockResetAware::reset);
+            // In-memory views must not keep entities of earlier tests, whose ids are handed out again
+            testContext.getApplicationContext().getBeansOfType(EntityChangeListener.class).values()
+                    .forEach(EntityChangeListener::invalidateAll);
         }
     }
 }
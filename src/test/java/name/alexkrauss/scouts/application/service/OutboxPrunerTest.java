@@ -0,0 +1,58 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.infrastructure.dbmock.OutboxRepositoryMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the OutboxPruner.
+ * These tests verify that the outbox does not grow without bound while the relay is disabled.
+ */
+@SpringBootTest(properties = {
+        "scouts.outbox.pruning.retention=1h",
+        "scouts.outbox.pruning.batch-size=2"
+})
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class OutboxPrunerTest {
+
+    @Autowired
+    private OutboxPruner pruner;
+
+    @Autowired
+    private OutboxRepositoryMock outbox;
+
+    /**
+     * Tests that changes are removed once they are older than the retention.
+     * Verifies that:
+     * - All old changes are removed, also beyond the first batch
+     * - Changes within the retention are kept
+     */
+    @Test
+    void pruneChangesOlderThanRetention() {
+        Instant old = Instant.now().minus(Duration.ofHours(2));
+        outbox.append(EntityType.GROUP, ChangeType.CREATED, 1, 0L, old);
+        outbox.append(EntityType.GROUP, ChangeType.UPDATED, 1, 1L, old);
+        outbox.append(EntityType.GROUP, ChangeType.DELETED, 1, null, old);
+        EntityChange recent = outbox.append(EntityType.SCOUT, ChangeType.CREATED, 7, 0L);
+
+        assertThat(pruner.prune()).isEqualTo(3);
+        assertThat(outbox.getChanges()).containsExactly(recent);
+    }
+}
@@ -0,0 +1,80 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.infrastructure.dbmock.InMemoryChangeSink;
+import name.alexkrauss.scouts.infrastructure.dbmock.OutboxRepositoryMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the OutboxRelay.
+ * These tests verify that changes reach the sinks in order and are kept when a sink fails.
+ */
+@SpringBootTest(properties = {
+        "scouts.outbox.relay.enabled=true",
+        "scouts.outbox.relay.batch-size=2"
+})
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxRepositoryMock outbox;
+
+    @Autowired
+    private InMemoryChangeSink sink;
+
+    /**
+     * Tests that the relay drains the outbox in batches.
+     * Verifies that:
+     * - All changes are delivered, also beyond the first batch
+     * - Changes are delivered in the order they were recorded
+     * - A second run finds nothing to relay
+     */
+    @Test
+    void relayAllChangesInOrder() {
+        EntityChange created = outbox.append(EntityType.GROUP, ChangeType.CREATED, 1, 0L);
+        EntityChange updated = outbox.append(EntityType.GROUP, ChangeType.UPDATED, 1, 1L);
+        EntityChange deleted = outbox.append(EntityType.GROUP, ChangeType.DELETED, 1, null);
+
+        assertThat(relay.relay()).isEqualTo(3);
+        assertThat(sink.getDelivered()).containsExactly(created, updated, deleted);
+        assertThat(relay.relay()).isZero();
+    }
+
+    /**
+     * Tests that a failing sink does not lose changes.
+     * Verifies that:
+     * - The relay fails while the sink fails
+     * - The changes are delivered once the sink is available again
+     */
+    @Test
+    void keepChangesWhileSinkFails() {
+        EntityChange created = outbox.append(EntityType.SCOUT, ChangeType.CREATED, 7, 0L);
+        sink.setFailing(true);
+
+        assertThatThrownBy(() -> relay.relay()).isInstanceOf(IllegalStateException.class);
+        assertThat(sink.getDelivered()).isEmpty();
+
+        sink.setFailing(false);
+
+        assertThat(relay.relay()).isEqualTo(1);
+        assertThat(sink.getDelivered()).containsExactly(created);
+    }
+}
@@ -0,0 +1,155 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.BatchedRegistrationService;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.infrastructure.dbmock.RegistrationRepositoryMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the batched registration write path.
+ * These tests verify that each caller gets its own result, even if registrations share a batch.
+ */
+@SpringBootTest(properties = {
+        "scouts.registrations.batching.enabled=true",
+        "scouts.registrations.batching.max-delay=50ms"
+})
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class RegistrationBatchWriterTest {
+
+    @Autowired
+    private BatchedRegistrationService service;
+
+    @Autowired
+    private RegistrationRepositoryMock registrationRepository;
+
+    @Autowired
+    private ScoutRepository scoutRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    /**
+     * Tests that registrations submitted together are all created.
+     * Verifies that:
+     * - Every future completes with a registration that has an id
+     * - All registrations are stored
+     */
+    @Test
+    void createSubmittedRegistrations() throws Exception {
+        Event event = eventRepository.create(SUMMER_CAMP);
+        List<CompletableFuture<Registration>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Scout scout = scoutRepository.create(JOHN_DOE.toBuilder().name("Scout " + i).build());
+            results.add(service.submitRegistration(buildTestRegistration(scout, event)));
+        }
+
+        for (CompletableFuture<Registration> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        }
+        assertThat(registrationRepository.findByEventId(event.getId())).hasSize(20);
+    }
+
+    /**
+     * Tests that a failing registration does not affect the others in its batch.
+     * Verifies that:
+     * - A duplicate registration within the batch fails on its own
+     * - A registration of an unknown scout fails on its own
+     * - A confirmation beyond the capacity fails on its own
+     * - The remaining registrations are created
+     */
+    @Test
+    void failuresAreConfinedToTheirRegistration() throws Exception {
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .capacity(Optional.of(1))
+                .build());
+        Scout john = scoutRepository.create(JOHN_DOE);
+        Scout max = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Scout lisa = scoutRepository.create(JOHN_DOE.toBuilder().name("Lisa Müller").build());
+
+        var johnConfirmed = service.submitRegistration(buildTestRegistration(john, smallEvent).toBuilder()
+                .status(RegistrationStatus.CONFIRMED)
+                .build());
+        var johnAgain = service.submitRegistration(buildTestRegistration(john, smallEvent));
+        var maxConfirmed = service.submitRegistration(buildTestRegistration(max, smallEvent).toBuilder()
+                .status(RegistrationStatus.CONFIRMED)
+                .build());
+        var lisaPending = service.submitRegistration(buildTestRegistration(lisa, smallEvent));
+        var unknownScout = service.submitRegistration(buildTestRegistration(
+                JOHN_DOE.toBuilder().id(999L).build(), smallEvent));
+
+        assertThat(johnConfirmed.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> johnAgain.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> maxConfirmed.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(EventFullyBookedException.class);
+        assertThat(lisaPending.get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThatThrownBy(() -> unknownScout.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests that the writer survives a failure after a batch was written.
+     * Verifies that:
+     * - The registration without a result fails instead of waiting forever
+     * - Registrations submitted afterwards are still written
+     */
+    @Test
+    void writerSurvivesFailedBatch() throws Exception {
+        Event event = eventRepository.create(SUMMER_CAMP);
+        Scout john = scoutRepository.create(JOHN_DOE);
+        Scout max = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Scout lisa = scoutRepository.create(JOHN_DOE.toBuilder().name("Lisa Müller").build());
+        registrationRepository.truncateNextCreateAll();
+
+        service.submitRegistration(buildTestRegistration(john, event));
+        var maxResult = service.submitRegistration(buildTestRegistration(max, event));
+
+        assertThatThrownBy(() -> maxResult.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        assertThat(service.submitRegistration(buildTestRegistration(lisa, event))
+                .get(5, TimeUnit.SECONDS).getId()).isNotNull();
+    }
+
+    private Registration buildTestRegistration(Scout scout, Event event) {
+        return Registration.builder()
+                .scout(scout)
+                .event(event)
+                .note("Test note")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build();
+    }
+}
@@ -2,21 +2,28 @@ package name.alexkrauss.scouts.application.service;
 
 import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
+import name.alexkrauss.scouts.domain.model.Group;
 import name.alexkrauss.scouts.domain.model.Registration;
 import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
 import name.alexkrauss.scouts.domain.model.Scout;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
 import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
@@ -46,6 +53,9 @@ public class RegistrationManagementServiceTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private GroupRepository groupRepository;
+
     private Scout johnDoe;
     private Scout emmaSmith;
     private Event summerCamp;
@@ -111,6 +121,26 @@ public class RegistrationManagementServiceTest {
                 .isEqualTo(updatedRegistration);
     }
 
+    /**
+     * Tests that the scout and event of a registration cannot be changed.
+     * Verifies that:
+     * - The update is rejected with a message naming the field that was changed
+     * - A stale version is reported as a concurrent modification
+     */
+    @Test
+    void updateRegistrationRejectsChangedScoutOrStaleVersion() {
+        Registration registration = service.createRegistration(buildTestRegistration(johnDoe, summerCamp));
+
+        assertThatThrownBy(() -> service.updateRegistration(registration.toBuilder().scout(emmaSmith).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot change the scout of an existing registration");
+
+        service.updateRegistration(registration.toBuilder().note("First edit").build());
+
+        assertThatThrownBy(() -> service.updateRegistration(registration.toBuilder().note("Second edit").build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
     /**
      * Tests that a registration can be deleted.
      * Verifies that:
@@ -171,6 +201,219 @@ public class RegistrationManagementServiceTest {
                 .containsExactlyInAnyOrder(reg1.getId(), reg2.getId());
     }
 
+    /**
+     * Tests paging through the registrations of an account.
+     * Verifies that:
+     * - Only registrations created by the account are returned, newest first
+     * - Registrations with the same date are ordered by id
+     * - The cursor of the last registration continues with the next page
+     * - A non-positive limit is rejected
+     */
+    @Test
+    void getRegistrationsByAccount() {
+        LocalDateTime now = LocalDateTime.now();
+        Event anotherEvent = eventRepository.create(SUMMER_CAMP.toBuilder().name("Another Event").build());
+        Registration oldest = service.createRegistration(buildTestRegistration(johnDoe, summerCamp).toBuilder()
+                .accountId("parent-account").registrationDate(now.minusDays(2)).build());
+        Registration sameDate1 = service.createRegistration(buildTestRegistration(emmaSmith, summerCamp).toBuilder()
+                .accountId("parent-account").registrationDate(now).build());
+        Registration sameDate2 = service.createRegistration(buildTestRegistration(johnDoe, anotherEvent).toBuilder()
+                .accountId("parent-account").registrationDate(now).build());
+        service.createRegistration(buildTestRegistration(emmaSmith, anotherEvent));
+
+        List<RegistrationSummary> firstPage = service.getRegistrationsByAccount("parent-account", null, 2);
+        assertThat(firstPage).extracting(RegistrationSummary::id)
+                .containsExactly(sameDate2.getId(), sameDate1.getId());
+        assertThat(firstPage.getFirst().scoutName()).isEqualTo(johnDoe.getName());
+        assertThat(firstPage.getFirst().eventName()).isEqualTo("Another Event");
+
+        List<RegistrationSummary> secondPage =
+                service.getRegistrationsByAccount("parent-account", firstPage.getLast().cursor(), 2);
+        assertThat(secondPage).extracting(RegistrationSummary::id).containsExactly(oldest.getId());
+
+        assertThatThrownBy(() -> service.getRegistrationsByAccount("parent-account", null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests retrieving registration counts of an event.
+     * Verifies that:
+     * - Registrations are counted per status
+     * - Statuses without registrations are reported as zero
+     */
+    @Test
+    void getRegistrationCounts() {
+        Registration registration = service.createRegistration(buildTestRegistration(johnDoe, summerCamp));
+        service.createRegistration(buildTestRegistration(emmaSmith, summerCamp));
+        service.updateRegistration(registration.toBuilder().status(RegistrationStatus.CONFIRMED).build());
+
+        assertThat(service.getRegistrationCounts(summerCamp.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 1L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 1L)
+                .containsEntry(RegistrationStatus.CANCELLED, 0L);
+    }
+
+    /**
+     * Tests that a fully booked event rejects further confirmations.
+     * Verifies that:
+     * - The confirmation beyond the capacity fails
+     * - A pending registration is still accepted
+     */
+    @Test
+    void rejectConfirmationBeyondCapacity() {
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .name("Small Event")
+                .capacity(Optional.of(1))
+                .build());
+        service.createRegistration(buildTestRegistration(johnDoe, smallEvent).toBuilder()
+                .status(RegistrationStatus.CONFIRMED)
+                .build());
+
+        assertThatThrownBy(() -> service.createRegistration(buildTestRegistration(emmaSmith, smallEvent).toBuilder()
+                .status(RegistrationStatus.CONFIRMED)
+                .build()))
+                .isInstanceOf(EventFullyBookedException.class);
+
+        assertThat(service.createRegistration(buildTestRegistration(emmaSmith, smallEvent)).getId()).isNotNull();
+    }
+
+    /**
+     * Tests that a seat freed by a confirmed registration goes to the waitlist.
+     * Verifies that:
+     * - Cancelling a confirmed registration promotes the oldest waitlisted registration
+     * - Deleting a confirmed registration promotes the next one
+     */
+    @Test
+    void promoteWaitlistedRegistrationWhenSeatIsFreed() {
+        Scout maxMustermann = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .name("Small Event")
+                .capacity(Optional.of(1))
+                .build());
+        Registration johnRegistration = service.createRegistration(buildTestRegistration(johnDoe, smallEvent).toBuilder()
+                .status(RegistrationStatus.CONFIRMED)
+                .build());
+        Registration emmaRegistration = service.createRegistration(buildTestRegistration(emmaSmith, smallEvent).toBuilder()
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+        Registration maxRegistration = service.createRegistration(buildTestRegistration(maxMustermann, smallEvent).toBuilder()
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+
+        service.updateRegistration(johnRegistration.toBuilder()
+                .status(RegistrationStatus.CANCELLED)
+                .build());
+
+        assertThat(service.getRegistration(emmaRegistration.getId()).getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
+        assertThat(service.getRegistration(maxRegistration.getId()).getStatus()).isEqualTo(RegistrationStatus.WAITLISTED);
+
+        service.deleteRegistration(emmaRegistration.getId());
+
+        assertThat(service.getRegistration(maxRegistration.getId()).getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
+    }
+
+    /**
+     * Tests that edits which free no seat leave the waitlist alone.
+     * Verifies that:
+     * - Changing the note of a waitlisted registration keeps it on the waitlist, even if a seat is free
+     * - Cancelling a pending registration promotes nobody
+     */
+    @Test
+    void keepWaitlistWhenNoSeatIsFreed() {
+        Scout maxMustermann = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .name("Small Event")
+                .capacity(Optional.of(2))
+                .build());
+        Registration johnRegistration = service.createRegistration(buildTestRegistration(johnDoe, smallEvent));
+        Registration emmaRegistration = service.createRegistration(buildTestRegistration(emmaSmith, smallEvent).toBuilder()
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+        Registration maxRegistration = service.createRegistration(buildTestRegistration(maxMustermann, smallEvent).toBuilder()
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+
+        service.updateRegistration(emmaRegistration.toBuilder()
+                .note("Arrives a day later")
+                .build());
+        service.updateRegistration(johnRegistration.toBuilder()
+                .status(RegistrationStatus.CANCELLED)
+                .build());
+
+        assertThat(service.getRegistration(emmaRegistration.getId()).getStatus()).isEqualTo(RegistrationStatus.WAITLISTED);
+        assertThat(service.getRegistration(maxRegistration.getId()).getStatus()).isEqualTo(RegistrationStatus.WAITLISTED);
+        assertThat(service.getRegistrationCounts(smallEvent.getId()))
+                .containsEntry(RegistrationStatus.CONFIRMED, 0L);
+    }
+
+    /**
+     * Tests changing the status of many registrations at once.
+     * Verifies that:
+     * - All registrations of the event in the given status are changed, and no others
+     * - The versions of the changed registrations are incremented
+     * - The id-list variant changes only the selected registrations
+     */
+    @Test
+    void bulkUpdateStatus() {
+        Scout maxMustermann = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Event otherEvent = eventRepository.create(SUMMER_CAMP.toBuilder().name("Other Event").build());
+        Registration john = service.createRegistration(buildTestRegistration(johnDoe, summerCamp));
+        Registration emma = service.createRegistration(buildTestRegistration(emmaSmith, summerCamp));
+        Registration max = service.createRegistration(buildTestRegistration(maxMustermann, summerCamp).toBuilder()
+                .status(RegistrationStatus.CANCELLED)
+                .build());
+        Registration johnElsewhere = service.createRegistration(buildTestRegistration(johnDoe, otherEvent));
+
+        assertThat(service.bulkUpdateStatus(summerCamp.getId(), List.of(emma.getId(), johnElsewhere.getId()),
+                RegistrationStatus.PENDING, RegistrationStatus.CANCELLED))
+                .containsExactly(emma.getId());
+
+        assertThat(service.bulkUpdateStatus(summerCamp.getId(), RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED))
+                .containsExactly(john.getId());
+
+        assertThat(service.getRegistration(john.getId()).getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
+        assertThat(service.getRegistration(john.getId()).getVersion()).isEqualTo(john.getVersion() + 1);
+        assertThat(service.getRegistration(emma.getId()).getStatus()).isEqualTo(RegistrationStatus.CANCELLED);
+        assertThat(service.getRegistration(max.getId()).getVersion()).isEqualTo(max.getVersion());
+        assertThat(service.getRegistration(johnElsewhere.getId()).getStatus()).isEqualTo(RegistrationStatus.PENDING);
+    }
+
+    /**
+     * Tests the seats of an event with a capacity in bulk status changes.
+     * Verifies that:
+     * - Confirming more registrations than there are free seats fails without changing any
+     * - Seats freed by cancelling confirmed registrations go to the waitlist
+     */
+    @Test
+    void bulkUpdateStatusRespectsCapacity() {
+        Scout maxMustermann = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .name("Small Event")
+                .capacity(Optional.of(1))
+                .build());
+        Registration john = service.createRegistration(buildTestRegistration(johnDoe, smallEvent));
+        Registration emma = service.createRegistration(buildTestRegistration(emmaSmith, smallEvent));
+
+        assertThatThrownBy(() -> service.bulkUpdateStatus(smallEvent.getId(),
+                RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED))
+                .isInstanceOf(EventFullyBookedException.class);
+        assertThat(service.getRegistrationCounts(smallEvent.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 2L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 0L);
+
+        service.bulkUpdateStatus(smallEvent.getId(), List.of(john.getId()),
+                RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED);
+        service.bulkUpdateStatus(smallEvent.getId(), RegistrationStatus.PENDING, RegistrationStatus.WAITLISTED);
+        Registration max = service.createRegistration(buildTestRegistration(maxMustermann, smallEvent).toBuilder()
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+
+        service.bulkUpdateStatus(smallEvent.getId(), RegistrationStatus.CONFIRMED, RegistrationStatus.CANCELLED);
+
+        assertThat(service.getRegistration(emma.getId()).getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
+        assertThat(service.getRegistration(max.getId()).getStatus()).isEqualTo(RegistrationStatus.WAITLISTED);
+    }
+
     /**
      * Tests handling of non-existent registration ID.
      * Verifies that:
@@ -212,6 +455,28 @@ public class RegistrationManagementServiceTest {
                 .hasMessageContaining("Scout is already registered for this event");
     }
     
+    /**
+     * Tests that only members of the participating groups can register for a restricted event.
+     * Verifies that:
+     * - A scout in one of the event's groups can register
+     * - A scout in no participating group is rejected with the correct error message
+     * - Memberships are read from the database, also if the membership graph has not seen them yet
+     */
+    @Test
+    void rejectScoutOutsideParticipatingGroups() {
+        Group beavers = groupRepository.create(Group.builder().name("Beavers").build());
+        Group cubs = groupRepository.create(Group.builder().name("Cubs").build());
+        Scout beaver = scoutRepository.update(johnDoe.toBuilder().groups(Set.of(beavers)).build());
+        Scout cub = scoutRepository.update(emmaSmith.toBuilder().groups(Set.of(cubs)).build());
+        Event beaverCamp = eventRepository.update(summerCamp.toBuilder().participatingGroups(Set.of(beavers)).build());
+
+        assertThat(service.createRegistration(buildTestRegistration(beaver, beaverCamp)).getId()).isNotNull();
+
+        assertThatThrownBy(() -> service.createRegistration(buildTestRegistration(cub, beaverCamp)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not a member of any group participating");
+    }
+
     /**
      * Tests that retrieving registrations for a non-existent event throws an exception.
      * Verifies that:
@@ -0,0 +1,158 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.ReportingService;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.CRAFT_WORKSHOP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for the ReportingService implementation.
+ * John, a Beaver, attends the hike and the camp of 2025 and a workshop of 2024. Emma, a Beaver and a Cub,
+ * attends the camp and cancels the hike.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class ReportingServiceTest {
+
+    @Autowired
+    private ReportingService service;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ScoutRepository scoutRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private Event hike;
+    private Event camp;
+
+    @BeforeEach
+    void setUp() {
+        Group beavers = groupRepository.create(Group.builder().name("Beavers").build());
+        Group cubs = groupRepository.create(Group.builder().name("Cubs").build());
+        Scout john = scoutRepository.create(JOHN_DOE.toBuilder().groups(Set.of(beavers)).build());
+        Scout emma = scoutRepository.create(EMMA_SMITH.toBuilder().groups(Set.of(beavers, cubs)).build());
+
+        hike = eventRepository.create(HIKING_TRIP);
+        camp = eventRepository.create(SUMMER_CAMP);
+        Event lastYear = eventRepository.create(CRAFT_WORKSHOP.toBuilder()
+                .startDate(LocalDate.of(2024, 3, 20))
+                .endDate(LocalDate.of(2024, 3, 20))
+                .build());
+        Event nextYear = eventRepository.create(CRAFT_WORKSHOP.toBuilder()
+                .startDate(LocalDate.of(2026, 3, 20))
+                .endDate(LocalDate.of(2026, 3, 20))
+                .build());
+
+        registrationRepository.create(registration(john, hike, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(john, camp, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(john, lastYear, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(emma, camp, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(emma, hike, RegistrationStatus.CANCELLED));
+        registrationRepository.create(registration(emma, nextYear, RegistrationStatus.CONFIRMED));
+    }
+
+    /**
+     * Tests the participation of the groups.
+     * Verifies that:
+     * - Only confirmed participants of the events of the year are counted
+     * - A scout in two groups counts for both
+     */
+    @Test
+    void getGroupParticipation() {
+        assertThat(service.getGroupParticipation(2025))
+                .extracting(GroupParticipation::eventId, GroupParticipation::groupName, GroupParticipation::participants)
+                .containsExactly(
+                        tuple(hike.getId(), "Beavers", 1L),
+                        tuple(camp.getId(), "Beavers", 2L),
+                        tuple(camp.getId(), "Cubs", 1L));
+    }
+
+    /**
+     * Tests the confirmation rates.
+     * Verifies that:
+     * - Every event of the year is listed by start date with its registrations by status
+     * - The rate is the share of confirmed registrations
+     */
+    @Test
+    void getConfirmationRates() {
+        assertThat(service.getConfirmationRates(2025))
+                .extracting(ConfirmationRate::eventId, ConfirmationRate::registrations, ConfirmationRate::confirmed,
+                        ConfirmationRate::cancelled, ConfirmationRate::rate)
+                .containsExactly(
+                        tuple(hike.getId(), 2L, 1L, 1L, 0.5),
+                        tuple(camp.getId(), 2L, 2L, 0L, 1.0));
+    }
+
+    /**
+     * Tests the repeat attendance.
+     * Verifies that:
+     * - Participants are counted by the number of events they attended in the year
+     * - Participants of the previous year are counted as returning
+     * - Years outside of the supported range are rejected
+     */
+    @Test
+    void getRepeatAttendance() {
+        RepeatAttendance attendance = service.getRepeatAttendance(2025);
+
+        assertThat(attendance.participants()).isEqualTo(2);
+        assertThat(attendance.returningParticipants()).isEqualTo(1);
+        assertThat(attendance.frequencies()).containsExactly(
+                new RepeatAttendance.Frequency(1, 1, 0),
+                new RepeatAttendance.Frequency(2, 1, 1));
+
+        assertThatThrownBy(() -> service.getRepeatAttendance(1899))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Registration registration(Scout scout, Event event, RegistrationStatus status) {
+        return Registration.builder()
+                .scout(scout)
+                .event(event)
+                .note("")
+                .status(status)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.EventManagementService;
+import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.api.ScoutDeduplicationService;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for the ScoutDeduplicationService implementation.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class ScoutDeduplicationServiceTest {
+
+    @Autowired
+    private ScoutDeduplicationService service;
+
+    @Autowired
+    private ScoutManagementService scoutService;
+
+    @Autowired
+    private GroupManagementService groupService;
+
+    @Autowired
+    private EventManagementService eventService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    /**
+     * Tests which scouts are reported as duplicates.
+     * Verifies that:
+     * - Slightly different spellings and swapped names with the same birth date are reported
+     * - The same name with another birth date and unrelated names are not reported
+     * - Each pair is reported once, with the earlier scout first and the most similar pair first
+     */
+    @Test
+    void detectDuplicates() {
+        Scout john = scoutService.createScout(JOHN_DOE);
+        Scout jon = scoutService.createScout(JOHN_DOE.toBuilder().name("Jon Doe").build());
+        Scout swapped = scoutService.createScout(JOHN_DOE.toBuilder().name("Doe, John").build());
+        scoutService.createScout(JOHN_DOE.toBuilder().birthDate(LocalDate.of(2012, 1, 3)).build());
+        scoutService.createScout(EMMA_SMITH);
+
+        assertThat(service.detectDuplicates())
+                .extracting(candidate -> candidate.scout().id(), candidate -> candidate.duplicate().id())
+                .containsExactly(
+                        tuple(john.getId(), swapped.getId()),
+                        tuple(john.getId(), jon.getId()),
+                        tuple(jon.getId(), swapped.getId()));
+        assertThat(service.getDuplicateCandidates()).first()
+                .extracting(DuplicateCandidate::similarity)
+                .isEqualTo(1.0);
+    }
+
+    /**
+     * Tests merging a duplicate into the scout to keep.
+     * Verifies that:
+     * - The kept scout joins the groups of the duplicate
+     * - Registrations for other events move to the kept scout, and the one for a shared event is dropped
+     * - The duplicate is deleted and disappears from the report
+     * - Merging a scout into itself or merging a deleted scout again fails
+     */
+    @Test
+    void mergeScouts() {
+        Group beavers = groupService.createGroup(Group.builder().name("Beavers").build());
+        Group cubs = groupService.createGroup(Group.builder().name("Cubs").build());
+        Scout john = scoutService.createScout(JOHN_DOE.toBuilder().groups(Set.of(beavers)).build());
+        Scout jon = scoutService.createScout(JOHN_DOE.toBuilder().name("Jon Doe").groups(Set.of(cubs)).build());
+        Event camp = eventService.createEvent(SUMMER_CAMP);
+        Event hike = eventService.createEvent(HIKING_TRIP);
+        Registration kept = registrationRepository.create(registration(john, camp));
+        registrationRepository.create(registration(jon, camp));
+        Registration moved = registrationRepository.create(registration(jon, hike));
+        service.detectDuplicates();
+
+        Scout merged = service.mergeScouts(john.getId(), jon.getId());
+
+        assertThat(merged.getGroups()).extracting(Group::getName).containsExactlyInAnyOrder("Beavers", "Cubs");
+        assertThat(registrationRepository.findByScoutId(john.getId()))
+                .extracting(Registration::getId)
+                .containsExactlyInAnyOrder(kept.getId(), moved.getId());
+        assertThat(registrationRepository.findByEventId(camp.getId())).hasSize(1);
+        assertThat(scoutService.getScout(jon.getId())).isEmpty();
+        assertThat(service.getDuplicateCandidates()).isEmpty();
+
+        assertThatThrownBy(() -> service.mergeScouts(john.getId(), john.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.mergeScouts(john.getId(), jon.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests merging a duplicate that holds a seat of a fully booked event the kept scout attends as well.
+     * Verifies that:
+     * - The seat of the dropped registration goes to the first scout on the waitlist
+     */
+    @Test
+    void mergeScoutsPromotesWaitlist() {
+        Scout john = scoutService.createScout(JOHN_DOE);
+        Scout jon = scoutService.createScout(JOHN_DOE.toBuilder().name("Jon Doe").build());
+        Scout emma = scoutService.createScout(EMMA_SMITH);
+        Event camp = eventService.createEvent(SUMMER_CAMP.toBuilder().capacity(Optional.of(1)).build());
+        registrationRepository.create(registration(john, camp));
+        registrationRepository.create(registration(jon, camp, RegistrationStatus.CONFIRMED));
+        Registration waiting = registrationRepository.create(registration(emma, camp, RegistrationStatus.WAITLISTED));
+
+        service.mergeScouts(john.getId(), jon.getId());
+
+        assertThat(registrationRepository.findById(waiting.getId()))
+                .map(Registration::getStatus)
+                .contains(RegistrationStatus.CONFIRMED);
+    }
+
+    private Registration registration(Scout scout, Event event) {
+        return registration(scout, event, RegistrationStatus.PENDING);
+    }
+
+    private Registration registration(Scout scout, Event event, RegistrationStatus status) {
+        return Registration.builder()
+                .scout(scout)
+                .event(event)
+                .note("")
+                .status(status)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build();
+    }
+}
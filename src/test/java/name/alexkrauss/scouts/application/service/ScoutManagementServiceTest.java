@@ -0,0 +1,82 @@
+package name.alexkrauss.scouts.application.service;
+
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.util.Set;
+
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the ScoutManagementService implementation.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class ScoutManagementServiceTest {
+
+    @Autowired
+    private ScoutManagementService service;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Test
+    void createAndRetrieveScout() {
+        Scout savedScout = service.createScout(JOHN_DOE);
+        assertThat(savedScout.getId()).isNotNull();
+
+        Scout retrievedScout = service.getScout(savedScout.getId()).orElseThrow();
+        assertThat(retrievedScout.getName()).isEqualTo("John Doe");
+    }
+
+    @Test
+    void updateScout() {
+        Scout scout = service.createScout(JOHN_DOE);
+
+        Scout updatedScout = service.updateScout(scout.toBuilder().phoneNumber("555-9999").build());
+
+        assertThat(updatedScout.getVersion()).isEqualTo(1);
+        assertThat(service.getScout(scout.getId()).orElseThrow().getPhoneNumber()).isEqualTo("555-9999");
+    }
+
+    @Test
+    void createAndDeleteScout() {
+        Scout scout = service.createScout(JOHN_DOE);
+
+        service.deleteScout(scout.getId());
+
+        assertThat(service.getScout(scout.getId())).isEmpty();
+    }
+
+    @Test
+    void getGroupRoster() {
+        Group group = groupRepository.create(Group.builder().name("Beavers").build());
+        Scout member = service.createScout(JOHN_DOE.toBuilder().groups(Set.of(group)).build());
+        service.createScout(JOHN_DOE.toBuilder().name("Jane Doe").build());
+
+        assertThat(service.getGroupRoster(group.getId()))
+                .extracting(ScoutSummary::id)
+                .containsExactly(member.getId());
+        assertThat(service.getScoutsOfGroup(group.getId()))
+                .extracting(Scout::getId)
+                .containsExactly(member.getId());
+        assertThatThrownBy(() -> service.getGroupRoster(999L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService;
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.Suggestion;
+import name.alexkrauss.scouts.application.ports.api.AutocompleteService.SuggestionType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.domain.model.Group;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the change notifications.
+ * Writes go directly to the repository, bypassing the services, like the writes of another instance.
+ */
+@SpringBootTest
+class DbChangeNotificationListenerTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    /**
+     * Tests that committed writes reach the in-memory index through the notification channel.
+     * Verifies that:
+     * - A created group becomes suggested
+     * - A deleted group is no longer suggested
+     */
+    @Test
+    void applyCommittedChanges() throws InterruptedException {
+        Group group = groupRepository.create(Group.builder().name("Notified Wolverines").build());
+        Suggestion expected = new Suggestion(SuggestionType.GROUP, group.getId(), "Notified Wolverines");
+
+        assertThat(awaitSuggestions("notified wolv", true, expected)).contains(expected);
+
+        groupRepository.delete(group.getId());
+
+        assertThat(awaitSuggestions("notified wolv", false, expected)).doesNotContain(expected);
+    }
+
+    /**
+     * Tests that the payload written by the outbox trigger is parsed.
+     * Verifies that:
+     * - All fields are read, including the timestamp in microseconds
+     * - An empty version is read as absent
+     */
+    @Test
+    void parsePayload() {
+        assertThat(DbChangeNotificationListener.parse("42:SCOUT:7:3:UPDATED:1700000000123456"))
+                .isEqualTo(new EntityChange(42, EntityType.SCOUT, 7, Optional.of(3L), ChangeType.UPDATED,
+                        Instant.ofEpochSecond(1700000000, 123456000)));
+        assertThat(DbChangeNotificationListener.parse("43:GROUP:8::DELETED:1700000000000000").version())
+                .isEmpty();
+    }
+
+    private List<Suggestion> awaitSuggestions(String prefix, boolean present, Suggestion suggestion)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<Suggestion> suggestions = autocompleteService.suggest(prefix, 10);
+        while (suggestions.contains(suggestion) != present && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            suggestions = autocompleteService.suggest(prefix, 10);
+        }
+        return suggestions;
+    }
+}
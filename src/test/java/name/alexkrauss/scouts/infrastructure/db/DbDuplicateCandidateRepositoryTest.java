@@ -0,0 +1,68 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.persistence.DuplicateCandidateRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for DuplicateCandidateRepository implementation.
+ */
+@SpringBootTest
+class DbDuplicateCandidateRepositoryTest {
+
+    @Autowired
+    private DuplicateCandidateRepository repository;
+
+    @Autowired
+    private ScoutRepository scoutRepository;
+
+    /**
+     * Tests storing and reading the report.
+     * Verifies that:
+     * - A new report replaces the previous one
+     * - The candidates are read with the current names of their scouts, the most similar first
+     * - Candidates of a deleted scout are removed with it
+     */
+    @Test
+    void replaceAllAndFindAll() {
+        Scout john = scoutRepository.create(JOHN_DOE);
+        Scout jon = scoutRepository.create(JOHN_DOE.toBuilder().name("Jon Doe").build());
+        Scout johnny = scoutRepository.create(JOHN_DOE.toBuilder().name("Johnny Doe").build());
+        repository.replaceAll(List.of(candidate(jon, johnny, 0.95)));
+
+        repository.replaceAll(List.of(candidate(john, johnny, 0.8), candidate(john, jon, 0.9)));
+        Scout renamed = scoutRepository.update(jon.toBuilder().name("Jonathan Doe").build());
+
+        assertThat(repository.findAll())
+                .extracting(candidate -> candidate.scout().id(), candidate -> candidate.duplicate().name(),
+                        DuplicateCandidate::similarity)
+                .containsExactly(
+                        tuple(john.getId(), renamed.getName(), 0.9),
+                        tuple(john.getId(), johnny.getName(), 0.8));
+
+        scoutRepository.delete(jon.getId());
+
+        assertThat(repository.findAll())
+                .extracting(candidate -> candidate.duplicate().id())
+                .containsExactly(johnny.getId());
+    }
+
+    private static DuplicateCandidate candidate(Scout scout, Scout duplicate, double similarity) {
+        return new DuplicateCandidate(summary(scout), summary(duplicate), similarity);
+    }
+
+    private static ScoutSummary summary(Scout scout) {
+        return new ScoutSummary(scout.getId(), scout.getVersion(), scout.getName(), scout.getBirthDate());
+    }
+}
@@ -3,6 +3,7 @@ package name.alexkrauss.scouts.infrastructure.db;
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
 import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
 import name.alexkrauss.scouts.domain.model.Group;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
@@ -26,6 +28,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @SpringBootTest
 class DbEventRepositoryTest {
 
+    private static final Set<EventSummary.Field> ALL_FIELDS = EnumSet.allOf(EventSummary.Field.class);
+
     @Autowired
     private EventRepository repository;
 
@@ -165,18 +169,39 @@ class DbEventRepositoryTest {
                 .build());
 
         // Test finding events for group 1
-        List<Event> group1Events = repository.findEventsByGroupId(testGroup1.getId());
+        List<EventSummary> group1Events = repository.findEventsByGroupId(testGroup1.getId(), ALL_FIELDS);
         assertThat(group1Events).extracting("id")
                 .containsExactlyInAnyOrder(event1.getId(), event2.getId())
                 .doesNotContain(event3.getId(), event4.getId());
 
         // Test finding events for group 2
-        List<Event> group2Events = repository.findEventsByGroupId(testGroup2.getId());
+        List<EventSummary> group2Events = repository.findEventsByGroupId(testGroup2.getId(), ALL_FIELDS);
         assertThat(group2Events).extracting("id")
                 .containsExactlyInAnyOrder(event2.getId(), event3.getId(), event4.getId())
                 .doesNotContain(event1.getId());
     }
 
+    /**
+     * Tests that events found by group ID carry all their participating groups.
+     * Verifies that:
+     * - An event assigned to several groups is returned with its complete set of groups,
+     *   not only the group used in the query
+     */
+    @Test
+    void findEventsByGroupIdLoadsAllParticipatingGroups() {
+        Event event = repository.create(SUMMER_CAMP.toBuilder()
+                .participatingGroups(Set.of(testGroup1, testGroup2))
+                .build());
+
+        List<EventSummary> group1Events = repository.findEventsByGroupId(testGroup1.getId(), ALL_FIELDS);
+
+        assertThat(group1Events)
+                .filteredOn(found -> found.id() == event.getId())
+                .singleElement()
+                .satisfies(found -> assertThat(found.participatingGroupIds())
+                        .containsExactlyInAnyOrder(testGroup1.getId(), testGroup2.getId()));
+    }
+
     /**
      * Tests that groups can be added to an event.
      * Verifies that:
@@ -201,4 +226,130 @@ class DbEventRepositoryTest {
                 .extracting("id")
                 .containsExactly(testGroup1.getId());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that group associations can be changed without rewriting the event.
+     * Verifies that:
+     * - Adding and removing groups does not change the version of the event
+     * - Adding an existing association or a missing group has no effect
+     * - A concurrent edit of the event with the old version still succeeds
+     */
+    @Test
+    void addAndRemoveGroupsIncrementally() {
+        Event event = repository.create(SUMMER_CAMP);
+
+        assertThat(repository.addGroup(event.getId(), testGroup1.getId())).isTrue();
+        assertThat(repository.addGroup(event.getId(), testGroup1.getId())).isFalse();
+        assertThat(repository.addGroups(event.getId(), List.of(testGroup1.getId(), testGroup2.getId(), -1L)))
+                .isEqualTo(1);
+        assertThat(repository.removeGroup(event.getId(), testGroup1.getId())).isTrue();
+        assertThat(repository.removeGroup(event.getId(), testGroup1.getId())).isFalse();
+
+        Event retrievedEvent = repository.findById(event.getId()).orElseThrow();
+        assertThat(retrievedEvent.getVersion()).isZero();
+        assertThat(retrievedEvent.getParticipatingGroups())
+                .extracting("id")
+                .containsExactly(testGroup2.getId());
+
+        Event renamedEvent = repository.update(event.toBuilder()
+                .name("Renamed Camp")
+                .participatingGroups(retrievedEvent.getParticipatingGroups())
+                .build());
+        assertThat(renamedEvent.getVersion()).isEqualTo(1L);
+    }
+
+    /**
+     * Tests that adding a group to a missing event has no effect.
+     * Verifies that:
+     * - No association is created and no error is raised
+     */
+    @Test
+    void addGroupToMissingEvent() {
+        assertThat(repository.addGroup(-1L, testGroup1.getId())).isFalse();
+    }
+
+    /**
+     * Tests finding events by date range.
+     * Verifies that:
+     * - Events overlapping the range at either end are found
+     * - Events entirely before or after the range are not found
+     * - The events are ordered by start date
+     * - The summaries carry the ids of the participating groups
+     */
+    @Test
+    void findByDateRange() {
+        Event before = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(LocalDate.of(2191, 1, 1)).endDate(LocalDate.of(2191, 1, 9)).build());
+        Event overlappingEnd = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(LocalDate.of(2191, 1, 20)).endDate(LocalDate.of(2191, 2, 3)).build());
+        Event overlappingStart = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(LocalDate.of(2191, 1, 5)).endDate(LocalDate.of(2191, 1, 10))
+                .participatingGroups(Set.of(testGroup1, testGroup2)).build());
+        Event after = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(LocalDate.of(2191, 2, 1)).endDate(LocalDate.of(2191, 2, 2)).build());
+
+        var events = repository.findByDateRange(LocalDate.of(2191, 1, 10), LocalDate.of(2191, 1, 31), ALL_FIELDS);
+
+        assertThat(events).extracting(EventSummary::id)
+                .containsSubsequence(overlappingStart.getId(), overlappingEnd.getId())
+                .doesNotContain(before.getId(), after.getId());
+        assertThat(events).extracting(EventSummary::startDate).isSorted();
+        assertThat(events)
+                .filteredOn(summary -> summary.id() == overlappingStart.getId())
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.participatingGroupIds())
+                        .containsExactlyInAnyOrder(testGroup1.getId(), testGroup2.getId()));
+    }
+
+    /**
+     * Tests finding upcoming events.
+     * Verifies that:
+     * - Events that are taking place today are included
+     * - Events that have ended are not included
+     * - The events are ordered by start date and limited in number
+     */
+    @Test
+    void findUpcoming() {
+        LocalDate today = LocalDate.now();
+        Event ended = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(today.minusDays(3)).endDate(today.minusDays(1)).build());
+        Event ongoing = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(today.minusDays(1)).endDate(today.plusDays(1)).build());
+
+        var events = repository.findUpcoming(1000, ALL_FIELDS);
+
+        assertThat(events).extracting(EventSummary::id)
+                .contains(ongoing.getId())
+                .doesNotContain(ended.getId());
+        assertThat(events).extracting(EventSummary::startDate).isSorted();
+        assertThat(repository.findUpcoming(1, ALL_FIELDS)).hasSizeLessThanOrEqualTo(1);
+    }
+
+    /**
+     * Tests loading only some fields of a list.
+     * Verifies that:
+     * - The requested fields, the id and the version are loaded
+     * - Fields that were not requested are absent, including the participating groups
+     */
+    @Test
+    void findByDateRangeLoadsRequestedFields() {
+        Event event = repository.create(SUMMER_CAMP.toBuilder()
+                .startDate(LocalDate.of(2192, 3, 1)).endDate(LocalDate.of(2192, 3, 2))
+                .participatingGroups(Set.of(testGroup1)).build());
+
+        var events = repository.findByDateRange(LocalDate.of(2192, 3, 1), LocalDate.of(2192, 3, 2),
+                EnumSet.of(EventSummary.Field.NAME));
+
+        assertThat(events)
+                .filteredOn(summary -> summary.id() == event.getId())
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.version()).isEqualTo(event.getVersion());
+                    assertThat(summary.name()).isEqualTo(event.getName());
+                    assertThat(summary.startDate()).isNull();
+                    assertThat(summary.location()).isNull();
+                    assertThat(summary.capacity()).isEmpty();
+                    assertThat(summary.participatingGroupIds()).isEmpty();
+                });
+    }
+}
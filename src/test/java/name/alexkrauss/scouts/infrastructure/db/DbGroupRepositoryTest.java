@@ -8,6 +8,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -93,8 +95,49 @@ class DbGroupRepositoryTest {
                 .contains("Group 1", "Group 2");
     }
 
+    @Test
+    void findAllByIdsKeepsRequestOrder() {
+        Group first = repository.create(Group.builder().name("Bulk 1").build());
+        Group second = repository.create(Group.builder().name("Bulk 2").build());
+        Group third = repository.create(Group.builder().name("Bulk 3").build());
+
+        var groups = repository.findAllByIds(List.of(third.getId(), 999999L, first.getId(), third.getId()));
+
+        assertThat(groups).extracting(Group::getId).containsExactly(third.getId(), first.getId());
+        assertThat(groups).extracting(Group::getName).containsExactly("Bulk 3", "Bulk 1");
+        assertThat(repository.findAllByIds(List.of(second.getId()))).extracting(Group::getName)
+                .containsExactly("Bulk 2");
+        assertThat(repository.findAllByIds(List.of())).isEmpty();
+    }
+
     @Test
     void findByIdNonExistent() {
         assertThat(repository.findById(999L)).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findVersionById() {
+        Group group = repository.create(Group.builder().name("Versioned").build());
+        repository.update(group.toBuilder().name("Versioned again").build());
+
+        assertThat(repository.findVersionById(group.getId())).contains(1L);
+        assertThat(repository.findVersionById(999999L)).isEmpty();
+    }
+
+    @Test
+    void versionFingerprintChangesOnWrites() {
+        String initial = repository.versionFingerprint();
+        assertThat(repository.versionFingerprint()).isEqualTo(initial);
+
+        Group group = repository.create(Group.builder().name("Fingerprinted").build());
+        String afterCreate = repository.versionFingerprint();
+        assertThat(afterCreate).isNotEqualTo(initial);
+
+        repository.update(group.toBuilder().name("Fingerprinted again").build());
+        String afterUpdate = repository.versionFingerprint();
+        assertThat(afterUpdate).isNotEqualTo(afterCreate);
+
+        repository.delete(group.getId());
+        assertThat(repository.versionFingerprint()).isNotEqualTo(afterUpdate);
+    }
+}
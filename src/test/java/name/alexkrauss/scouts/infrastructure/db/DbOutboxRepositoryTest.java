@@ -0,0 +1,113 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.OutboxRepository;
+import name.alexkrauss.scouts.domain.model.Group;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for the outbox.
+ * The outbox may contain changes of other tests, so the tests only look at the changes of their own entities.
+ */
+@SpringBootTest
+class DbOutboxRepositoryTest {
+
+    @Autowired
+    private OutboxRepository repository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    /**
+     * Tests that repository writes are recorded in the outbox.
+     * Verifies that:
+     * - Create, update and delete each record a change with the resulting version
+     * - The changes are relayed in the order of the writes
+     * - Relayed changes are removed from the outbox
+     */
+    @Test
+    void recordAndRelayChanges() {
+        Group group = groupRepository.create(Group.builder().name("Outbox Group").build());
+        groupRepository.update(group.toBuilder().name("Renamed Outbox Group").build());
+        groupRepository.delete(group.getId());
+
+        assertThat(changesOf(EntityType.GROUP, group.getId(), relayAll()))
+                .extracting(EntityChange::changeType, EntityChange::version)
+                .containsExactly(
+                        tuple(ChangeType.CREATED, Optional.of(0L)),
+                        tuple(ChangeType.UPDATED, Optional.of(1L)),
+                        tuple(ChangeType.DELETED, Optional.empty()));
+
+        assertThat(changesOf(EntityType.GROUP, group.getId(), relayAll())).isEmpty();
+    }
+
+    /**
+     * Tests that a failing handler leaves the changes in the outbox.
+     * Verifies that:
+     * - The exception of the handler is propagated
+     * - The changes are relayed by the next call
+     */
+    @Test
+    void keepChangesIfHandlerFails() {
+        Group group = groupRepository.create(Group.builder().name("Outbox Group").build());
+
+        assertThatThrownBy(() -> repository.relay(Integer.MAX_VALUE, changes -> {
+            throw new IllegalStateException("Sink unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(changesOf(EntityType.GROUP, group.getId(), relayAll()))
+                .extracting(EntityChange::changeType)
+                .containsExactly(ChangeType.CREATED);
+    }
+
+    /**
+     * Tests that old changes can be removed without relaying them.
+     * Verifies that:
+     * - Changes recorded after the given time are kept
+     * - Changes recorded before the given time are removed
+     */
+    @Test
+    void pruneOldChanges() {
+        Group recent = groupRepository.create(Group.builder().name("Outbox Group").build());
+
+        repository.prune(Instant.now().minus(Duration.ofHours(1)), Integer.MAX_VALUE);
+
+        assertThat(changesOf(EntityType.GROUP, recent.getId(), relayAll()))
+                .extracting(EntityChange::changeType)
+                .containsExactly(ChangeType.CREATED);
+
+        Group old = groupRepository.create(Group.builder().name("Outbox Group").build());
+
+        assertThat(repository.prune(Instant.now().plus(Duration.ofMinutes(1)), Integer.MAX_VALUE)).isPositive();
+        assertThat(changesOf(EntityType.GROUP, old.getId(), relayAll())).isEmpty();
+    }
+
+    private List<EntityChange> relayAll() {
+        List<EntityChange> relayed = new ArrayList<>();
+        while (repository.relay(1000, relayed::addAll) > 0) {
+            // drain until empty
+        }
+        return relayed;
+    }
+
+    private static List<EntityChange> changesOf(EntityType type, long id, List<EntityChange> changes) {
+        return changes.stream()
+                .filter(change -> change.entityType() == type && change.entityId() == id)
+                .toList();
+    }
+}
@@ -1,11 +1,21 @@
 package name.alexkrauss.scouts.infrastructure.db;
 
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.ChangeType;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange.EntityType;
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.OutboxRepository;
 import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
+import name.alexkrauss.scouts.domain.model.Group;
 import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationRejection;
 import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
+import name.alexkrauss.scouts.domain.model.RegistrationUpdate;
 import name.alexkrauss.scouts.domain.model.Scout;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +24,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
 import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
@@ -22,6 +37,7 @@ import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
 import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Integration tests for RegistrationRepository implementation.
@@ -40,6 +56,12 @@ class DbRegistrationRepositoryTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
     private Scout savedJohn;
     private Scout savedEmma;
     private Event savedSummerCamp;
@@ -59,6 +81,7 @@ class DbRegistrationRepositoryTest {
      * - The created registration receives an ID
      * - The version is set to 0
      * - The retrieved registration matches the saved registration
+     * - The event of the registration can be read on its own
      */
     @Test
     void createAndRetrieveRegistration() {
@@ -78,6 +101,7 @@ class DbRegistrationRepositoryTest {
 
         Registration retrievedRegistration = repository.findById(savedRegistration.getId()).orElseThrow();
         assertThat(retrievedRegistration).usingRecursiveComparison().isEqualTo(savedRegistration);
+        assertThat(repository.findEventIdById(savedRegistration.getId())).contains(savedSummerCamp.getId());
     }
 
     /**
@@ -99,10 +123,13 @@ class DbRegistrationRepositoryTest {
                 .build();
 
         Registration savedRegistration = repository.create(registration);
-        Registration updatedRegistration = repository.update(savedRegistration.toBuilder()
+        RegistrationUpdate update = repository.update(savedRegistration.toBuilder()
                 .status(RegistrationStatus.CONFIRMED)
                 .note("Updated note")
                 .build());
+        Registration updatedRegistration = update.registration();
+
+        assertThat(update.previousStatus()).isEqualTo(RegistrationStatus.PENDING);
 
         assertThat(updatedRegistration.getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
         assertThat(updatedRegistration.getNote()).isEqualTo("Updated note");
@@ -187,6 +214,71 @@ class DbRegistrationRepositoryTest {
                 .containsExactly(reg3.getId());
     }
 
+    /**
+     * Tests that several registrations can be loaded by their ids at once.
+     * Verifies that:
+     * - The registrations are returned in the order of the requested ids
+     * - Unknown ids are skipped
+     * - Each registration carries its complete scout and event
+     */
+    @Test
+    void findAllByIds() {
+        Registration johnAtCamp = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(savedSummerCamp)
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build());
+
+        Registration emmaOnTrip = repository.create(Registration.builder()
+                .scout(savedEmma)
+                .event(savedHikingTrip)
+                .status(RegistrationStatus.CONFIRMED)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account2")
+                .build());
+
+        List<Registration> registrations =
+                repository.findAllByIds(List.of(emmaOnTrip.getId(), 999999L, johnAtCamp.getId()));
+
+        assertThat(registrations).extracting(Registration::getId)
+                .containsExactly(emmaOnTrip.getId(), johnAtCamp.getId());
+        assertThat(registrations.get(0).getScout()).usingRecursiveComparison().isEqualTo(savedEmma);
+        assertThat(registrations.get(0).getEvent()).usingRecursiveComparison().isEqualTo(savedHikingTrip);
+        assertThat(registrations.get(1).getScout()).usingRecursiveComparison().isEqualTo(savedJohn);
+        assertThat(registrations.get(1).getEvent()).usingRecursiveComparison().isEqualTo(savedSummerCamp);
+    }
+
+    /**
+     * Tests paging through the registrations of an account.
+     * Verifies that:
+     * - Only registrations of the account are returned, newest first and by id for the same date
+     * - The summaries carry the names of scout and event
+     * - The cursor of the last registration continues with the next page, and the last page is empty
+     */
+    @Test
+    void findByAccountId() {
+        String accountId = "account-" + UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Registration oldest = repository.create(accountRegistration(savedJohn, savedSummerCamp, accountId,
+                now.minusDays(1)));
+        Registration sameDate1 = repository.create(accountRegistration(savedEmma, savedSummerCamp, accountId, now));
+        Registration sameDate2 = repository.create(accountRegistration(savedJohn, savedHikingTrip, accountId, now));
+        repository.create(accountRegistration(savedEmma, savedHikingTrip, "other-" + accountId, now));
+
+        List<RegistrationSummary> firstPage = repository.findByAccountId(accountId, null, 2);
+        assertThat(firstPage).extracting(RegistrationSummary::id)
+                .containsExactly(sameDate2.getId(), sameDate1.getId());
+        assertThat(firstPage.getFirst()).isEqualTo(new RegistrationSummary(sameDate2.getId(), 0, savedJohn.getId(),
+                savedJohn.getName(), savedHikingTrip.getId(), savedHikingTrip.getName(),
+                savedHikingTrip.getStartDate(), RegistrationStatus.PENDING, now));
+
+        List<RegistrationSummary> secondPage = repository.findByAccountId(accountId, firstPage.getLast().cursor(), 2);
+        assertThat(secondPage).extracting(RegistrationSummary::id).containsExactly(oldest.getId());
+        assertThat(repository.findByAccountId(accountId, secondPage.getLast().cursor(), 2)).isEmpty();
+    }
+
     /**
      * Tests that registrations can be found by scout ID.
      * Verifies that:
@@ -334,4 +426,437 @@ class DbRegistrationRepositoryTest {
         assertThat(repository.existsByEventIdAndScoutId(savedHikingTrip.getId(), savedJohn.getId())).isFalse();
         assertThat(repository.existsByEventIdAndScoutId(savedSummerCamp.getId(), savedEmma.getId())).isFalse();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the scout and event of a registration cannot be changed by an update.
+     * Verifies that:
+     * - An update with a different event is rejected like a stale version
+     * - The stored registration is left unchanged
+     */
+    @Test
+    void updateRejectsChangedEvent() {
+        Registration savedRegistration = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(savedSummerCamp)
+                .note("Test note")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build());
+
+        assertThatThrownBy(() -> repository.update(savedRegistration.toBuilder()
+                .event(savedHikingTrip)
+                .build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        Registration retrievedRegistration = repository.findById(savedRegistration.getId()).orElseThrow();
+        assertThat(retrievedRegistration.getEvent().getId()).isEqualTo(savedSummerCamp.getId());
+        assertThat(retrievedRegistration.getVersion()).isEqualTo(0);
+    }
+
+    /**
+     * Tests that the registration counts follow creates, status changes and deletes.
+     * Verifies that:
+     * - Each status is counted separately per event
+     * - A status change moves one registration between counters
+     * - Deleting a registration decrements its counter
+     */
+    @Test
+    void countByEventId() {
+        assertThat(repository.countByEventId(savedSummerCamp.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 0L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 0L);
+
+        Registration johnRegistration = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(savedSummerCamp)
+                .note("")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build());
+        Registration emmaRegistration = repository.create(johnRegistration.toBuilder()
+                .id(null)
+                .scout(savedEmma)
+                .build());
+        repository.create(johnRegistration.toBuilder()
+                .id(null)
+                .event(savedHikingTrip)
+                .build());
+
+        assertThat(repository.countByEventId(savedSummerCamp.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 2L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 0L);
+
+        repository.update(johnRegistration.toBuilder().status(RegistrationStatus.CONFIRMED).build());
+        repository.update(emmaRegistration.toBuilder().note("Note only").build());
+
+        assertThat(repository.countByEventId(savedSummerCamp.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 1L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 1L);
+
+        repository.delete(emmaRegistration.getId());
+
+        assertThat(repository.countByEventId(savedSummerCamp.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 0L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 1L)
+                .containsEntry(RegistrationStatus.CANCELLED, 0L);
+        assertThat(repository.countByEventId(savedHikingTrip.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 1L);
+    }
+
+    /**
+     * Tests that confirmations never exceed the capacity of an event.
+     * Verifies that:
+     * - Confirmed registrations are accepted until the event is full
+     * - Creating or updating a registration to confirmed fails once the event is full
+     * - Pending registrations are not limited
+     */
+    @Test
+    void confirmationRespectsCapacity() {
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .capacity(Optional.of(1))
+                .build());
+        Registration johnRegistration = Registration.builder()
+                .scout(savedJohn)
+                .event(smallEvent)
+                .note("")
+                .status(RegistrationStatus.CONFIRMED)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build();
+
+        repository.create(johnRegistration);
+
+        assertThatThrownBy(() -> repository.create(johnRegistration.toBuilder().scout(savedEmma).build()))
+                .isInstanceOf(EventFullyBookedException.class);
+
+        Registration emmaRegistration = repository.create(johnRegistration.toBuilder()
+                .scout(savedEmma)
+                .status(RegistrationStatus.PENDING)
+                .build());
+
+        assertThatThrownBy(() -> repository.update(emmaRegistration.toBuilder()
+                .status(RegistrationStatus.CONFIRMED)
+                .build()))
+                .isInstanceOf(EventFullyBookedException.class);
+
+        assertThat(repository.countByEventId(smallEvent.getId()))
+                .containsEntry(RegistrationStatus.CONFIRMED, 1L)
+                .containsEntry(RegistrationStatus.PENDING, 1L);
+    }
+
+    /**
+     * Tests creating several registrations with one insert.
+     * Verifies that:
+     * - Every registration gets the id of its own row, across scouts and events
+     * - Each created registration is recorded in the outbox
+     * - The same scout and event twice in one batch is rejected
+     */
+    @Test
+    void createAll() {
+        Registration template = Registration.builder()
+                .scout(savedJohn)
+                .event(savedSummerCamp)
+                .note("John at camp")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build();
+        List<Registration> batch = List.of(
+                template,
+                template.toBuilder().scout(savedEmma).note("Emma at camp").build(),
+                template.toBuilder().event(savedHikingTrip).note("John on the hike").build(),
+                template.toBuilder().scout(savedEmma).event(savedHikingTrip).note("Emma on the hike")
+                        .status(RegistrationStatus.WAITLISTED).build());
+
+        List<Registration> created = repository.createAll(batch);
+
+        assertThat(created).hasSize(batch.size());
+        for (Registration registration : created) {
+            assertThat(repository.findById(registration.getId())).hasValueSatisfying(stored -> {
+                assertThat(stored.getScout().getId()).isEqualTo(registration.getScout().getId());
+                assertThat(stored.getEvent().getId()).isEqualTo(registration.getEvent().getId());
+                assertThat(stored.getNote()).isEqualTo(registration.getNote());
+                assertThat(stored.getStatus()).isEqualTo(registration.getStatus());
+            });
+        }
+        List<Long> createdIds = created.stream().map(Registration::getId).toList();
+        assertThat(relayAll().stream()
+                .filter(change -> change.entityType() == EntityType.REGISTRATION)
+                .filter(change -> createdIds.contains(change.entityId())))
+                .extracting(EntityChange::entityId, EntityChange::changeType, EntityChange::version)
+                .containsExactlyInAnyOrderElementsOf(createdIds.stream()
+                        .map(id -> tuple(id, ChangeType.CREATED, Optional.of(0L)))
+                        .toList());
+
+        assertThatThrownBy(() -> repository.createAll(List.of(template, template)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Tests that a batch does not overbook any of its events.
+     * Verifies that:
+     * - A batch that confirms more registrations than an event has seats fails as a whole
+     * - The exception names the full event, also if an earlier event of the batch has seats left
+     */
+    @Test
+    void createAllRespectsCapacity() {
+        Event largeEvent = smallEventWithCapacity(5);
+        Event smallEvent = smallEventWithCapacity(1);
+        Registration confirmed = Registration.builder()
+                .scout(savedJohn)
+                .event(largeEvent)
+                .note("")
+                .status(RegistrationStatus.CONFIRMED)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build();
+
+        assertThatThrownBy(() -> repository.createAll(List.of(
+                confirmed,
+                confirmed.toBuilder().event(smallEvent).build(),
+                confirmed.toBuilder().event(smallEvent).scout(savedEmma).build())))
+                .isInstanceOfSatisfying(EventFullyBookedException.class,
+                        e -> assertThat(e.getEventId()).isEqualTo(smallEvent.getId()));
+
+        assertThat(repository.findByEventId(largeEvent.getId())).isEmpty();
+        assertThat(repository.findByEventId(smallEvent.getId())).isEmpty();
+    }
+
+    /**
+     * Tests checking registrations before they are created.
+     * Verifies that:
+     * - Unknown scouts and events, scouts outside the participating groups and existing registrations
+     *   are each reported with their reason
+     * - Registrations that can be created are reported as empty, in the order of the input
+     */
+    @Test
+    void check() {
+        Group group = groupRepository.create(Group.builder().name("Check Group").build());
+        Scout member = scoutRepository.create(JOHN_DOE.toBuilder().groups(Set.of(group)).build());
+        Event restrictedEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .participatingGroups(Set.of(group))
+                .build());
+        Registration registration = Registration.builder()
+                .scout(savedJohn)
+                .event(savedSummerCamp)
+                .note("")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build();
+        repository.create(registration);
+
+        assertThat(repository.check(List.of(
+                registration.toBuilder().scout(member).event(restrictedEvent).build(),
+                registration.toBuilder().scout(savedJohn.toBuilder().id(-1L).build()).build(),
+                registration.toBuilder().event(savedSummerCamp.toBuilder().id(-1L).build()).build(),
+                registration.toBuilder().event(restrictedEvent).build(),
+                registration,
+                registration.toBuilder().scout(savedEmma).build())))
+                .containsExactly(
+                        Optional.empty(),
+                        Optional.of(RegistrationRejection.SCOUT_NOT_FOUND),
+                        Optional.of(RegistrationRejection.EVENT_NOT_FOUND),
+                        Optional.of(RegistrationRejection.NOT_ELIGIBLE),
+                        Optional.of(RegistrationRejection.ALREADY_REGISTERED),
+                        Optional.empty());
+    }
+
+    /**
+     * Tests changing the status of several registrations with one update.
+     * Verifies that:
+     * - Only registrations of the event in the given status are changed, and their versions increase
+     * - The id-list variant is limited to the given registrations
+     * - Confirming more registrations than there are seats fails without changing any
+     */
+    @Test
+    void updateStatus() {
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .capacity(Optional.of(1))
+                .build());
+        Registration johnRegistration = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(smallEvent)
+                .note("")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build());
+        Registration emmaRegistration = repository.create(johnRegistration.toBuilder()
+                .id(null)
+                .scout(savedEmma)
+                .build());
+
+        assertThatThrownBy(() -> repository.updateStatus(smallEvent.getId(),
+                RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED))
+                .isInstanceOf(EventFullyBookedException.class);
+        assertThat(repository.countByEventId(smallEvent.getId()))
+                .containsEntry(RegistrationStatus.PENDING, 2L)
+                .containsEntry(RegistrationStatus.CONFIRMED, 0L);
+
+        assertThat(repository.updateStatus(smallEvent.getId(), List.of(emmaRegistration.getId()),
+                RegistrationStatus.PENDING, RegistrationStatus.CONFIRMED))
+                .containsExactly(emmaRegistration.getId());
+        assertThat(repository.updateStatus(smallEvent.getId(),
+                RegistrationStatus.PENDING, RegistrationStatus.CANCELLED))
+                .containsExactly(johnRegistration.getId());
+
+        assertThat(repository.findById(emmaRegistration.getId()).orElseThrow())
+                .extracting(Registration::getStatus, Registration::getVersion)
+                .containsExactly(RegistrationStatus.CONFIRMED, 1L);
+        assertThat(repository.findById(johnRegistration.getId()).orElseThrow())
+                .extracting(Registration::getStatus, Registration::getVersion)
+                .containsExactly(RegistrationStatus.CANCELLED, 1L);
+        assertThat(repository.countByEventId(smallEvent.getId()))
+                .containsEntry(RegistrationStatus.CONFIRMED, 1L)
+                .containsEntry(RegistrationStatus.CANCELLED, 1L)
+                .containsEntry(RegistrationStatus.PENDING, 0L);
+    }
+
+    /**
+     * Tests that a free seat goes to the waitlisted registration that has waited longest.
+     * Verifies that:
+     * - Nobody is promoted while the event is full
+     * - Once a seat is freed, the oldest waitlisted registration is confirmed and its version increases
+     * - No more registrations are confirmed than the event has free seats, even if more are requested
+     * - Later waitlisted registrations stay on the waitlist
+     */
+    @Test
+    void promoteFromWaitlist() {
+        Scout savedMax = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .capacity(Optional.of(1))
+                .build());
+        Registration johnRegistration = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(smallEvent)
+                .note("")
+                .status(RegistrationStatus.CONFIRMED)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build());
+        Registration emmaRegistration = repository.create(johnRegistration.toBuilder()
+                .id(null)
+                .scout(savedEmma)
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+        Registration maxRegistration = repository.create(johnRegistration.toBuilder()
+                .id(null)
+                .scout(savedMax)
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+
+        assertThat(repository.promoteFromWaitlist(smallEvent.getId(), 1)).isEmpty();
+
+        repository.delete(johnRegistration.getId());
+
+        assertThat(repository.promoteFromWaitlist(smallEvent.getId(), 2)).containsExactly(emmaRegistration.getId());
+        assertThat(repository.findById(emmaRegistration.getId())).hasValueSatisfying(promoted -> {
+            assertThat(promoted.getStatus()).isEqualTo(RegistrationStatus.CONFIRMED);
+            assertThat(promoted.getVersion()).isEqualTo(1L);
+        });
+        assertThat(repository.findById(maxRegistration.getId()))
+                .hasValueSatisfying(waiting -> assertThat(waiting.getStatus()).isEqualTo(RegistrationStatus.WAITLISTED));
+        assertThat(repository.promoteFromWaitlist(smallEvent.getId(), 1)).isEmpty();
+    }
+
+    /**
+     * Tests that several freed seats are handed to the waitlist at once.
+     * Verifies that:
+     * - The oldest waitlisted registrations are confirmed, one per free seat
+     * - Each promotion is recorded in the outbox with the new version
+     */
+    @Test
+    void promoteSeveralFromWaitlist() {
+        Event smallEvent = smallEventWithCapacity(2);
+        Scout savedMax = scoutRepository.create(JOHN_DOE.toBuilder().name("Max Mustermann").build());
+        Registration first = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(smallEvent)
+                .note("")
+                .status(RegistrationStatus.WAITLISTED)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build());
+        Registration second = repository.create(first.toBuilder().id(null).scout(savedEmma).build());
+        Registration third = repository.create(first.toBuilder().id(null).scout(savedMax).build());
+        relayAll();
+
+        assertThat(repository.promoteFromWaitlist(smallEvent.getId(), 5))
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+
+        assertThat(repository.findById(third.getId()))
+                .hasValueSatisfying(waiting -> assertThat(waiting.getStatus()).isEqualTo(RegistrationStatus.WAITLISTED));
+        Set<Long> waitlisted = Set.of(first.getId(), second.getId(), third.getId());
+        assertThat(relayAll())
+                .filteredOn(change -> change.entityType() == EntityType.REGISTRATION
+                        && waitlisted.contains(change.entityId()))
+                .extracting(EntityChange::entityId, EntityChange::version)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), Optional.of(1L)),
+                        tuple(second.getId(), Optional.of(1L)));
+    }
+
+    /**
+     * Tests that updates report whether they freed a seat, and leave the waitlist to the caller.
+     * Verifies that:
+     * - Editing a waitlisted registration of an event with a free seat frees no seat
+     * - Cancelling a confirmed registration frees a seat, and the waitlist stays unchanged
+     */
+    @Test
+    void updateReportsFreedSeat() {
+        Event smallEvent = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .capacity(Optional.of(2))
+                .build());
+        Registration johnRegistration = repository.create(Registration.builder()
+                .scout(savedJohn)
+                .event(smallEvent)
+                .note("")
+                .status(RegistrationStatus.CONFIRMED)
+                .registrationDate(LocalDateTime.now())
+                .accountId("account1")
+                .build());
+        Registration emmaRegistration = repository.create(johnRegistration.toBuilder()
+                .id(null)
+                .scout(savedEmma)
+                .status(RegistrationStatus.WAITLISTED)
+                .build());
+
+        assertThat(repository.update(emmaRegistration.toBuilder()
+                .note("Arrives a day later")
+                .build()).freedSeat()).isFalse();
+
+        assertThat(repository.update(johnRegistration.toBuilder()
+                .status(RegistrationStatus.CANCELLED)
+                .build()).freedSeat()).isTrue();
+        assertThat(repository.findById(emmaRegistration.getId()))
+                .hasValueSatisfying(waiting -> assertThat(waiting.getStatus()).isEqualTo(RegistrationStatus.WAITLISTED));
+    }
+
+    private Event smallEventWithCapacity(int capacity) {
+        return eventRepository.create(SUMMER_CAMP.toBuilder()
+                .capacity(Optional.of(capacity))
+                .build());
+    }
+
+    private List<EntityChange> relayAll() {
+        List<EntityChange> relayed = new ArrayList<>();
+        while (outboxRepository.relay(1000, relayed::addAll) > 0) {
+            // drain until empty
+        }
+        return relayed;
+    }
+
+    private Registration accountRegistration(Scout scout, Event event, String accountId, LocalDateTime date) {
+        return Registration.builder()
+                .scout(scout)
+                .event(event)
+                .note("")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(date)
+                .accountId(accountId)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ReportRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.CRAFT_WORKSHOP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Integration tests for ReportRepository implementation.
+ * The events are placed in a random far-future year, so that other data in the database does not show up
+ * in the reports.
+ */
+@SpringBootTest
+class DbReportRepositoryTest {
+
+    @Autowired
+    private ReportRepository repository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ScoutRepository scoutRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    private LocalDate from;
+    private LocalDate to;
+    private Group beavers;
+    private Group cubs;
+    private Event hike;
+    private Event camp;
+
+    @BeforeEach
+    void setUp() {
+        int year = ThreadLocalRandom.current().nextInt(3000, 8000);
+        from = LocalDate.of(year, 1, 1);
+        to = from.plusYears(1);
+
+        beavers = groupRepository.create(Group.builder().name("Beavers").build());
+        cubs = groupRepository.create(Group.builder().name("Cubs").build());
+        Scout john = scoutRepository.create(JOHN_DOE.toBuilder().groups(Set.of(beavers)).build());
+        Scout emma = scoutRepository.create(EMMA_SMITH.toBuilder().groups(Set.of(beavers, cubs)).build());
+
+        hike = eventRepository.create(inYear(HIKING_TRIP, year));
+        camp = eventRepository.create(inYear(SUMMER_CAMP, year));
+        Event lastYear = eventRepository.create(inYear(CRAFT_WORKSHOP, year - 1));
+        Event nextYear = eventRepository.create(inYear(CRAFT_WORKSHOP, year + 1));
+
+        registrationRepository.create(registration(john, hike, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(john, camp, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(john, lastYear, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(emma, camp, RegistrationStatus.CONFIRMED));
+        registrationRepository.create(registration(emma, hike, RegistrationStatus.CANCELLED));
+        registrationRepository.create(registration(emma, nextYear, RegistrationStatus.CONFIRMED));
+    }
+
+    /**
+     * Tests the participation of the groups.
+     * Verifies that:
+     * - Only confirmed registrations of events in the period are counted
+     * - A scout in two groups counts for both, ordered by event start date and group name
+     */
+    @Test
+    void findGroupParticipation() {
+        assertThat(repository.findGroupParticipation(from, to))
+                .filteredOn(participation -> Set.of(hike.getId(), camp.getId()).contains(participation.eventId()))
+                .extracting(GroupParticipation::eventId, GroupParticipation::groupId, GroupParticipation::participants)
+                .containsExactly(
+                        tuple(hike.getId(), beavers.getId(), 1L),
+                        tuple(camp.getId(), beavers.getId(), 2L),
+                        tuple(camp.getId(), cubs.getId(), 1L));
+    }
+
+    /**
+     * Tests the confirmation rates.
+     * Verifies that:
+     * - The counts of the events in the period are read by status
+     * - An event without registrations is listed with zero counts
+     */
+    @Test
+    void findConfirmationRates() {
+        Event empty = eventRepository.create(inYear(CRAFT_WORKSHOP, from.getYear()));
+
+        assertThat(repository.findConfirmationRates(from, to))
+                .filteredOn(rate -> Set.of(hike.getId(), camp.getId(), empty.getId()).contains(rate.eventId()))
+                .extracting(ConfirmationRate::eventId, ConfirmationRate::registrations, ConfirmationRate::confirmed,
+                        ConfirmationRate::cancelled)
+                .containsExactly(
+                        tuple(empty.getId(), 0L, 0L, 0L),
+                        tuple(hike.getId(), 2L, 1L, 1L),
+                        tuple(camp.getId(), 2L, 2L, 0L));
+    }
+
+    /**
+     * Tests the attendance frequencies.
+     * Verifies that:
+     * - Scouts are grouped by the number of events they attended in the period
+     * - Scouts that attended an event in the previous period are counted as returning
+     */
+    @Test
+    void findAttendanceFrequencies() {
+        assertThat(repository.findAttendanceFrequencies(from.minusYears(1), from, to)).containsExactly(
+                new RepeatAttendance.Frequency(1, 1, 0),
+                new RepeatAttendance.Frequency(2, 1, 1));
+    }
+
+    private static Event inYear(Event event, int year) {
+        return event.toBuilder()
+                .startDate(event.getStartDate().withYear(year))
+                .endDate(event.getEndDate().withYear(year))
+                .build();
+    }
+
+    private static Registration registration(Scout scout, Event event, RegistrationStatus status) {
+        return Registration.builder()
+                .scout(scout)
+                .event(event)
+                .note("")
+                .status(status)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build();
+    }
+}
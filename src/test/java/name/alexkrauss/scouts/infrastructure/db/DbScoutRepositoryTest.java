@@ -1,21 +1,36 @@
 package name.alexkrauss.scouts.infrastructure.db;
 
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
 import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
+import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Contact;
+import name.alexkrauss.scouts.domain.model.Event;
 import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
 import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
+import static name.alexkrauss.scouts.domain.model.EventsTestData.HIKING_TRIP;
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
 import static name.alexkrauss.scouts.domain.model.ScoutsTestData.EMMA_SMITH;
 import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.ScoutContacts.SCOUT_CONTACTS;
+import static name.alexkrauss.scouts.infrastructure.db.generated.tables.Scouts.SCOUTS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 class DbScoutRepositoryTest {
@@ -26,6 +41,15 @@ class DbScoutRepositoryTest {
     @Autowired
     private GroupRepository groupRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private DSLContext dsl;
+
     private Group testGroup1;
 
     @BeforeEach
@@ -120,4 +144,219 @@ class DbScoutRepositoryTest {
         assertThat(scoutAfterGroupDeletion.getGroups()).isEmpty();
     }
 
+    /**
+     * Tests finding the members of a group.
+     * Verifies that:
+     * - Only scouts in the group are returned, ordered by name
+     * - Each member carries all of its groups, not only the requested one
+     * - The summaries match the full scouts
+     */
+    @Test
+    void findByGroupId() {
+        Group otherGroup = groupRepository.create(Group.builder().name("Test Group 2").build());
+        Scout john = repository.create(JOHN_DOE.toBuilder().groups(Set.of(testGroup1, otherGroup)).build());
+        Scout emma = repository.create(EMMA_SMITH.toBuilder().groups(Set.of(testGroup1)).build());
+        Scout outsider = repository.create(JOHN_DOE.toBuilder().groups(Set.of(otherGroup)).build());
+
+        var members = repository.findByGroupId(testGroup1.getId());
+
+        assertThat(members).extracting(Scout::getId).containsExactly(emma.getId(), john.getId());
+        assertThat(members.get(1).getGroups())
+                .extracting(Group::getId)
+                .containsExactlyInAnyOrder(testGroup1.getId(), otherGroup.getId());
+
+        assertThat(repository.findSummariesByGroupId(testGroup1.getId()))
+                .containsExactly(
+                        new ScoutSummary(emma.getId(), 0, emma.getName(), emma.getBirthDate()),
+                        new ScoutSummary(john.getId(), 0, john.getName(), john.getBirthDate()));
+        assertThat(repository.findByGroupId(otherGroup.getId()))
+                .extracting(Scout::getId)
+                .containsExactlyInAnyOrder(john.getId(), outsider.getId());
+        assertThat(repository.findAllSummaries())
+                .contains(new ScoutSummary(john.getId(), 0, john.getName(), john.getBirthDate()));
+    }
+
+    /**
+     * Tests reading the group memberships of all scouts.
+     * Verifies that:
+     * - Each scout is listed with the ids of all of its groups
+     * - Scouts without groups are listed with no group ids
+     */
+    @Test
+    void findAllGroupIds() {
+        Group otherGroup = groupRepository.create(Group.builder().name("Test Group 2").build());
+        Scout john = repository.create(JOHN_DOE.toBuilder().groups(Set.of(testGroup1, otherGroup)).build());
+        Scout loner = repository.create(EMMA_SMITH.toBuilder().groups(Set.of()).build());
+
+        var groupIds = repository.findAllGroupIds();
+
+        assertThat(groupIds.get(john.getId())).containsExactlyInAnyOrder(testGroup1.getId(), otherGroup.getId());
+        assertThat(groupIds.get(loner.getId())).isEmpty();
+    }
+
+    /**
+     * Tests that the scouts of one load share their group instances.
+     * Verifies that:
+     * - Two scouts in the same group reference the very same Group object
+     * - The group set of a loaded scout cannot be modified
+     */
+    @Test
+    void loadedScoutsShareGroups() {
+        repository.create(JOHN_DOE.toBuilder().groups(Set.of(testGroup1)).build());
+        repository.create(EMMA_SMITH.toBuilder().groups(Set.of(testGroup1)).build());
+
+        var members = repository.findByGroupId(testGroup1.getId());
+
+        assertThat(members).hasSize(2);
+        Group first = members.get(0).getGroups().iterator().next();
+        Group second = members.get(1).getGroups().iterator().next();
+        assertThat(first).isSameAs(second);
+        assertThatThrownBy(() -> members.get(0).getGroups().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Tests the contacts written by instances that still use the scout_contacts table.
+     * Verifies that:
+     * - Contacts are read back in order from the JSON column
+     * - A write to scout_contacts takes precedence until the scout is saved again
+     * - Saving the scout moves its contacts back into the JSON column
+     */
+    @Test
+    void readsContactsOfOlderInstances() {
+        Scout saved = repository.create(JOHN_DOE);
+        assertThat(repository.findById(saved.getId()).orElseThrow().getContacts())
+                .containsExactlyElementsOf(JOHN_DOE.getContacts());
+
+        Contact legacyContact = new Contact("Jill Doe", "555-0199", "jill.doe@email.com", "aunt");
+        dsl.deleteFrom(SCOUT_CONTACTS)
+                .where(SCOUT_CONTACTS.SCOUT_ID.eq(saved.getId()))
+                .execute();
+        dsl.insertInto(SCOUT_CONTACTS)
+                .set(SCOUT_CONTACTS.SCOUT_ID, saved.getId())
+                .set(SCOUT_CONTACTS.CONTACT_ORDER, 0)
+                .set(SCOUT_CONTACTS.NAME, legacyContact.name())
+                .set(SCOUT_CONTACTS.PHONE_NUMBER, legacyContact.phoneNumber())
+                .set(SCOUT_CONTACTS.EMAIL, legacyContact.email())
+                .set(SCOUT_CONTACTS.RELATIONSHIP, legacyContact.relationship())
+                .execute();
+        assertThat(repository.findById(saved.getId()).orElseThrow().getContacts())
+                .containsExactly(legacyContact);
+
+        repository.update(saved);
+        assertThat(repository.findById(saved.getId()).orElseThrow().getContacts())
+                .containsExactlyElementsOf(JOHN_DOE.getContacts());
+    }
+
+    /**
+     * Tests that scout writes keep the scout_contacts table current for instances that still read it.
+     * Verifies that:
+     * - Create and update replace the rows of the scout in contact order
+     * - The contacts stay on the scout row, the trigger for older instances does not clear them
+     */
+    @Test
+    void writesContactsForOlderInstances() {
+        Scout saved = repository.create(JOHN_DOE);
+        assertThat(legacyContactNames(saved.getId()))
+                .containsExactlyElementsOf(JOHN_DOE.getContacts().stream().map(Contact::name).toList());
+
+        Contact aunt = new Contact("Jill Doe", "555-0199", "jill.doe@email.com", "aunt");
+        repository.update(saved.toBuilder().contacts(List.of(aunt)).build());
+
+        assertThat(legacyContactNames(saved.getId())).containsExactly(aunt.name());
+        assertThat(dsl.select(SCOUTS.CONTACTS)
+                .from(SCOUTS)
+                .where(SCOUTS.ID.eq(saved.getId()))
+                .fetchOne(SCOUTS.CONTACTS)).isNotNull();
+    }
+
+    /**
+     * Tests the lookup of scouts by the email address and phone number of a contact.
+     * Verifies that:
+     * - Case and surrounding spaces, tabs and line breaks of the address are ignored, also in scout_contacts
+     * - Only digits and plus signs of the phone number are compared
+     * - Contacts written to scout_contacts by older instances are found as well
+     * - The scouts are ordered by name
+     */
+    @Test
+    void findByContact() {
+        long unique = System.nanoTime() % 1_000_000_000L;
+        String email = "parent-" + unique + "@email.com";
+        String phoneNumber = "+49 (170) " + unique;
+        Contact parent = new Contact("Pat Parent", phoneNumber, email, "mother");
+        Scout john = repository.create(JOHN_DOE.toBuilder().contacts(List.of(parent)).build());
+        Scout emma = repository.create(EMMA_SMITH.toBuilder()
+                .contacts(List.of(EMMA_SMITH.getContacts().getFirst(), parent))
+                .build());
+        Scout legacy = repository.create(JOHN_DOE.toBuilder().name("Zoe Doe").contacts(List.of()).build());
+        dsl.insertInto(SCOUT_CONTACTS)
+                .set(SCOUT_CONTACTS.SCOUT_ID, legacy.getId())
+                .set(SCOUT_CONTACTS.CONTACT_ORDER, 0)
+                .set(SCOUT_CONTACTS.NAME, parent.name())
+                .set(SCOUT_CONTACTS.PHONE_NUMBER, "+49-170-" + unique)
+                .set(SCOUT_CONTACTS.EMAIL, "\t" + email.toUpperCase() + "\r\n")
+                .set(SCOUT_CONTACTS.RELATIONSHIP, parent.relationship())
+                .execute();
+
+        assertThat(repository.findByContactEmail("\t " + email.toUpperCase() + "\t"))
+                .extracting(Scout::getId)
+                .containsExactly(emma.getId(), john.getId(), legacy.getId());
+        assertThat(repository.findByContactPhone("+49170" + unique))
+                .extracting(Scout::getId)
+                .containsExactly(emma.getId(), john.getId(), legacy.getId());
+        assertThat(repository.findByContactEmail("nobody-" + unique + "@email.com")).isEmpty();
+    }
+
+    /**
+     * Tests merging a duplicate scout.
+     * Verifies that:
+     * - The kept scout joins the groups of the duplicate and gets a new version
+     * - Registrations for other events move to the kept scout with a new version
+     * - The registration of the duplicate for a shared event is deleted
+     */
+    @Test
+    void merge() {
+        Group otherGroup = groupRepository.create(Group.builder().name("Test Group 2").build());
+        Scout kept = repository.create(JOHN_DOE.toBuilder().groups(Set.of(testGroup1)).build());
+        Scout duplicate = repository.create(JOHN_DOE.toBuilder()
+                .name("Jon Doe")
+                .groups(Set.of(testGroup1, otherGroup))
+                .build());
+        Event camp = eventRepository.create(SUMMER_CAMP);
+        Event hike = eventRepository.create(HIKING_TRIP);
+        Registration keptRegistration = registrationRepository.create(registration(kept, camp));
+        Registration conflicting = registrationRepository.create(registration(duplicate, camp));
+        Registration moved = registrationRepository.create(registration(duplicate, hike));
+
+        assertThat(repository.merge(kept.getId(), duplicate.getId())).containsExactly(moved.getId());
+
+        Scout merged = repository.findById(kept.getId()).orElseThrow();
+        assertThat(merged.getVersion()).isEqualTo(1);
+        assertThat(merged.getGroups()).extracting(Group::getId)
+                .containsExactlyInAnyOrder(testGroup1.getId(), otherGroup.getId());
+        assertThat(repository.findById(duplicate.getId())).isEmpty();
+        assertThat(registrationRepository.findByScoutId(kept.getId()))
+                .extracting(Registration::getId, Registration::getVersion)
+                .containsExactlyInAnyOrder(tuple(keptRegistration.getId(), 0L), tuple(moved.getId(), 1L));
+        assertThat(registrationRepository.findById(conflicting.getId())).isEmpty();
+    }
+
+    private Registration registration(Scout scout, Event event) {
+        return Registration.builder()
+                .scout(scout)
+                .event(event)
+                .note("Test note")
+                .status(RegistrationStatus.PENDING)
+                .registrationDate(LocalDateTime.now())
+                .accountId("test-account")
+                .build();
+    }
+
+    private List<String> legacyContactNames(long scoutId) {
+        return dsl.select(SCOUT_CONTACTS.NAME)
+                .from(SCOUT_CONTACTS)
+                .where(SCOUT_CONTACTS.SCOUT_ID.eq(scoutId))
+                .orderBy(SCOUT_CONTACTS.CONTACT_ORDER)
+                .fetch(SCOUT_CONTACTS.NAME);
+    }
 }
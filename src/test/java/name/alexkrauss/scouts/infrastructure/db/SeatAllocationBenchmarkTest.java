@@ -0,0 +1,120 @@
+package name.alexkrauss.scouts.infrastructure.db;
+
+import lombok.extern.slf4j.Slf4j;
+import name.alexkrauss.scouts.application.ports.api.RegistrationManagementService;
+import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static name.alexkrauss.scouts.domain.model.EventsTestData.SUMMER_CAMP;
+import static name.alexkrauss.scouts.domain.model.ScoutsTestData.JOHN_DOE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention benchmark for seat allocation.
+ * 500 registrants try to confirm a registration for the same event at the same moment. The benchmark
+ * logs the throughput and checks that the event is filled exactly to its capacity.
+ *
+ * Run with {@code ./gradlew benchmark}; it is excluded from the regular test task.
+ */
+@Slf4j
+@SpringBootTest
+@Tag("benchmark")
+class SeatAllocationBenchmarkTest {
+
+    private static final int REGISTRANTS = 500;
+    private static final int CAPACITY = 120;
+
+    @Autowired
+    private RegistrationManagementService registrationService;
+
+    @Autowired
+    private ScoutRepository scoutRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    /**
+     * Confirms registrations from 500 concurrent callers.
+     * Verifies that:
+     * - Exactly as many registrations are confirmed as the event has seats
+     * - All other registrants are rejected as fully booked, none fail otherwise
+     * - The maintained counter agrees with the number of accepted registrations
+     */
+    @Test
+    void concurrentConfirmations() throws Exception {
+        Event event = eventRepository.create(SUMMER_CAMP.toBuilder()
+                .name("Benchmark Camp")
+                .capacity(Optional.of(CAPACITY))
+                .build());
+        List<Scout> scouts = new ArrayList<>();
+        for (int i = 0; i < REGISTRANTS; i++) {
+            scouts.add(scoutRepository.create(JOHN_DOE.toBuilder().name("Registrant " + i).build()));
+        }
+
+        AtomicInteger confirmed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Scout scout : scouts) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        registrationService.createRegistration(Registration.builder()
+                                .scout(scout)
+                                .event(event)
+                                .note("")
+                                .status(RegistrationStatus.CONFIRMED)
+                                .registrationDate(LocalDateTime.now())
+                                .accountId("benchmark")
+                                .build());
+                        confirmed.incrementAndGet();
+                    } catch (EventFullyBookedException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+            log.info("Seat allocation: {} registrants, {} confirmed, {} rejected in {} ms ({} registrations/s)",
+                    REGISTRANTS, confirmed.get(), rejected.get(), elapsed.toMillis(),
+                    Math.round(REGISTRANTS / (elapsed.toNanos() / 1e9)));
+        }
+
+        assertThat(confirmed.get()).isEqualTo(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(REGISTRANTS - CAPACITY);
+        assertThat(registrationService.getRegistrationCounts(event.getId()))
+                .containsEntry(RegistrationStatus.CONFIRMED, (long) CAPACITY);
+
+        eventRepository.delete(event.getId());
+        scouts.forEach(scout -> scoutRepository.delete(scout.getId()));
+    }
+}
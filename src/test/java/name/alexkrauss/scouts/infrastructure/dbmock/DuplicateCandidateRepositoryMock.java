@@ -0,0 +1,62 @@
+package name.alexkrauss.scouts.infrastructure.dbmock;
+
+import name.alexkrauss.scouts.application.ports.persistence.DuplicateCandidateRepository;
+import name.alexkrauss.scouts.application.service.MockResetAware;
+import name.alexkrauss.scouts.domain.model.DuplicateCandidate;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of DuplicateCandidateRepository for testing.
+ * Like the database, it reads the summaries of the scouts again and leaves out candidates of deleted scouts.
+ */
+@Repository
+@Profile("db-mock")
+@Primary
+public class DuplicateCandidateRepositoryMock implements DuplicateCandidateRepository, MockResetAware {
+
+    private static final Comparator<DuplicateCandidate> MOST_SIMILAR_FIRST = Comparator
+            .comparingDouble(DuplicateCandidate::similarity).reversed()
+            .thenComparingLong(candidate -> candidate.scout().id())
+            .thenComparingLong(candidate -> candidate.duplicate().id());
+
+    private final ScoutRepositoryMock scoutRepository;
+    private final List<DuplicateCandidate> candidates = new ArrayList<>();
+
+    public DuplicateCandidateRepositoryMock(ScoutRepositoryMock scoutRepository) {
+        this.scoutRepository = scoutRepository;
+    }
+
+    @Override
+    public synchronized void replaceAll(List<DuplicateCandidate> candidates) {
+        this.candidates.clear();
+        this.candidates.addAll(candidates);
+    }
+
+    @Override
+    public synchronized List<DuplicateCandidate> findAll() {
+        Map<Long, ScoutSummary> summaries = scoutRepository.findAllSummaries().stream()
+                .collect(Collectors.toMap(ScoutSummary::id, Function.identity()));
+        return candidates.stream()
+                .filter(candidate -> summaries.containsKey(candidate.scout().id())
+                        && summaries.containsKey(candidate.duplicate().id()))
+                .map(candidate -> new DuplicateCandidate(summaries.get(candidate.scout().id()),
+                        summaries.get(candidate.duplicate().id()), candidate.similarity()))
+                .sorted(MOST_SIMILAR_FIRST)
+                .toList();
+    }
+
+    @Override
+    public synchronized void reset() {
+        candidates.clear();
+    }
+}
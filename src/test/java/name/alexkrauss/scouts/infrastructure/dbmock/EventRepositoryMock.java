@@ -1,17 +1,26 @@
 package name.alexkrauss.scouts.infrastructure.dbmock;
 
 import name.alexkrauss.scouts.application.ports.persistence.EventRepository;
+import name.alexkrauss.scouts.application.ports.persistence.GroupRepository;
 import name.alexkrauss.scouts.application.service.MockResetAware;
 import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventSummary;
+import name.alexkrauss.scouts.domain.model.Group;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -26,6 +35,11 @@ public class EventRepositoryMock implements EventRepository, MockResetAware {
 
     private final Map<Long, Event> events = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final GroupRepository groupRepository;
+
+    public EventRepositoryMock(GroupRepository groupRepository) {
+        this.groupRepository = groupRepository;
+    }
 
     @Override
     public Event create(Event event) {
@@ -56,6 +70,42 @@ public class EventRepositoryMock implements EventRepository, MockResetAware {
         return updatedEvent;
     }
 
+    @Override
+    public boolean addGroup(long eventId, long groupId) {
+        return addGroups(eventId, List.of(groupId)) > 0;
+    }
+
+    @Override
+    public synchronized int addGroups(long eventId, Collection<Long> groupIds) {
+        Event event = events.get(eventId);
+        if (event == null) {
+            return 0;
+        }
+        Set<Group> groups = new HashSet<>(event.getParticipatingGroups());
+        int added = 0;
+        for (Long groupId : groupIds) {
+            Optional<Group> group = groupRepository.findById(groupId);
+            if (group.isPresent() && groups.stream().noneMatch(g -> g.getId().equals(groupId))) {
+                groups.add(group.get());
+                added++;
+            }
+        }
+        events.put(eventId, event.toBuilder().participatingGroups(groups).build());
+        return added;
+    }
+
+    @Override
+    public synchronized boolean removeGroup(long eventId, long groupId) {
+        Event event = events.get(eventId);
+        if (event == null) {
+            return false;
+        }
+        Set<Group> groups = new HashSet<>(event.getParticipatingGroups());
+        boolean removed = groups.removeIf(group -> group.getId() == groupId);
+        events.put(eventId, event.toBuilder().participatingGroups(groups).build());
+        return removed;
+    }
+
     @Override
     public void delete(long id) {
         events.remove(id);
@@ -66,18 +116,71 @@ public class EventRepositoryMock implements EventRepository, MockResetAware {
         return Optional.ofNullable(events.get(id));
     }
 
+    @Override
+    public List<Event> findAllByIds(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public List<Event> findAll() {
         return new ArrayList<>(events.values());
     }
 
     @Override
-    public List<Event> findEventsByGroupId(long groupId) {
+    public List<EventSummary> findAllSummaries(Set<EventSummary.Field> fields) {
+        return events.values().stream()
+                .sorted(Comparator.comparing(Event::getStartDate).thenComparing(Event::getId))
+                .map(event -> summarize(event, fields))
+                .toList();
+    }
+
+    @Override
+    public List<EventSummary> findByDateRange(LocalDate from, LocalDate to, Set<EventSummary.Field> fields) {
+        return events.values().stream()
+                .filter(event -> !event.getStartDate().isAfter(to) && !event.getEndDate().isBefore(from))
+                .sorted(Comparator.comparing(Event::getStartDate).thenComparing(Event::getId))
+                .map(event -> summarize(event, fields))
+                .toList();
+    }
+
+    @Override
+    public List<EventSummary> findUpcoming(int limit, Set<EventSummary.Field> fields) {
+        LocalDate today = LocalDate.now();
+        return events.values().stream()
+                .filter(event -> !event.getEndDate().isBefore(today))
+                .sorted(Comparator.comparing(Event::getStartDate).thenComparing(Event::getId))
+                .limit(limit)
+                .map(event -> summarize(event, fields))
+                .toList();
+    }
+
+    private static EventSummary summarize(Event event, Set<EventSummary.Field> fields) {
+        return new EventSummary(event.getId(), event.getVersion(),
+                fields.contains(EventSummary.Field.NAME) ? event.getName() : null,
+                fields.contains(EventSummary.Field.START_DATE) ? event.getStartDate() : null,
+                fields.contains(EventSummary.Field.END_DATE) ? event.getEndDate() : null,
+                fields.contains(EventSummary.Field.MEETING_POINT) ? event.getMeetingPoint() : null,
+                fields.contains(EventSummary.Field.LOCATION) ? event.getLocation() : null,
+                fields.contains(EventSummary.Field.COST) ? event.getCost() : null,
+                fields.contains(EventSummary.Field.CAPACITY) ? event.getCapacity() : Optional.empty(),
+                fields.contains(EventSummary.Field.PARTICIPATING_GROUP_IDS)
+                        ? event.getParticipatingGroups().stream().map(Group::getId).collect(Collectors.toSet())
+                        : Set.of());
+    }
+
+    @Override
+    public List<EventSummary> findEventsByGroupId(long groupId, Set<EventSummary.Field> fields) {
         // Get events that explicitly include this group
         return events.values().stream()
                 .filter(event -> event.getParticipatingGroups().stream()
                         .anyMatch(group -> group.getId() == groupId))
-                .collect(Collectors.toList());
+                .sorted(Comparator.comparing(Event::getStartDate).thenComparing(Event::getId))
+                .map(event -> summarize(event, fields))
+                .toList();
     }
 
     @Override
@@ -9,10 +9,14 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Repository
 @Profile("db-mock")
@@ -58,11 +62,33 @@ public class GroupRepositoryMock implements GroupRepository, MockResetAware {
         return Optional.ofNullable(groups.get(id));
     }
 
+    @Override
+    public List<Group> findAllByIds(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(groups::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public List<Group> findAll() {
         return new ArrayList<>(groups.values());
     }
 
+    @Override
+    public Optional<Long> findVersionById(long id) {
+        return findById(id).map(Group::getVersion);
+    }
+
+    @Override
+    public String versionFingerprint() {
+        return groups.values().stream()
+                .sorted(Comparator.comparing(Group::getId))
+                .map(group -> group.getId() + ":" + group.getVersion())
+                .collect(Collectors.joining(","));
+    }
+
     @Override
     public void reset() {
         groups.clear();
@@ -0,0 +1,44 @@
+package name.alexkrauss.scouts.infrastructure.dbmock;
+
+import name.alexkrauss.scouts.application.ports.changes.ChangeSink;
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.service.MockResetAware;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Change sink for testing, which keeps the delivered changes in memory.
+ * It can be told to fail, to simulate an unavailable consumer.
+ */
+@Component
+@Profile("db-mock")
+public class InMemoryChangeSink implements ChangeSink, MockResetAware {
+
+    private final List<EntityChange> delivered = new ArrayList<>();
+    private boolean failing;
+
+    @Override
+    public synchronized void deliver(List<EntityChange> changes) {
+        if (failing) {
+            throw new IllegalStateException("Change sink is unavailable");
+        }
+        delivered.addAll(changes);
+    }
+
+    public synchronized List<EntityChange> getDelivered() {
+        return List.copyOf(delivered);
+    }
+
+    public synchronized void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    @Override
+    public synchronized void reset() {
+        delivered.clear();
+        failing = false;
+    }
+}
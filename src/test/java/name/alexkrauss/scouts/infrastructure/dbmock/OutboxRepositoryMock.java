@@ -0,0 +1,77 @@
+package name.alexkrauss.scouts.infrastructure.dbmock;
+
+import name.alexkrauss.scouts.application.ports.changes.EntityChange;
+import name.alexkrauss.scouts.application.ports.persistence.OutboxRepository;
+import name.alexkrauss.scouts.application.service.MockResetAware;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory implementation of OutboxRepository for testing.
+ * The mocked repositories do not record their changes, so tests add them with {@link #append}.
+ */
+@Repository
+@Profile("db-mock")
+@Primary
+public class OutboxRepositoryMock implements OutboxRepository, MockResetAware {
+
+    private final List<EntityChange> changes = new ArrayList<>();
+    private final AtomicLong sequenceGenerator = new AtomicLong(1);
+
+    public synchronized EntityChange append(EntityChange.EntityType entityType,
+                                            EntityChange.ChangeType changeType,
+                                            long entityId,
+                                            Long version) {
+        return append(entityType, changeType, entityId, version, Instant.now());
+    }
+
+    public synchronized EntityChange append(EntityChange.EntityType entityType,
+                                            EntityChange.ChangeType changeType,
+                                            long entityId,
+                                            Long version,
+                                            Instant occurredAt) {
+        EntityChange change = new EntityChange(sequenceGenerator.getAndIncrement(), entityType, entityId,
+                Optional.ofNullable(version), changeType, occurredAt);
+        changes.add(change);
+        return change;
+    }
+
+    @Override
+    public synchronized int relay(int limit, Consumer<List<EntityChange>> handler) {
+        List<EntityChange> batch = List.copyOf(changes.subList(0, Math.min(limit, changes.size())));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        handler.accept(batch);
+        changes.subList(0, batch.size()).clear();
+        return batch.size();
+    }
+
+    @Override
+    public synchronized int prune(Instant before, int limit) {
+        List<EntityChange> pruned = changes.stream()
+                .filter(change -> change.occurredAt().isBefore(before))
+                .limit(limit)
+                .toList();
+        changes.removeAll(pruned);
+        return pruned.size();
+    }
+
+    public synchronized List<EntityChange> getChanges() {
+        return List.copyOf(changes);
+    }
+
+    @Override
+    public synchronized void reset() {
+        changes.clear();
+        sequenceGenerator.set(1);
+    }
+}
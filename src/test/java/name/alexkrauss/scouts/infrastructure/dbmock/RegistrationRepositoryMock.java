@@ -2,7 +2,16 @@ package name.alexkrauss.scouts.infrastructure.dbmock;
 
 import name.alexkrauss.scouts.application.ports.persistence.RegistrationRepository;
 import name.alexkrauss.scouts.application.service.MockResetAware;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.EventFullyBookedException;
+import name.alexkrauss.scouts.domain.model.Group;
 import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationRejection;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RegistrationSummary;
+import name.alexkrauss.scouts.domain.model.RegistrationUpdate;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -22,40 +31,187 @@ import java.util.stream.Collectors;
 public class RegistrationRepositoryMock implements RegistrationRepository, MockResetAware {
 
     private final Map<Long, Registration> registrations = new ConcurrentHashMap<>();
+    private final Map<Long, Long> waitlistPositions = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final AtomicLong waitlistSequence = new AtomicLong(1);
+    private volatile boolean truncateNextCreateAll;
+
+    private final ScoutRepositoryMock scoutRepository;
+    private final EventRepositoryMock eventRepository;
+
+    /**
+     * The scout repository is injected lazily, as it depends on this repository for merging scouts.
+     */
+    public RegistrationRepositoryMock(@Lazy ScoutRepositoryMock scoutRepository, EventRepositoryMock eventRepository) {
+        this.scoutRepository = scoutRepository;
+        this.eventRepository = eventRepository;
+    }
 
     @Override
-    public Registration create(Registration registration) {
+    public synchronized Registration create(Registration registration) {
+        checkCapacity(registration);
         Long id = idGenerator.getAndIncrement();
         Registration newRegistration = registration.toBuilder()
                 .id(id)
                 .version(0L)
                 .build();
         registrations.put(id, newRegistration);
+        updateWaitlistPosition(newRegistration);
         return newRegistration;
     }
 
+    /**
+     * Makes the next call of {@link #createAll} store all registrations but return the last one less,
+     * to test how callers cope with a failure after the write.
+     */
+    public void truncateNextCreateAll() {
+        truncateNextCreateAll = true;
+    }
+
     @Override
-    public Registration update(Registration registration) {
+    public synchronized List<Registration> createAll(List<Registration> registrations) {
+        Set<List<Long>> keys = new HashSet<>();
+        for (Registration registration : registrations) {
+            if (!keys.add(List.of(registration.getScout().getId(), registration.getEvent().getId()))) {
+                throw new IllegalArgumentException("Scout with id " + registration.getScout().getId()
+                        + " is registered for event with id " + registration.getEvent().getId() + " twice");
+            }
+        }
+        List<Registration> created = new ArrayList<>();
+        try {
+            for (Registration registration : registrations) {
+                created.add(create(registration));
+            }
+        } catch (RuntimeException e) {
+            created.forEach(registration -> delete(registration.getId()));
+            throw e;
+        }
+        if (truncateNextCreateAll) {
+            truncateNextCreateAll = false;
+            return created.subList(0, created.size() - 1);
+        }
+        return created;
+    }
+
+    @Override
+    public List<Optional<RegistrationRejection>> check(List<Registration> registrations) {
+        return registrations.stream()
+                .map(this::check)
+                .toList();
+    }
+
+    private Optional<RegistrationRejection> check(Registration registration) {
+        long scoutId = registration.getScout().getId();
+        long eventId = registration.getEvent().getId();
+        Optional<Scout> scout = scoutRepository.findById(scoutId);
+        if (scout.isEmpty()) {
+            return Optional.of(RegistrationRejection.SCOUT_NOT_FOUND);
+        }
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty()) {
+            return Optional.of(RegistrationRejection.EVENT_NOT_FOUND);
+        }
+        Set<Group> participating = event.get().getParticipatingGroups();
+        if (!participating.isEmpty() && scout.get().getGroups().stream().noneMatch(participating::contains)) {
+            return Optional.of(RegistrationRejection.NOT_ELIGIBLE);
+        }
+        return existsByEventIdAndScoutId(eventId, scoutId)
+                ? Optional.of(RegistrationRejection.ALREADY_REGISTERED)
+                : Optional.empty();
+    }
+
+    @Override
+    public synchronized RegistrationUpdate update(Registration registration) {
         Registration existingRegistration = registrations.get(registration.getId());
         if (existingRegistration == null) {
             throw new IllegalArgumentException("Registration not found with id: " + registration.getId());
         }
 
-        if (existingRegistration.getVersion() != registration.getVersion()) {
+        if (existingRegistration.getVersion() != registration.getVersion()
+                || !existingRegistration.getScout().getId().equals(registration.getScout().getId())
+                || !existingRegistration.getEvent().getId().equals(registration.getEvent().getId())) {
             throw new OptimisticLockingFailureException("Registration was updated by another transaction");
         }
 
+        if (existingRegistration.getStatus() != RegistrationStatus.CONFIRMED) {
+            checkCapacity(registration);
+        }
+
         Registration updatedRegistration = registration.toBuilder()
                 .version(registration.getVersion() + 1)
                 .build();
         registrations.put(updatedRegistration.getId(), updatedRegistration);
-        return updatedRegistration;
+        updateWaitlistPosition(updatedRegistration);
+        return new RegistrationUpdate(updatedRegistration, existingRegistration.getStatus());
+    }
+
+    @Override
+    public synchronized List<Long> updateStatus(long eventId, RegistrationStatus fromStatus,
+                                                RegistrationStatus toStatus) {
+        return updateStatus(findByEventId(eventId), fromStatus, toStatus);
+    }
+
+    @Override
+    public synchronized List<Long> updateStatus(long eventId, Collection<Long> ids,
+                                                RegistrationStatus fromStatus, RegistrationStatus toStatus) {
+        return updateStatus(findByEventId(eventId).stream()
+                .filter(registration -> ids.contains(registration.getId()))
+                .toList(), fromStatus, toStatus);
+    }
+
+    private List<Long> updateStatus(List<Registration> candidates, RegistrationStatus fromStatus,
+                                    RegistrationStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return List.of();
+        }
+        List<Registration> affected = candidates.stream()
+                .filter(registration -> registration.getStatus() == fromStatus)
+                .sorted(Comparator.comparing(Registration::getId))
+                .toList();
+        if (toStatus == RegistrationStatus.CONFIRMED && !affected.isEmpty()) {
+            long eventId = affected.getFirst().getEvent().getId();
+            Optional<Integer> capacity = affected.getFirst().getEvent().getCapacity();
+            if (capacity.isPresent()
+                    && countByEventId(eventId).get(RegistrationStatus.CONFIRMED) + affected.size() > capacity.get()) {
+                throw new EventFullyBookedException(eventId, null);
+            }
+        }
+
+        for (Registration registration : affected) {
+            Registration updated = registration.toBuilder()
+                    .status(toStatus)
+                    .version(registration.getVersion() + 1)
+                    .build();
+            registrations.put(updated.getId(), updated);
+            updateWaitlistPosition(updated);
+        }
+        return affected.stream().map(Registration::getId).toList();
     }
 
     @Override
     public void delete(long id) {
         registrations.remove(id);
+        waitlistPositions.remove(id);
+    }
+
+    /**
+     * Moves the registrations of a merged scout to the kept scout and drops those for events the kept
+     * scout is already registered for, like the merge of the database repository.
+     */
+    synchronized List<Long> moveToScout(long duplicateId, Scout scout) {
+        List<Long> moved = new ArrayList<>();
+        for (Registration registration : findByScoutId(duplicateId)) {
+            if (existsByEventIdAndScoutId(registration.getEvent().getId(), scout.getId())) {
+                delete(registration.getId());
+            } else {
+                registrations.put(registration.getId(), registration.toBuilder()
+                        .scout(scout)
+                        .version(registration.getVersion() + 1)
+                        .build());
+                moved.add(registration.getId());
+            }
+        }
+        return moved;
     }
 
     @Override
@@ -63,6 +219,20 @@ public class RegistrationRepositoryMock implements RegistrationRepository, MockR
         return Optional.ofNullable(registrations.get(id));
     }
 
+    @Override
+    public Optional<Long> findEventIdById(long id) {
+        return findById(id).map(registration -> registration.getEvent().getId());
+    }
+
+    @Override
+    public List<Registration> findAllByIds(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(registrations::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public List<Registration> findByEventId(long eventId) {
         return registrations.values().stream()
@@ -78,6 +248,33 @@ public class RegistrationRepositoryMock implements RegistrationRepository, MockR
     }
     
     @Override
+    public List<RegistrationSummary> findByAccountId(String accountId, RegistrationSummary.Cursor after, int limit) {
+        Comparator<RegistrationSummary> newestFirst = Comparator
+                .comparing(RegistrationSummary::registrationDate)
+                .thenComparingLong(RegistrationSummary::id)
+                .reversed();
+        return registrations.values().stream()
+                .filter(registration -> registration.getAccountId().equals(accountId))
+                .filter(registration -> after == null || isBefore(registration, after))
+                .map(RegistrationRepositoryMock::summarize)
+                .sorted(newestFirst)
+                .limit(limit)
+                .toList();
+    }
+
+    private static RegistrationSummary summarize(Registration registration) {
+        return new RegistrationSummary(registration.getId(), registration.getVersion(),
+                registration.getScout().getId(), registration.getScout().getName(),
+                registration.getEvent().getId(), registration.getEvent().getName(),
+                registration.getEvent().getStartDate(), registration.getStatus(), registration.getRegistrationDate());
+    }
+
+    private static boolean isBefore(Registration registration, RegistrationSummary.Cursor cursor) {
+        int byDate = registration.getRegistrationDate().compareTo(cursor.registrationDate());
+        return byDate < 0 || byDate == 0 && registration.getId() < cursor.id();
+    }
+
+        @Override
     public boolean existsByEventIdAndScoutId(long eventId, long scoutId) {
         return registrations.values().stream()
                 .anyMatch(registration -> 
@@ -85,9 +282,68 @@ public class RegistrationRepositoryMock implements RegistrationRepository, MockR
                     registration.getScout().getId() == scoutId);
     }
 
+    @Override
+    public Map<RegistrationStatus, Long> countByEventId(long eventId) {
+        Map<RegistrationStatus, Long> counts = new EnumMap<>(RegistrationStatus.class);
+        for (RegistrationStatus status : RegistrationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        findByEventId(eventId).forEach(registration -> counts.merge(registration.getStatus(), 1L, Long::sum));
+        return counts;
+    }
+
+    @Override
+    public synchronized List<Long> promoteFromWaitlist(long eventId, int seats) {
+        List<Registration> waiting = findByEventId(eventId).stream()
+                .filter(registration -> registration.getStatus() == RegistrationStatus.WAITLISTED)
+                .sorted(Comparator.comparing(registration -> waitlistPositions.get(registration.getId())))
+                .toList();
+
+        List<Long> promotedIds = new ArrayList<>();
+        for (Registration nextInLine : waiting) {
+            if (promotedIds.size() == seats) {
+                break;
+            }
+            Registration promoted = nextInLine.toBuilder()
+                    .status(RegistrationStatus.CONFIRMED)
+                    .build();
+            try {
+                checkCapacity(promoted);
+            } catch (EventFullyBookedException e) {
+                break;
+            }
+            registrations.put(promoted.getId(), promoted.toBuilder().version(promoted.getVersion() + 1).build());
+            waitlistPositions.remove(promoted.getId());
+            promotedIds.add(promoted.getId());
+        }
+        return promotedIds;
+    }
+
+    private void updateWaitlistPosition(Registration registration) {
+        if (registration.getStatus() == RegistrationStatus.WAITLISTED) {
+            waitlistPositions.computeIfAbsent(registration.getId(), id -> waitlistSequence.getAndIncrement());
+        } else {
+            waitlistPositions.remove(registration.getId());
+        }
+    }
+
+    private void checkCapacity(Registration registration) {
+        if (registration.getStatus() != RegistrationStatus.CONFIRMED) {
+            return;
+        }
+        long eventId = registration.getEvent().getId();
+        Optional<Integer> capacity = registration.getEvent().getCapacity();
+        if (capacity.isPresent() && countByEventId(eventId).get(RegistrationStatus.CONFIRMED) >= capacity.get()) {
+            throw new EventFullyBookedException(eventId, null);
+        }
+    }
+
     @Override
     public void reset() {
         registrations.clear();
+        waitlistPositions.clear();
         idGenerator.set(1);
+        waitlistSequence.set(1);
+        truncateNextCreateAll = false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package name.alexkrauss.scouts.infrastructure.dbmock;
+
+import name.alexkrauss.scouts.application.ports.persistence.ReportRepository;
+import name.alexkrauss.scouts.domain.model.ConfirmationRate;
+import name.alexkrauss.scouts.domain.model.Event;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.domain.model.GroupParticipation;
+import name.alexkrauss.scouts.domain.model.Registration;
+import name.alexkrauss.scouts.domain.model.RegistrationStatus;
+import name.alexkrauss.scouts.domain.model.RepeatAttendance;
+import name.alexkrauss.scouts.domain.model.Scout;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory implementation of ReportRepository for testing, aggregating the data of the other mocks.
+ */
+@Repository
+@Profile("db-mock")
+@Primary
+public class ReportRepositoryMock implements ReportRepository {
+
+    private final EventRepositoryMock eventRepository;
+    private final RegistrationRepositoryMock registrationRepository;
+    private final ScoutRepositoryMock scoutRepository;
+
+    public ReportRepositoryMock(EventRepositoryMock eventRepository,
+                                RegistrationRepositoryMock registrationRepository,
+                                ScoutRepositoryMock scoutRepository) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.scoutRepository = scoutRepository;
+    }
+
+    @Override
+    public List<GroupParticipation> findGroupParticipation(LocalDate from, LocalDate to) {
+        List<GroupParticipation> result = new ArrayList<>();
+        for (Event event : eventsStartingBetween(from, to)) {
+            Map<Group, Set<Long>> participantsByGroup = new HashMap<>();
+            for (Registration registration : confirmedRegistrations(event)) {
+                scoutRepository.findById(registration.getScout().getId()).map(Scout::getGroups).orElse(Set.of())
+                        .forEach(group -> participantsByGroup.computeIfAbsent(group, g -> new HashSet<>())
+                                .add(registration.getScout().getId()));
+            }
+            participantsByGroup.entrySet().stream()
+                    .sorted(Comparator.comparing((Map.Entry<Group, Set<Long>> entry) -> entry.getKey().getName())
+                            .thenComparing(entry -> entry.getKey().getId()))
+                    .forEach(entry -> result.add(new GroupParticipation(event.getId(), event.getName(),
+                            event.getStartDate(), entry.getKey().getId(), entry.getKey().getName(),
+                            entry.getValue().size())));
+        }
+        return result;
+    }
+
+    @Override
+    public List<ConfirmationRate> findConfirmationRates(LocalDate from, LocalDate to) {
+        return eventsStartingBetween(from, to).stream()
+                .map(event -> {
+                    Map<RegistrationStatus, Long> counts = registrationRepository.countByEventId(event.getId());
+                    long registrations = counts.values().stream().mapToLong(Long::longValue).sum();
+                    return new ConfirmationRate(event.getId(), event.getName(), event.getStartDate(), registrations,
+                            counts.get(RegistrationStatus.CONFIRMED), counts.get(RegistrationStatus.CANCELLED));
+                })
+                .toList();
+    }
+
+    @Override
+    public List<RepeatAttendance.Frequency> findAttendanceFrequencies(LocalDate previousFrom, LocalDate from,
+                                                                      LocalDate to) {
+        Map<Long, Set<Long>> eventsByScout = new HashMap<>();
+        Set<Long> returning = new HashSet<>();
+        for (Event event : eventsStartingBetween(previousFrom, to)) {
+            boolean previous = event.getStartDate().isBefore(from);
+            for (Registration registration : confirmedRegistrations(event)) {
+                long scoutId = registration.getScout().getId();
+                if (previous) {
+                    returning.add(scoutId);
+                } else {
+                    eventsByScout.computeIfAbsent(scoutId, id -> new HashSet<>()).add(event.getId());
+                }
+            }
+        }
+
+        Map<Long, long[]> frequencies = new TreeMap<>();
+        eventsByScout.forEach((scoutId, events) -> {
+            long[] counts = frequencies.computeIfAbsent((long) events.size(), size -> new long[2]);
+            counts[0]++;
+            if (returning.contains(scoutId)) {
+                counts[1]++;
+            }
+        });
+        return frequencies.entrySet().stream()
+                .map(entry -> new RepeatAttendance.Frequency(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    private List<Event> eventsStartingBetween(LocalDate from, LocalDate to) {
+        return eventRepository.findAll().stream()
+                .filter(event -> !event.getStartDate().isBefore(from) && event.getStartDate().isBefore(to))
+                .sorted(Comparator.comparing(Event::getStartDate).thenComparing(Event::getId))
+                .toList();
+    }
+
+    private List<Registration> confirmedRegistrations(Event event) {
+        return registrationRepository.findByEventId(event.getId()).stream()
+                .filter(registration -> registration.getStatus() == RegistrationStatus.CONFIRMED)
+                .toList();
+    }
+}
@@ -2,18 +2,27 @@ package name.alexkrauss.scouts.infrastructure.dbmock;
 
 import name.alexkrauss.scouts.application.ports.persistence.ScoutRepository;
 import name.alexkrauss.scouts.application.service.MockResetAware;
+import name.alexkrauss.scouts.domain.model.Contact;
+import name.alexkrauss.scouts.domain.model.Group;
 import name.alexkrauss.scouts.domain.model.Scout;
+import name.alexkrauss.scouts.domain.model.ScoutSummary;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +36,12 @@ public class ScoutRepositoryMock implements ScoutRepository, MockResetAware {
     private final Map<Long, Scout> scouts = new ConcurrentHashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
 
+    private final RegistrationRepositoryMock registrationRepository;
+
+    public ScoutRepositoryMock(RegistrationRepositoryMock registrationRepository) {
+        this.registrationRepository = registrationRepository;
+    }
+
     @Override
     public Scout create(Scout scout) {
         Long id = idGenerator.getAndIncrement();
@@ -61,11 +76,41 @@ public class ScoutRepositoryMock implements ScoutRepository, MockResetAware {
         scouts.remove(id);
     }
 
+    @Override
+    public synchronized List<Long> merge(long scoutId, long duplicateId) {
+        Scout scout = scouts.get(scoutId);
+        if (scout == null) {
+            throw new OptimisticLockingFailureException("Scout was deleted by another transaction");
+        }
+        Set<Group> groups = new HashSet<>(scout.getGroups());
+        Optional.ofNullable(scouts.get(duplicateId)).ifPresent(duplicate -> groups.addAll(duplicate.getGroups()));
+        Scout merged = scout.toBuilder()
+                .groups(groups)
+                .version(scout.getVersion() + 1)
+                .build();
+        scouts.put(scoutId, merged);
+
+        List<Long> moved = registrationRepository.moveToScout(duplicateId, merged);
+        registrationRepository.findByScoutId(duplicateId).forEach(registration ->
+                registrationRepository.delete(registration.getId()));
+        delete(duplicateId);
+        return moved;
+    }
+
     @Override
     public Optional<Scout> findById(Long id) {
         return Optional.ofNullable(scouts.get(id));
     }
 
+    @Override
+    public List<Scout> findAllByIds(Collection<Long> ids) {
+        return ids.stream()
+                .distinct()
+                .map(scouts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public List<Scout> findAll() {
         return new ArrayList<>(scouts.values());
@@ -78,6 +123,59 @@ public class ScoutRepositoryMock implements ScoutRepository, MockResetAware {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Scout> findByContactEmail(String email) {
+        String normalized = Contact.normalizeEmail(email);
+        return findByContact(contact -> Contact.normalizeEmail(contact.email()).equals(normalized));
+    }
+
+    @Override
+    public List<Scout> findByContactPhone(String phoneNumber) {
+        String normalized = Contact.normalizePhoneNumber(phoneNumber);
+        return findByContact(contact -> Contact.normalizePhoneNumber(contact.phoneNumber()).equals(normalized));
+    }
+
+    private List<Scout> findByContact(Predicate<Contact> matches) {
+        return scouts.values().stream()
+                .filter(scout -> scout.getContacts().stream().anyMatch(matches))
+                .sorted(Comparator.comparing(Scout::getName).thenComparing(Scout::getId))
+                .toList();
+    }
+
+    @Override
+    public List<Scout> findByGroupId(long groupId) {
+        return scouts.values().stream()
+                .filter(scout -> scout.getGroups().stream().anyMatch(group -> group.getId() == groupId))
+                .sorted(Comparator.comparing(Scout::getName).thenComparing(Scout::getId))
+                .toList();
+    }
+
+    @Override
+    public List<ScoutSummary> findSummariesByGroupId(long groupId) {
+        return findByGroupId(groupId).stream()
+                .map(ScoutRepositoryMock::summarize)
+                .toList();
+    }
+
+    @Override
+    public List<ScoutSummary> findAllSummaries() {
+        return scouts.values().stream()
+                .sorted(Comparator.comparing(Scout::getName).thenComparing(Scout::getId))
+                .map(ScoutRepositoryMock::summarize)
+                .toList();
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findAllGroupIds() {
+        return scouts.values().stream()
+                .collect(Collectors.toMap(Scout::getId,
+                        scout -> scout.getGroups().stream().map(Group::getId).collect(Collectors.toSet())));
+    }
+
+    private static ScoutSummary summarize(Scout scout) {
+        return new ScoutSummary(scout.getId(), scout.getVersion(), scout.getName(), scout.getBirthDate());
+    }
+
     @Override
     public void reset() {
         scouts.clear();
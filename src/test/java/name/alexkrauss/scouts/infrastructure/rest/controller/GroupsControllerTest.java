@@ -0,0 +1,129 @@
+package name.alexkrauss.scouts.infrastructure.rest.controller;
+
+import name.alexkrauss.scouts.application.ports.api.GroupManagementService;
+import name.alexkrauss.scouts.application.ports.api.ScoutManagementService;
+import name.alexkrauss.scouts.application.service.MockedDbTestConfiguration;
+import name.alexkrauss.scouts.domain.model.Group;
+import name.alexkrauss.scouts.infrastructure.rest.model.GroupRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the conditional updates of the GroupsController.
+ * These tests call the controller directly and verify how the If-Match header is evaluated.
+ */
+@SpringBootTest
+@ActiveProfiles("db-mock")
+@ContextConfiguration(classes = MockedDbTestConfiguration.class)
+@TestExecutionListeners(
+        listeners = MockedDbTestConfiguration.DbMockResetTestExecutionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS
+)
+public class GroupsControllerTest {
+
+    @Autowired
+    private GroupManagementService groupService;
+
+    @Autowired
+    private ScoutManagementService scoutService;
+
+    private GroupsController controller;
+    private Group beavers;
+
+    @BeforeEach
+    void setUp() {
+        controller = new GroupsController(groupService, scoutService);
+        beavers = groupService.createGroup(Group.builder().name("Beavers").build());
+    }
+
+    /**
+     * Tests an update with a single tag.
+     * Verifies that:
+     * - The current tag applies the update and returns the tag of the new version
+     * - The tag that is stale afterwards is rejected with 412
+     * - A missing header is rejected with 428
+     */
+    @Test
+    void updateWithSingleTag() {
+        var response = controller.updateGroup(beavers.getId(), request("Beaver Colony"), tag(beavers.getId(), 0));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(tag(beavers.getId(), 1));
+
+        var stale = controller.updateGroup(beavers.getId(), request("Beavers"), tag(beavers.getId(), 0));
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        var missing = controller.updateGroup(beavers.getId(), request("Beavers"), null);
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED);
+    }
+
+    /**
+     * Tests an update with a comma-separated list of tags.
+     * Verifies that:
+     * - The tag of this group is found among tags of other resources
+     * - Of several versions of this group, the current one is updated
+     * - A list without a current tag is rejected with 412
+     * - Weak tags never match, as If-Match requires strong comparison
+     */
+    @Test
+    void updateWithTagList() {
+        long id = beavers.getId();
+
+        var response = controller.updateGroup(id, request("Beaver Colony"),
+                "\"group-999-0\", " + tag(id, 0) + ",\"event-" + id + "-0\"");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(groupService.getGroup(id).orElseThrow().getName()).isEqualTo("Beaver Colony");
+
+        var severalVersions = controller.updateGroup(id, request("Beavers"), tag(id, 0) + ", " + tag(id, 1));
+        assertThat(severalVersions.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(severalVersions.getHeaders().getETag()).isEqualTo(tag(id, 2));
+
+        var stale = controller.updateGroup(id, request("Beavers"), tag(id, 0) + ", " + tag(id, 1));
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        var weak = controller.updateGroup(id, request("Beavers"), "W/" + tag(id, 2));
+        assertThat(weak.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(groupService.getGroupVersion(id)).contains(2L);
+    }
+
+    /**
+     * Tests an update with the wildcard tag.
+     * Verifies that:
+     * - {@code *} updates the group in whatever version it is
+     * - {@code *} is found within a list of tags
+     * - {@code *} is rejected with 412 if the group does not exist
+     */
+    @Test
+    void updateWithWildcard() {
+        long id = beavers.getId();
+        groupService.updateGroup(beavers.toBuilder().name("Beaver Colony").build());
+
+        var response = controller.updateGroup(id, request("Beavers"), "*");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(tag(id, 2));
+
+        var inList = controller.updateGroup(id, request("Beaver Lodge"), tag(id, 0) + ", *");
+        assertThat(inList.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(groupService.getGroup(id).orElseThrow().getName()).isEqualTo("Beaver Lodge");
+
+        var missing = controller.updateGroup(999L, request("Beavers"), "*");
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    private static GroupRequest request(String name) {
+        var request = new GroupRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private static String tag(long id, long version) {
+        return "\"group-" + id + "-" + version + "\"";
+    }
+}